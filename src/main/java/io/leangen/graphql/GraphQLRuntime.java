@@ -7,9 +7,13 @@ import graphql.GraphQLContext;
 import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
 import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLMutableInput;
 import io.leangen.graphql.execution.ContextWrapper;
+import io.leangen.graphql.execution.IncrementalDelivery;
+import io.leangen.graphql.execution.InputValueMemo;
 import io.leangen.graphql.execution.complexity.ComplexityAnalysisInstrumentation;
 import io.leangen.graphql.execution.complexity.JavaScriptEvaluator;
+import org.reactivestreams.Publisher;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,11 +25,13 @@ import java.util.concurrent.CompletableFuture;
 public class GraphQLRuntime extends GraphQL {
 
     private final GraphQL delegate;
+    private final boolean memoizeInputValues;
 
     @SuppressWarnings("deprecation")
-    private GraphQLRuntime(GraphQL delegate, GraphQLSchema schema) {
+    private GraphQLRuntime(GraphQL delegate, GraphQLSchema schema, boolean memoizeInputValues) {
         super(schema);
         this.delegate = delegate;
+        this.memoizeInputValues = memoizeInputValues;
     }
 
     @Override
@@ -33,10 +39,30 @@ public class GraphQLRuntime extends GraphQL {
         return delegate.executeAsync(wrapContext(executionInput));
     }
 
+    /**
+     * Executes the operation with support for incremental delivery. The initial result is followed by the results
+     * of the fields marked with {@code @defer} and by the remaining items of the lists marked with {@code @stream}.
+     * The directives must be enabled via {@link GraphQLSchemaGenerator#withIncrementalDelivery()}.
+     *
+     * @param executionInput The operation to execute
+     *
+     * @return All the parts of the result, in the order of delivery
+     */
+    public Publisher<ExecutionResult> executeIncrementally(ExecutionInput executionInput) {
+        ExecutionInput input = wrapContext(executionInput);
+        IncrementalDelivery delivery = new IncrementalDelivery();
+        delivery.attachTo(input.getContext());
+        return delivery.deliver(delegate.executeAsync(input));
+    }
+
     private ExecutionInput wrapContext(ExecutionInput executionInput) {
-        return executionInput.getContext() instanceof GraphQLContext
+        ExecutionInput input = executionInput.getContext() instanceof GraphQLContext
                     ? executionInput //The default context is good enough, no need to wrap it
                     : executionInput.transform(builder -> builder.context(new ContextWrapper(executionInput.getContext())));
+        if (memoizeInputValues) {
+            new InputValueMemo().attachTo(input.getContext());
+        }
+        return input;
     }
 
     public static Builder newGraphQL(GraphQLSchema graphQLSchema) {
@@ -47,6 +73,7 @@ public class GraphQLRuntime extends GraphQL {
 
         private GraphQLSchema graphQLSchema;
         private List<Instrumentation> instrumentations;
+        private boolean memoizeInputValues;
 
         private Builder(GraphQLSchema graphQLSchema) {
             super(graphQLSchema);
@@ -65,6 +92,20 @@ public class GraphQLRuntime extends GraphQL {
             return this;
         }
 
+        /**
+         * Memoizes the deserialized argument values within each request, so that an input object (typically a variable)
+         * passed to a field resolved once per element of a list only gets deserialized once.
+         * Arguments whose values might be modified by the resolvers must be marked with {@link GraphQLMutableInput}.
+         *
+         * @return This builder instance, to allow method chaining
+         *
+         * @see InputValueMemo
+         */
+        public Builder memoizeInputValues() {
+            this.memoizeInputValues = true;
+            return this;
+        }
+
         @Override
         public GraphQLRuntime build() {
             if (instrumentations.size() == 1) {
@@ -72,7 +113,7 @@ public class GraphQLRuntime extends GraphQL {
             } else if (!instrumentations.isEmpty()) {
                 super.instrumentation(new ChainedInstrumentation(instrumentations));
             }
-            return new GraphQLRuntime(super.build(), graphQLSchema);
+            return new GraphQLRuntime(super.build(), graphQLSchema, memoizeInputValues);
         }
     }
 }
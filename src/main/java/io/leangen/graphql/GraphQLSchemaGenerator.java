@@ -1,5 +1,6 @@
 package io.leangen.graphql;
 
+import graphql.Directives;
 import graphql.relay.Relay;
 import graphql.schema.DataFetcher;
 import graphql.schema.FieldCoordinates;
@@ -20,10 +21,16 @@ import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeFactory;
 import io.leangen.graphql.annotations.GraphQLNonNull;
 import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.execution.IncrementalDelivery;
 import io.leangen.graphql.execution.ResolverInterceptor;
 import io.leangen.graphql.execution.ResolverInterceptorFactory;
 import io.leangen.graphql.execution.ResolverInterceptorFactoryParams;
+import io.leangen.graphql.execution.SubscriptionDeliveryMetrics;
+import io.leangen.graphql.execution.SubscriptionHub;
+import io.leangen.graphql.execution.relay.DefaultGlobalIdCodec;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
 import io.leangen.graphql.generator.BuildContext;
+import io.leangen.graphql.generator.GenerationProfiler;
 import io.leangen.graphql.generator.InputFieldBuilderRegistry;
 import io.leangen.graphql.generator.JavaDeprecationMappingConfig;
 import io.leangen.graphql.generator.OperationMapper;
@@ -31,6 +38,7 @@ import io.leangen.graphql.generator.OperationRegistry;
 import io.leangen.graphql.generator.OperationSource;
 import io.leangen.graphql.generator.OperationSourceRegistry;
 import io.leangen.graphql.generator.RelayMappingConfig;
+import io.leangen.graphql.generator.SharedComponents;
 import io.leangen.graphql.generator.TypeRegistry;
 import io.leangen.graphql.generator.mapping.AbstractTypeAdapter;
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
@@ -73,6 +81,7 @@ import io.leangen.graphql.generator.mapping.common.VoidToBooleanTypeAdapter;
 import io.leangen.graphql.generator.mapping.core.CompletableFutureAdapter;
 import io.leangen.graphql.generator.mapping.core.DataFetcherResultMapper;
 import io.leangen.graphql.generator.mapping.core.PublisherAdapter;
+import io.leangen.graphql.generator.mapping.core.PublisherCollectionConfig;
 import io.leangen.graphql.generator.mapping.strategy.AbstractInputHandler;
 import io.leangen.graphql.generator.mapping.strategy.AnnotatedInterfaceStrategy;
 import io.leangen.graphql.generator.mapping.strategy.AutoScanAbstractInputHandler;
@@ -80,6 +89,7 @@ import io.leangen.graphql.generator.mapping.strategy.DefaultImplementationDiscov
 import io.leangen.graphql.generator.mapping.strategy.ImplementationDiscoveryStrategy;
 import io.leangen.graphql.generator.mapping.strategy.InterfaceMappingStrategy;
 import io.leangen.graphql.generator.mapping.strategy.NoOpAbstractInputHandler;
+import io.leangen.graphql.metadata.Resolver;
 import io.leangen.graphql.metadata.exceptions.TypeMappingException;
 import io.leangen.graphql.metadata.messages.DelegatingMessageBundle;
 import io.leangen.graphql.metadata.messages.MessageBundle;
@@ -92,11 +102,13 @@ import io.leangen.graphql.metadata.strategy.query.DefaultOperationBuilder;
 import io.leangen.graphql.metadata.strategy.query.DirectiveBuilder;
 import io.leangen.graphql.metadata.strategy.query.OperationBuilder;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.ResolverBuilderParams;
 import io.leangen.graphql.metadata.strategy.type.DefaultTypeInfoGenerator;
 import io.leangen.graphql.metadata.strategy.type.DefaultTypeTransformer;
 import io.leangen.graphql.metadata.strategy.type.TypeInfoGenerator;
 import io.leangen.graphql.metadata.strategy.type.TypeTransformer;
 import io.leangen.graphql.metadata.strategy.value.AnnotationInputFieldBuilder;
+import io.leangen.graphql.metadata.strategy.value.InputBinderRegistry;
 import io.leangen.graphql.metadata.strategy.value.InputFieldBuilder;
 import io.leangen.graphql.metadata.strategy.value.ScalarDeserializationStrategy;
 import io.leangen.graphql.metadata.strategy.value.ValueMapper;
@@ -107,6 +119,8 @@ import io.leangen.graphql.util.Defaults;
 import io.leangen.graphql.util.GraphQLUtils;
 import io.leangen.graphql.util.Urls;
 import io.leangen.graphql.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
@@ -119,8 +133,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static graphql.schema.GraphQLObjectType.newObject;
@@ -168,6 +186,8 @@ import static java.util.Collections.addAll;
 @SuppressWarnings({"WeakerAccess", "rawtypes"})
 public class GraphQLSchemaGenerator {
 
+    private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaGenerator.class);
+
     private InterfaceMappingStrategy interfaceStrategy = new AnnotatedInterfaceStrategy();
     private ScalarDeserializationStrategy scalarStrategy;
     private AbstractInputHandler abstractInputHandler = new NoOpAbstractInputHandler();
@@ -177,6 +197,7 @@ public class GraphQLSchemaGenerator {
     private InclusionStrategy inclusionStrategy;
     private ImplementationDiscoveryStrategy implDiscoveryStrategy = new DefaultImplementationDiscoveryStrategy();
     private TypeInfoGenerator typeInfoGenerator = new DefaultTypeInfoGenerator();
+    private GlobalIdCodec globalIdCodec = new DefaultGlobalIdCodec();
     private TypeTransformer typeTransformer = new DefaultTypeTransformer(false, false);
     private GlobalEnvironment environment;
     private String[] basePackages = Utils.emptyArray();
@@ -187,6 +208,16 @@ public class GraphQLSchemaGenerator {
     private List<InputFieldBuilder> inputFieldBuilders;
     private ResolverInterceptorFactory interceptorFactory;
     private JavaDeprecationMappingConfig javaDeprecationConfig = new JavaDeprecationMappingConfig(true, "Deprecated");
+    private PublisherCollectionConfig publisherCollectionConfig = PublisherCollectionConfig.UNBOUNDED;
+    private SubscriptionHub subscriptionHub;
+    private SubscriptionDeliveryMetrics subscriptionDeliveryMetrics = new SubscriptionDeliveryMetrics();
+    private ScheduledExecutorService subscriptionDeliveryScheduler;
+    private ForkJoinPool resolverBuildingPool;
+    private SharedComponents sharedComponents;
+    private GenerationProfiler profiler = GenerationProfiler.NONE;
+    private boolean directInputBinding;
+    private UnaryOperator<Collection<ResolverBuilder>> topLevelResolverBuilderDecorator;
+    private UnaryOperator<Collection<ResolverBuilder>> nestedResolverBuilderDecorator;
     private final OperationSourceRegistry operationSourceRegistry = new OperationSourceRegistry();
     private final List<ExtensionProvider<GeneratorConfiguration, TypeMapper>> typeMapperProviders = new ArrayList<>();
     private final List<ExtensionProvider<GeneratorConfiguration, SchemaTransformer>> schemaTransformerProviders = new ArrayList<>();
@@ -494,6 +525,19 @@ public class GraphQLSchemaGenerator {
         return this;
     }
 
+    /**
+     * Sets the codec used to encode and decode Relay global IDs (of the fields and arguments annotated with
+     * {@code @GraphQLId(relayId = true)} and of the {@code node} query)
+     *
+     * @param globalIdCodec The codec to use
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withGlobalIdCodec(GlobalIdCodec globalIdCodec) {
+        this.globalIdCodec = Objects.requireNonNull(globalIdCodec);
+        return this;
+    }
+
     public GraphQLSchemaGenerator withValueMapperFactory(ValueMapperFactory valueMapperFactory) {
         this.valueMapperFactory = valueMapperFactory;
         return this;
@@ -823,6 +867,148 @@ public class GraphQLSchemaGenerator {
         return this;
     }
 
+    /**
+     * Configures how {@link org.reactivestreams.Publisher}s returned from queries and mutations are collected
+     * into lists. By default, all elements are requested at once and buffered without limit.
+     *
+     * @param config The batching and size limits to apply when collecting a Publisher
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withPublisherCollection(PublisherCollectionConfig config) {
+        this.publisherCollectionConfig = config;
+        return this;
+    }
+
+    /**
+     * Enables sharing of upstream {@link org.reactivestreams.Publisher}s between all clients subscribed
+     * to the same subscription with the same arguments.
+     *
+     * @param subscriptionHub The hub multicasting the shared upstream Publishers
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withSubscriptionHub(SubscriptionHub subscriptionHub) {
+        this.subscriptionHub = subscriptionHub;
+        return this;
+    }
+
+    /**
+     * Sets the metrics to be updated with the events dropped or conflated by the delivery policies
+     * selected via {@link io.leangen.graphql.annotations.GraphQLSubscriptionDelivery}.
+     *
+     * @param metrics The metrics to update
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withSubscriptionDeliveryMetrics(SubscriptionDeliveryMetrics metrics) {
+        this.subscriptionDeliveryMetrics = metrics;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler closing the batch windows of subscriptions delivered in batches
+     * (see {@link io.leangen.graphql.annotations.GraphQLSubscriptionDelivery#batchWindowMillis()}).
+     * The lifecycle of the scheduler is managed by the caller, who is expected to shut it down once no longer needed.
+     * <p>If not set, each generated schema creates its own scheduler on first use. Its only thread terminates
+     * when idle, so it never needs to be shut down.</p>
+     *
+     * @param scheduler The scheduler to use
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withSubscriptionDeliveryScheduler(ScheduledExecutorService scheduler) {
+        this.subscriptionDeliveryScheduler = scheduler;
+        return this;
+    }
+
+    /**
+     * @return The metrics updated by the subscription delivery policies of the schemas generated by this generator:
+     * either the instance set via {@link #withSubscriptionDeliveryMetrics(SubscriptionDeliveryMetrics)} or the default one
+     */
+    public SubscriptionDeliveryMetrics getSubscriptionDeliveryMetrics() {
+        return subscriptionDeliveryMetrics;
+    }
+
+    /**
+     * Adds the {@code @defer} and {@code @stream} directives to the schema, enabling incremental delivery
+     * via {@link GraphQLRuntime#executeIncrementally(graphql.ExecutionInput)}.
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withIncrementalDelivery() {
+        this.additionalDirectives.put(Directives.DeferDirective.getName(), Directives.DeferDirective);
+        this.additionalDirectives.put(IncrementalDelivery.StreamDirective.getName(), IncrementalDelivery.StreamDirective);
+        return this;
+    }
+
+    /**
+     * Builds the resolvers of different operation sources in parallel, using the common {@link ForkJoinPool}.
+     * All {@link ResolverBuilder}s in use must be safe for concurrent use.
+     * The generated schema is identical to the one generated sequentially.
+     * <p>Only resolver building (the discovery of operations via {@link ResolverBuilder}s) is parallelized.
+     * Type mapping always runs sequentially, as the names and conflicts of the mapped types depend on the mapping order.</p>
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withParallelResolverBuilding() {
+        return withParallelResolverBuilding(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the resolvers of different operation sources in parallel, using the given pool.
+     * All {@link ResolverBuilder}s in use must be safe for concurrent use.
+     * The generated schema is identical to the one generated sequentially.
+     * <p>Only resolver building (the discovery of operations via {@link ResolverBuilder}s) is parallelized.
+     * Type mapping always runs sequentially, as the names and conflicts of the mapped types depend on the mapping order.</p>
+     *
+     * @param pool The pool to build the resolvers on
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withParallelResolverBuilding(ForkJoinPool pool) {
+        this.resolverBuildingPool = pool;
+        return this;
+    }
+
+    /**
+     * Records the time (and memory) spent in each step of the generation: resolver extraction, type mapping,
+     * schema transformation, input field discovery, classpath scanning and value mapper creation.
+     * The results can be inspected via {@link GenerationProfiler#getReport()} once the schema is generated.
+     *
+     * @param profiler The profiler to record the measurements with
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withProfiler(GenerationProfiler profiler) {
+        this.profiler = Objects.requireNonNull(profiler);
+        return this;
+    }
+
+    /**
+     * Rebuilds the resolvers from the members recorded in the given snapshot instead of discovering them,
+     * as long as the snapshot is current. A stale snapshot is ignored.
+     *
+     * @param snapshot The snapshot previously recorded via {@link SchemaSnapshot#record(GraphQLSchemaGenerator)}
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withSchemaSnapshot(SchemaSnapshot snapshot) {
+        if (snapshot.isCurrent()) {
+            return withResolverBuilderDecorators(
+                    builders -> Collections.singletonList(snapshot.replaying(builders, false)),
+                    builders -> Collections.singletonList(snapshot.replaying(builders, true)));
+        }
+        log.warn("The schema snapshot is stale and will be ignored");
+        return this;
+    }
+
+    GraphQLSchemaGenerator withResolverBuilderDecorators(UnaryOperator<Collection<ResolverBuilder>> topLevel, UnaryOperator<Collection<ResolverBuilder>> nested) {
+        this.topLevelResolverBuilderDecorator = topLevel;
+        this.nestedResolverBuilderDecorator = nested;
+        return this;
+    }
+
     /**
      * Registers custom schema processors that can perform arbitrary transformations on the schema just before it is built.
      *
@@ -835,6 +1021,35 @@ public class GraphQLSchemaGenerator {
         return this;
     }
 
+    /**
+     * Binds the arguments of simple input object types (concrete, non-generic classes with no Jackson/Gson annotations,
+     * populated via a constructor, setters or fields) directly from the coerced input values, instead of going
+     * through a full Jackson or Gson conversion. The binders are prepared during schema generation, from the discovered
+     * input fields. Anything the binders can not reproduce exactly is still handled by the configured {@link ValueMapper}.
+     * <p>Only applies when using the built-in Jackson or Gson value mappers. Types customized only through the mapper's
+     * own configuration (e.g. via custom Jackson modules or Gson type adapters) should not be used as input
+     * when this is enabled.</p>
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    public GraphQLSchemaGenerator withDirectInputBinding() {
+        this.directInputBinding = true;
+        return this;
+    }
+
+    /**
+     * Shares value mappers and operation executors with other schemas generated using the same components.
+     * Used by {@link SchemaFamily}.
+     *
+     * @param sharedComponents The components shared between the schemas
+     *
+     * @return This {@link GraphQLSchemaGenerator} instance, to allow method chaining
+     */
+    GraphQLSchemaGenerator withSharedComponents(SharedComponents sharedComponents) {
+        this.sharedComponents = sharedComponents;
+        return this;
+    }
+
     /**
      * Sets the default values for all settings not configured explicitly,
      * ensuring the builder is in a valid state
@@ -883,9 +1098,19 @@ public class GraphQLSchemaGenerator {
         }
         checkForEmptyOrDuplicates("nested resolver builders", nestedResolverBuilders);
         operationSourceRegistry.registerGlobalNestedResolverBuilders(nestedResolverBuilders);
+        UnaryOperator<Collection<ResolverBuilder>> topLevelDecorator = topLevelResolverBuilderDecorator != null ? topLevelResolverBuilderDecorator : UnaryOperator.identity();
+        UnaryOperator<Collection<ResolverBuilder>> nestedDecorator = nestedResolverBuilderDecorator != null ? nestedResolverBuilderDecorator : UnaryOperator.identity();
+        if (profiler.isEnabled()) {
+            operationSourceRegistry.decorateResolverBuilders(
+                    builders -> ProfilingResolverBuilder.wrap(topLevelDecorator.apply(builders), profiler),
+                    builders -> ProfilingResolverBuilder.wrap(nestedDecorator.apply(builders), profiler));
+        } else if (topLevelResolverBuilderDecorator != null) {
+            operationSourceRegistry.decorateResolverBuilders(topLevelResolverBuilderDecorator, nestedResolverBuilderDecorator);
+        }
 
         ObjectTypeMapper objectTypeMapper = new ObjectTypeMapper();
-        PublisherAdapter publisherAdapter = new PublisherAdapter();
+        PublisherAdapter publisherAdapter = new PublisherAdapter(Runnable::run, publisherCollectionConfig, subscriptionHub,
+                subscriptionDeliveryMetrics, subscriptionDeliveryScheduler);
         EnumMapper enumMapper = new EnumMapper(javaDeprecationConfig);
         typeMappers = Arrays.asList(
                 new NonNullMapper(), new IdAdapter(), new ScalarMapper(), new CompletableFutureAdapter<>(),
@@ -937,9 +1162,9 @@ public class GraphQLSchemaGenerator {
 
         environment = new GlobalEnvironment(messageBundle, new Relay(), new TypeRegistry(additionalTypes.values()),
                 new ConverterRegistry(inputConverters, outputConverters), new ArgumentInjectorRegistry(argumentInjectors),
-                typeTransformer, inclusionStrategy, typeInfoGenerator);
+                typeTransformer, inclusionStrategy, typeInfoGenerator, globalIdCodec);
         ExtendedGeneratorConfiguration extendedConfig = new ExtendedGeneratorConfiguration(configuration, environment);
-        valueMapperFactory = new MemoizedValueMapperFactory(environment, internalValueMapperFactory);
+        valueMapperFactory = new MemoizedValueMapperFactory(environment, internalValueMapperFactory, profiler);
         ValueMapper def = valueMapperFactory.getValueMapper(Collections.emptyMap(), environment);
 
         InputFieldBuilder defaultInputFieldBuilder;
@@ -953,6 +1178,11 @@ public class GraphQLSchemaGenerator {
             inputFieldBuilders = provider.getExtensions(extendedConfig, new ExtensionList<>(inputFieldBuilders));
         }
         checkForEmptyOrDuplicates("input field builders", inputFieldBuilders);
+        if (directInputBinding) {
+            InputBinderRegistry inputBinders = new InputBinderRegistry(environment, def);
+            inputFieldBuilders = inputFieldBuilders.stream().map(inputBinders::recording).collect(Collectors.toList());
+            valueMapperFactory = new BindingValueMapperFactory(valueMapperFactory, inputBinders);
+        }
 
         List<Comparator<AnnotatedType>> typeComparators = new ArrayList<>();
         //Only consider leangen annotations except @GraphQLNonNull
@@ -979,6 +1209,10 @@ public class GraphQLSchemaGenerator {
      * @return A GraphQL schema
      */
     public GraphQLSchema generate() {
+        return profiler.profile(GenerationProfiler.Phase.SCHEMA_GENERATION, queryRoot, GraphQLSchemaGenerator.class, this::generateSchema);
+    }
+
+    private GraphQLSchema generateSchema() {
         init();
 
         final String queryRootName = messageBundle.interpolate(queryRoot);
@@ -987,11 +1221,11 @@ public class GraphQLSchemaGenerator {
 
         BuildContext buildContext = new BuildContext(
                 basePackages, environment, new OperationRegistry(operationSourceRegistry, operationBuilder, inclusionStrategy,
-                typeTransformer, basePackages, environment), new TypeMapperRegistry(typeMappers),
+                typeTransformer, basePackages, environment, resolverBuildingPool, profiler), new TypeMapperRegistry(typeMappers),
                 new SchemaTransformerRegistry(transformers), valueMapperFactory, typeInfoGenerator, messageBundle, interfaceStrategy,
-                scalarStrategy, typeTransformer, abstractInputHandler, new InputFieldBuilderRegistry(inputFieldBuilders),
+                scalarStrategy, typeTransformer, abstractInputHandler, new InputFieldBuilderRegistry(inputFieldBuilders, profiler),
                 interceptorFactory, directiveBuilder, inclusionStrategy, relayMappingConfig, additionalTypes.values(),
-                additionalDirectiveTypes, typeComparator, implDiscoveryStrategy, codeRegistry);
+                additionalDirectiveTypes, typeComparator, implDiscoveryStrategy, codeRegistry, sharedComponents, profiler);
         OperationMapper operationMapper = new OperationMapper(queryRootName, mutationRootName, subscriptionRootName, buildContext);
 
         GraphQLSchema.Builder builder = GraphQLSchema.newSchema();
@@ -1138,10 +1372,12 @@ public class GraphQLSchemaGenerator {
 
         private final ValueMapper defaultValueMapper;
         private final ValueMapperFactory delegate;
+        private final GenerationProfiler profiler;
 
-        public MemoizedValueMapperFactory(GlobalEnvironment environment, ValueMapperFactory delegate) {
-            this.defaultValueMapper = delegate.getValueMapper(Collections.emptyMap(), environment);
+        public MemoizedValueMapperFactory(GlobalEnvironment environment, ValueMapperFactory delegate, GenerationProfiler profiler) {
             this.delegate = delegate;
+            this.profiler = profiler;
+            this.defaultValueMapper = createValueMapper(Collections.emptyMap(), environment);
         }
 
         @Override
@@ -1149,7 +1385,69 @@ public class GraphQLSchemaGenerator {
             if (concreteSubTypes.isEmpty() || concreteSubTypes.values().stream().allMatch(List::isEmpty)) {
                 return this.defaultValueMapper;
             }
-            return delegate.getValueMapper(concreteSubTypes, environment);
+            return createValueMapper(concreteSubTypes, environment);
+        }
+
+        private ValueMapper createValueMapper(Map<Class, List<Class<?>>> concreteSubTypes, GlobalEnvironment environment) {
+            return profiler.profile(GenerationProfiler.Phase.VALUE_MAPPER_CREATION, concreteSubTypes.keySet(), delegate.getClass(),
+                    () -> delegate.getValueMapper(concreteSubTypes, environment));
+        }
+    }
+
+    private static class BindingValueMapperFactory implements ValueMapperFactory {
+
+        private final ValueMapperFactory delegate;
+        private final InputBinderRegistry inputBinders;
+
+        BindingValueMapperFactory(ValueMapperFactory delegate, InputBinderRegistry inputBinders) {
+            this.delegate = delegate;
+            this.inputBinders = inputBinders;
+        }
+
+        @Override
+        public ValueMapper getValueMapper(Map<Class, List<Class<?>>> concreteSubTypes, GlobalEnvironment environment) {
+            return inputBinders.decorate(delegate.getValueMapper(concreteSubTypes, environment));
+        }
+    }
+
+    private static class ProfilingResolverBuilder implements ResolverBuilder {
+
+        private final ResolverBuilder delegate;
+        private final GenerationProfiler profiler;
+
+        private ProfilingResolverBuilder(ResolverBuilder delegate, GenerationProfiler profiler) {
+            this.delegate = delegate;
+            this.profiler = profiler;
+        }
+
+        static Collection<ResolverBuilder> wrap(Collection<ResolverBuilder> builders, GenerationProfiler profiler) {
+            return builders.stream()
+                    .map(builder -> new ProfilingResolverBuilder(builder, profiler))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public Collection<Resolver> buildQueryResolvers(ResolverBuilderParams params) {
+            return profile(params, () -> delegate.buildQueryResolvers(params));
+        }
+
+        @Override
+        public Collection<Resolver> buildMutationResolvers(ResolverBuilderParams params) {
+            return profile(params, () -> delegate.buildMutationResolvers(params));
+        }
+
+        @Override
+        public Collection<Resolver> buildSubscriptionResolvers(ResolverBuilderParams params) {
+            return profile(params, () -> delegate.buildSubscriptionResolvers(params));
+        }
+
+        @Override
+        public boolean supports(AnnotatedType type) {
+            return delegate.supports(type);
+        }
+
+        private Collection<Resolver> profile(ResolverBuilderParams params, Supplier<Collection<Resolver>> building) {
+            return profiler.profile(GenerationProfiler.Phase.RESOLVER_EXTRACTION, params.getBeanType(), delegate.getClass(), building);
         }
     }
 
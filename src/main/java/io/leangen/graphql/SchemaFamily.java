@@ -0,0 +1,514 @@
+package io.leangen.graphql;
+
+import graphql.schema.GraphQLArgument;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLDirective;
+import graphql.schema.GraphQLDirectiveContainer;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLInputType;
+import graphql.schema.GraphQLInterfaceType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLNonNull;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import graphql.schema.GraphQLTypeReference;
+import graphql.schema.GraphQLUnionType;
+import graphql.schema.GraphqlTypeComparatorRegistry;
+import graphql.schema.TypeResolver;
+import graphql.schema.idl.SchemaPrinter;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.generator.SharedComponents;
+import io.leangen.graphql.metadata.Operation;
+import io.leangen.graphql.metadata.OperationArgument;
+import io.leangen.graphql.util.Directives;
+import io.leangen.graphql.util.GraphQLUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A family of schemas generated from a common base configuration, each variant adjusting it slightly
+ * (e.g. by using a different {@link io.leangen.graphql.metadata.strategy.InclusionStrategy} or exposing a few more services).
+ * <p>Instead of each schema holding its own copy of everything, the variants share:</p>
+ * <ul>
+ *     <li>type definitions that are identical in every respect relevant to execution, including the Java types they're mapped
+ *     from and the complexity of their fields. A type is only shared if all the types it refers to are shared as well.
+ *     Types reachable from directive arguments are never shared.</li>
+ *     <li>operation executors and value mappers, though only within each schema, as they capture its environment
+ *     (see {@link SharedComponents})</li>
+ * </ul>
+ * <p>Data fetchers and type resolvers remain per schema, so sharing a type never changes how a schema executes.
+ * How much ended up being shared can be inspected via {@link #getReport()}.</p>
+ * <pre>
+ * SchemaFamily family = SchemaFamily.newFamily(() -&gt; new GraphQLSchemaGenerator().withOperationsFromSingleton(bookService))
+ *         .withVariant("public", gen -&gt; {})
+ *         .withVariant("admin", gen -&gt; gen.withOperationsFromSingleton(adminService))
+ *         .generate();
+ * GraphQLSchema adminSchema = family.getSchema("admin");
+ * </pre>
+ */
+public class SchemaFamily {
+
+    private static final SchemaPrinter PRINTER = new SchemaPrinter(SchemaPrinter.Options.defaultOptions()
+            .includeDirectives(false)
+            .includeExtendedScalarTypes(true)
+            .setComparators(GraphqlTypeComparatorRegistry.AS_IS_REGISTRY));
+
+    private final Map<String, GraphQLSchema> schemas;
+    private final Report report;
+
+    private SchemaFamily(Map<String, GraphQLSchema> schemas, Report report) {
+        this.schemas = Collections.unmodifiableMap(schemas);
+        this.report = report;
+    }
+
+    /**
+     * Starts a new family of schemas
+     *
+     * @param baseConfiguration Produces a new generator configured with everything common to all the variants.
+     *                          Must produce a fresh instance on each invocation.
+     *
+     * @return A builder of the family
+     */
+    public static Builder newFamily(Supplier<GraphQLSchemaGenerator> baseConfiguration) {
+        return new Builder(baseConfiguration);
+    }
+
+    public GraphQLSchema getSchema(String variant) {
+        GraphQLSchema schema = schemas.get(variant);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown schema variant: " + variant);
+        }
+        return schema;
+    }
+
+    public Map<String, GraphQLSchema> getSchemas() {
+        return schemas;
+    }
+
+    public Report getReport() {
+        return report;
+    }
+
+    public static class Builder {
+
+        private final Supplier<GraphQLSchemaGenerator> baseConfiguration;
+        private final Map<String, Consumer<GraphQLSchemaGenerator>> variants = new LinkedHashMap<>();
+
+        private Builder(Supplier<GraphQLSchemaGenerator> baseConfiguration) {
+            this.baseConfiguration = Objects.requireNonNull(baseConfiguration);
+        }
+
+        /**
+         * Registers a variant of the base configuration
+         *
+         * @param name The name of the variant
+         * @param configurer Applies the variant-specific configuration on top of the base configuration
+         *
+         * @return This builder, to allow method chaining
+         */
+        public Builder withVariant(String name, Consumer<GraphQLSchemaGenerator> configurer) {
+            if (variants.putIfAbsent(name, Objects.requireNonNull(configurer)) != null) {
+                throw new IllegalArgumentException("Duplicate schema variant: " + name);
+            }
+            return this;
+        }
+
+        public SchemaFamily generate() {
+            if (variants.isEmpty()) {
+                throw new IllegalStateException("At least one schema variant must be registered");
+            }
+            SharedComponents sharedComponents = new SharedComponents();
+            TypePool pool = new TypePool();
+            Map<String, GraphQLSchema> schemas = new LinkedHashMap<>();
+            List<VariantReport> reports = new ArrayList<>();
+            variants.forEach((name, configurer) -> {
+                int executors = sharedComponents.getExecutorsCreated() + sharedComponents.getExecutorsReused();
+                int sharedExecutors = sharedComponents.getExecutorsReused();
+                int valueMappers = sharedComponents.getValueMappersCreated() + sharedComponents.getValueMappersReused();
+                int sharedValueMappers = sharedComponents.getValueMappersReused();
+
+                GraphQLSchemaGenerator generator = baseConfiguration.get();
+                configurer.accept(generator);
+                GraphQLSchema generated = generator.withSharedComponents(sharedComponents).generate();
+                Map<String, GraphQLNamedType> shared = new HashMap<>();
+                GraphQLSchema schema = pool.share(generated, shared);
+                schemas.put(name, schema);
+
+                reports.add(new VariantReport(name, namedTypes(schema).size(), shared.size(),
+                        sharedComponents.getExecutorsCreated() + sharedComponents.getExecutorsReused() - executors,
+                        sharedComponents.getExecutorsReused() - sharedExecutors,
+                        sharedComponents.getValueMappersCreated() + sharedComponents.getValueMappersReused() - valueMappers,
+                        sharedComponents.getValueMappersReused() - sharedValueMappers));
+            });
+            return new SchemaFamily(schemas, new Report(reports));
+        }
+    }
+
+    public static class Report {
+
+        private final List<VariantReport> variants;
+
+        private Report(List<VariantReport> variants) {
+            this.variants = Collections.unmodifiableList(variants);
+        }
+
+        public List<VariantReport> getVariants() {
+            return variants;
+        }
+
+        public VariantReport getVariant(String name) {
+            return variants.stream()
+                    .filter(variant -> variant.getName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown schema variant: " + name));
+        }
+
+        @Override
+        public String toString() {
+            int types = variants.stream().mapToInt(VariantReport::getTypes).sum();
+            int sharedTypes = variants.stream().mapToInt(VariantReport::getSharedTypes).sum();
+            int executors = variants.stream().mapToInt(VariantReport::getExecutors).sum();
+            int sharedExecutors = variants.stream().mapToInt(VariantReport::getSharedExecutors).sum();
+            int valueMappers = variants.stream().mapToInt(VariantReport::getValueMappers).sum();
+            int sharedValueMappers = variants.stream().mapToInt(VariantReport::getSharedValueMappers).sum();
+            return variants.stream().map(VariantReport::toString).collect(Collectors.joining("\n", "", "\n"))
+                    + String.format("total: %d/%d types, %d/%d executors, %d/%d value mappers shared",
+                    sharedTypes, types, sharedExecutors, executors, sharedValueMappers, valueMappers);
+        }
+    }
+
+    public static class VariantReport {
+
+        private final String name;
+        private final int types;
+        private final int sharedTypes;
+        private final int executors;
+        private final int sharedExecutors;
+        private final int valueMappers;
+        private final int sharedValueMappers;
+
+        private VariantReport(String name, int types, int sharedTypes, int executors, int sharedExecutors, int valueMappers, int sharedValueMappers) {
+            this.name = name;
+            this.types = types;
+            this.sharedTypes = sharedTypes;
+            this.executors = executors;
+            this.sharedExecutors = sharedExecutors;
+            this.valueMappers = valueMappers;
+            this.sharedValueMappers = sharedValueMappers;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getTypes() {
+            return types;
+        }
+
+        /**
+         * @return The number of type definitions reused from the previously generated variants
+         */
+        public int getSharedTypes() {
+            return sharedTypes;
+        }
+
+        public int getExecutors() {
+            return executors;
+        }
+
+        /**
+         * @return The number of operation executors reused instead of being created anew
+         */
+        public int getSharedExecutors() {
+            return sharedExecutors;
+        }
+
+        public int getValueMappers() {
+            return valueMappers;
+        }
+
+        /**
+         * @return The number of value mappers reused instead of being created anew (possibly within the same schema)
+         */
+        public int getSharedValueMappers() {
+            return sharedValueMappers;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d/%d types, %d/%d executors, %d/%d value mappers shared",
+                    name, sharedTypes, types, sharedExecutors, executors, sharedValueMappers, valueMappers);
+        }
+    }
+
+    /**
+     * Keeps the type definitions of all the variants generated so far, by name and fingerprint
+     */
+    private static class TypePool {
+
+        private final Map<String, Map<List<Object>, GraphQLNamedType>> types = new HashMap<>();
+        private final Set<GraphQLNamedType> pooled = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        GraphQLSchema share(GraphQLSchema schema, Map<String, GraphQLNamedType> shared) {
+            Map<String, GraphQLNamedType> original = namedTypes(schema);
+            Set<String> pinned = pinned(schema, original.values());
+            original.forEach((name, type) -> {
+                Map<List<Object>, GraphQLNamedType> candidates = types.get(name);
+                if (candidates != null && !pinned.contains(name)) {
+                    GraphQLNamedType match = candidates.get(fingerprint(type));
+                    if (match != null) {
+                        shared.put(name, match);
+                    }
+                }
+            });
+            //A pooled type can only be used if every type it refers to is the one used by this schema
+            boolean changed = true;
+            while (changed) {
+                changed = shared.entrySet().removeIf(entry -> references(entry.getValue()).stream()
+                        .anyMatch(ref -> ref != shared.getOrDefault(ref.getName(), original.get(ref.getName()))));
+            }
+
+            GraphQLSchema result = schema;
+            if (shared.entrySet().stream().anyMatch(entry -> entry.getValue() != original.get(entry.getKey()))) {
+                result = rebuild(schema, original, shared, pinned);
+            }
+            namedTypes(result).forEach((name, type) -> {
+                if (!pinned.contains(name) && pooled.add(type)) {
+                    types.computeIfAbsent(name, k -> new HashMap<>()).putIfAbsent(fingerprint(type), type);
+                }
+            });
+            return result;
+        }
+
+        /**
+         * Rebuilds the schema using the shared types. All the other types are copied, referring to other types by name only,
+         * so that they can be resolved to the shared definitions where applicable.
+         */
+        private static GraphQLSchema rebuild(GraphQLSchema schema, Map<String, GraphQLNamedType> original,
+                                             Map<String, GraphQLNamedType> shared, Set<String> pinned) {
+            Set<GraphQLType> additionalTypes = original.entrySet().stream()
+                    .map(entry -> shared.containsKey(entry.getKey()) ? shared.get(entry.getKey())
+                            : pinned.contains(entry.getKey()) ? entry.getValue() : detach(entry.getValue()))
+                    .collect(Collectors.toSet());
+            GraphQLSchema.Builder builder = GraphQLSchema.newSchema(schema)
+                    .query((GraphQLObjectType) detach(schema.getQueryType()))
+                    .clearAdditionalTypes()
+                    .additionalTypes(additionalTypes)
+                    .codeRegistry(rebindTypeResolvers(schema));
+            if (schema.getMutationType() != null) {
+                builder.mutation((GraphQLObjectType) detach(schema.getMutationType()));
+            }
+            if (schema.getSubscriptionType() != null) {
+                builder.subscription((GraphQLObjectType) detach(schema.getSubscriptionType()));
+            }
+            return builder.build();
+        }
+
+        /**
+         * Makes the type resolvers return the object types of the given schema, as opposed to the ones known to the
+         * generator, which may have been replaced by the shared definitions.
+         */
+        private static GraphQLCodeRegistry rebindTypeResolvers(GraphQLSchema schema) {
+            GraphQLCodeRegistry codeRegistry = schema.getCodeRegistry();
+            return codeRegistry.transform(builder -> schema.getAllTypesAsList().forEach(type -> {
+                TypeResolver resolver = null;
+                if (type instanceof GraphQLInterfaceType) {
+                    resolver = codeRegistry.getTypeResolver((GraphQLInterfaceType) type);
+                } else if (type instanceof GraphQLUnionType) {
+                    resolver = codeRegistry.getTypeResolver((GraphQLUnionType) type);
+                }
+                if (resolver != null) {
+                    TypeResolver delegate = resolver;
+                    builder.typeResolver(type.getName(), env -> {
+                        GraphQLObjectType resolved = delegate.getType(env);
+                        return resolved == null ? null : env.getSchema().getObjectType(resolved.getName());
+                    });
+                }
+            }));
+        }
+
+        private static Set<String> pinned(GraphQLSchema schema, Collection<GraphQLNamedType> types) {
+            Deque<GraphQLNamedType> pending = new ArrayDeque<>();
+            schema.getDirectives().forEach(directive -> pending.addAll(argumentTypes(directive)));
+            Stream.concat(types.stream(), Stream.of(schema.getQueryType(), schema.getMutationType(), schema.getSubscriptionType()))
+                    .filter(Objects::nonNull)
+                    .flatMap(SchemaFamily::appliedDirectives)
+                    .forEach(directive -> pending.addAll(argumentTypes(directive)));
+            Set<String> pinned = new HashSet<>();
+            while (!pending.isEmpty()) {
+                GraphQLNamedType type = pending.pop();
+                if (pinned.add(type.getName())) {
+                    pending.addAll(references(type));
+                }
+            }
+            return pinned;
+        }
+    }
+
+    private static Map<String, GraphQLNamedType> namedTypes(GraphQLSchema schema) {
+        Set<String> roots = Stream.of(schema.getQueryType(), schema.getMutationType(), schema.getSubscriptionType())
+                .filter(Objects::nonNull)
+                .map(GraphQLNamedType::getName)
+                .collect(Collectors.toSet());
+        return schema.getTypeMap().entrySet().stream()
+                .filter(entry -> !roots.contains(entry.getKey()) && !GraphQLUtils.isIntrospectionType(entry.getValue()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (t1, t2) -> t1, LinkedHashMap::new));
+    }
+
+    private static List<Object> fingerprint(GraphQLNamedType type) {
+        List<Object> fingerprint = new ArrayList<>();
+        fingerprint.add(type.getClass());
+        fingerprint.add(PRINTER.print(type));
+        if (Directives.isMappedType(type)) {
+            fingerprint.add(GenericTypeReflector.toCanonical(Directives.getMappedType(type)));
+        }
+        if (type instanceof GraphQLScalarType) {
+            fingerprint.add(((GraphQLScalarType) type).getCoercing().getClass());
+        }
+        if (type instanceof GraphQLEnumType) {
+            ((GraphQLEnumType) type).getValues().forEach(value -> fingerprint.add(value.getValue()));
+        }
+        if (type instanceof GraphQLFieldsContainer) {
+            ((GraphQLFieldsContainer) type).getFieldDefinitions().forEach(field ->
+                    fingerprint.add(Directives.getMappedOperation(field).map(SchemaFamily::complexity).orElse(null)));
+        }
+        return fingerprint;
+    }
+
+    private static Set<List<Object>> complexity(Operation operation) {
+        return operation.getResolvers().stream()
+                .map(resolver -> Arrays.<Object>asList(
+                        resolver.getArguments().stream()
+                                .filter(OperationArgument::isMappable)
+                                .map(OperationArgument::getName)
+                                .collect(Collectors.toSet()),
+                        resolver.getComplexityExpression()))
+                .collect(Collectors.toSet());
+    }
+
+    private static List<GraphQLNamedType> references(GraphQLNamedType type) {
+        List<GraphQLType> references = new ArrayList<>();
+        if (type instanceof GraphQLFieldsContainer) {
+            for (GraphQLFieldDefinition field : ((GraphQLFieldsContainer) type).getFieldDefinitions()) {
+                references.add(field.getType());
+                field.getArguments().forEach(argument -> references.add(argument.getType()));
+            }
+        }
+        if (type instanceof GraphQLObjectType) {
+            references.addAll(((GraphQLObjectType) type).getInterfaces());
+        }
+        if (type instanceof GraphQLUnionType) {
+            references.addAll(((GraphQLUnionType) type).getTypes());
+        }
+        if (type instanceof GraphQLInputObjectType) {
+            ((GraphQLInputObjectType) type).getFieldDefinitions().forEach(field -> references.add(field.getType()));
+        }
+        appliedDirectives(type).forEach(directive -> references.addAll(argumentTypes(directive)));
+        return references.stream().map(GraphQLUtils::unwrap).distinct().collect(Collectors.toList());
+    }
+
+    private static Stream<GraphQLDirective> appliedDirectives(GraphQLNamedType type) {
+        List<GraphQLDirectiveContainer> containers = new ArrayList<>();
+        if (type instanceof GraphQLDirectiveContainer) {
+            containers.add((GraphQLDirectiveContainer) type);
+        }
+        if (type instanceof GraphQLFieldsContainer) {
+            for (GraphQLFieldDefinition field : ((GraphQLFieldsContainer) type).getFieldDefinitions()) {
+                containers.add(field);
+                containers.addAll(field.getArguments());
+            }
+        }
+        if (type instanceof GraphQLInputObjectType) {
+            containers.addAll(((GraphQLInputObjectType) type).getFieldDefinitions());
+        }
+        if (type instanceof GraphQLEnumType) {
+            containers.addAll(((GraphQLEnumType) type).getValues());
+        }
+        return containers.stream().flatMap(container -> container.getDirectives().stream());
+    }
+
+    private static List<GraphQLNamedType> argumentTypes(GraphQLDirective directive) {
+        return directive.getArguments().stream()
+                .map(argument -> GraphQLUtils.unwrap(argument.getType()))
+                .collect(Collectors.toList());
+    }
+
+    private static GraphQLNamedType detach(GraphQLNamedType type) {
+        if (type instanceof GraphQLObjectType) {
+            GraphQLObjectType objectType = (GraphQLObjectType) type;
+            return objectType.transform(builder -> builder
+                    .replaceFields(detach(objectType.getFieldDefinitions()))
+                    .clearInterfaces()
+                    .withInterfaces(objectType.getInterfaces().stream()
+                            .map(inter -> GraphQLTypeReference.typeRef(((GraphQLNamedType) inter).getName()))
+                            .toArray(GraphQLTypeReference[]::new)));
+        }
+        if (type instanceof GraphQLInterfaceType) {
+            GraphQLInterfaceType interfaceType = (GraphQLInterfaceType) type;
+            return interfaceType.transform(builder -> builder.replaceFields(detach(interfaceType.getFieldDefinitions())));
+        }
+        if (type instanceof GraphQLUnionType) {
+            GraphQLUnionType unionType = (GraphQLUnionType) type;
+            return unionType.transform(builder -> builder
+                    .clearPossibleTypes()
+                    .possibleTypes(unionType.getTypes().stream()
+                            .map(possible -> GraphQLTypeReference.typeRef(((GraphQLNamedType) possible).getName()))
+                            .toArray(GraphQLTypeReference[]::new)));
+        }
+        if (type instanceof GraphQLInputObjectType) {
+            GraphQLInputObjectType inputType = (GraphQLInputObjectType) type;
+            return inputType.transform(builder -> builder.replaceFields(inputType.getFieldDefinitions().stream()
+                    .map(field -> field.transform(fieldBuilder -> fieldBuilder.type((GraphQLInputType) reference(field.getType()))))
+                    .collect(Collectors.toList())));
+        }
+        return type;
+    }
+
+    private static List<GraphQLFieldDefinition> detach(List<GraphQLFieldDefinition> fields) {
+        return fields.stream()
+                .map(field -> field.transform(builder -> builder
+                        .type((GraphQLOutputType) reference(field.getType()))
+                        .replaceArguments(field.getArguments().stream()
+                                .map(SchemaFamily::detach)
+                                .collect(Collectors.toList()))))
+                .collect(Collectors.toList());
+    }
+
+    private static GraphQLArgument detach(GraphQLArgument argument) {
+        return argument.transform(builder -> builder.type((GraphQLInputType) reference(argument.getType())));
+    }
+
+    private static GraphQLType reference(GraphQLType type) {
+        if (type instanceof GraphQLNonNull) {
+            return GraphQLNonNull.nonNull(reference(((GraphQLNonNull) type).getWrappedType()));
+        }
+        if (type instanceof GraphQLList) {
+            return GraphQLList.list(reference(((GraphQLList) type).getWrappedType()));
+        }
+        return GraphQLTypeReference.typeRef(((GraphQLNamedType) type).getName());
+    }
+}
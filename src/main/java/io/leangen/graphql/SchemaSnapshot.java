@@ -0,0 +1,579 @@
+package io.leangen.graphql;
+
+import graphql.language.OperationDefinition;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import io.leangen.graphql.metadata.OperationArgument;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.metadata.TypedElement;
+import io.leangen.graphql.metadata.execution.Executable;
+import io.leangen.graphql.metadata.execution.FieldAccessor;
+import io.leangen.graphql.metadata.execution.FixedMethodInvoker;
+import io.leangen.graphql.metadata.execution.MethodInvoker;
+import io.leangen.graphql.metadata.strategy.query.AbstractResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.ArgumentBuilderParams;
+import io.leangen.graphql.metadata.strategy.query.ResolverArgumentBuilder;
+import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.ResolverBuilderParams;
+import io.leangen.graphql.util.ClassUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A compact, serializable snapshot of a generated schema: its SDL and the members (and operation info) of all the
+ * resolvers discovered while generating it, identified by stable handles. Loading the snapshot back via
+ * {@link GraphQLSchemaGenerator#withSchemaSnapshot(SchemaSnapshot)} skips resolver discovery (scanning all members of
+ * every operation source and domain type and applying all the filters and the inclusion strategy) on startup,
+ * as the resolvers are rebuilt directly from the recorded members.
+ * Only the resolvers are restored: the types, arguments and executors are still mapped as usual.
+ * <p>The resolvers are recorded per operation source type (including its type arguments and annotations) and per
+ * combination of resolver builders used for it. The snapshot also records a checksum of the bytecode of all the
+ * classes reachable from the recorded resolvers: those declaring the resolver members, the operation sources, and
+ * all the classes making up the return and argument types (for the latter, recursively including their members' types).
+ * Platform ({@code java.*} and {@code javax.*}) classes are not included. If any of the classes has changed since the
+ * snapshot was taken, the snapshot is ignored and the resolvers are discovered as usual.</p>
+ * <p>Only {@link ResolverBuilder}s extending {@link AbstractResolverBuilder} can be recorded. The arguments are
+ * rebuilt using the {@link ResolverArgumentBuilder} of the builder that originally produced the resolver, and
+ * property elements are merged the default way. Recording fails if a resolver builder can not be replayed, and
+ * replaying fails if the argument builder used when recording is no longer configured.</p>
+ */
+public class SchemaSnapshot {
+
+    private static final int MAGIC = 0x53505152; //"SPQR"
+    private static final int VERSION = 2;
+
+    private static final Map<String, Class<?>> PRIMITIVES = Arrays.stream(new Class<?>[] {
+            boolean.class, byte.class, short.class, char.class, int.class, long.class, float.class, double.class, void.class
+    }).collect(Collectors.toMap(Class::getName, Function.identity()));
+
+    private final String schemaDefinition;
+    private final String checksum;
+    private final List<String> classNames;
+    private final Map<String, List<ResolverRecord>> resolvers;
+
+    private SchemaSnapshot(String schemaDefinition, String checksum, List<String> classNames, Map<String, List<ResolverRecord>> resolvers) {
+        this.schemaDefinition = schemaDefinition;
+        this.checksum = checksum;
+        this.classNames = classNames;
+        this.resolvers = resolvers;
+    }
+
+    /**
+     * Generates the schema using the given generator, recording all the discovered resolvers.
+     * Intended to be run at build time, with the result written out via {@link #writeTo(OutputStream)}.
+     *
+     * @param generator The fully configured generator to take the snapshot of
+     *
+     * @return The snapshot of the generated schema
+     */
+    public static SchemaSnapshot record(GraphQLSchemaGenerator generator) {
+        Map<String, List<ResolverRecord>> recorded = new ConcurrentHashMap<>();
+        Collection<String> classNames = Collections.synchronizedSet(new TreeSet<>());
+        generator.withResolverBuilderDecorators(
+                builders -> Collections.singletonList(new RecordingResolverBuilder(builders, false, recorded, classNames)),
+                builders -> Collections.singletonList(new RecordingResolverBuilder(builders, true, recorded, classNames)));
+        GraphQLSchema schema = generator.generate();
+        List<String> sortedClassNames = new ArrayList<>(classNames);
+        return new SchemaSnapshot(new SchemaPrinter().print(schema), checksum(sortedClassNames), sortedClassNames, new HashMap<>(recorded));
+    }
+
+    /**
+     * Reads a snapshot previously written via {@link #writeTo(OutputStream)}.
+     *
+     * @param in The stream to read the snapshot from
+     *
+     * @return The read snapshot
+     *
+     * @throws IOException If the stream could not be read or does not contain a snapshot
+     */
+    public static SchemaSnapshot readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a schema snapshot");
+        }
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported schema snapshot version " + version);
+        }
+        String schemaDefinition = readString(data);
+        String checksum = readString(data);
+        List<String> classNames = new ArrayList<>();
+        for (int i = data.readInt(); i > 0; i--) {
+            classNames.add(readString(data));
+        }
+        Map<String, List<ResolverRecord>> resolvers = new HashMap<>();
+        for (int i = data.readInt(); i > 0; i--) {
+            String key = readString(data);
+            List<ResolverRecord> records = new ArrayList<>();
+            for (int j = data.readInt(); j > 0; j--) {
+                records.add(ResolverRecord.readFrom(data));
+            }
+            resolvers.put(key, records);
+        }
+        return new SchemaSnapshot(schemaDefinition, checksum, classNames, resolvers);
+    }
+
+    /**
+     * Writes this snapshot out in a compact binary form.
+     *
+     * @param out The stream to write to. Not closed by this method.
+     *
+     * @throws IOException If writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        writeString(data, schemaDefinition);
+        writeString(data, checksum);
+        data.writeInt(classNames.size());
+        for (String className : classNames) {
+            writeString(data, className);
+        }
+        data.writeInt(resolvers.size());
+        for (Map.Entry<String, List<ResolverRecord>> entry : resolvers.entrySet()) {
+            writeString(data, entry.getKey());
+            data.writeInt(entry.getValue().size());
+            for (ResolverRecord record : entry.getValue()) {
+                record.writeTo(data);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Checks whether the classes the resolvers were discovered from are still the same as when the snapshot was taken.
+     *
+     * @return {@code true} if this snapshot can be used, {@code false} if it is stale
+     */
+    public boolean isCurrent() {
+        return checksum.equals(checksum(classNames));
+    }
+
+    /**
+     * @return The schema definition (SDL) of the recorded schema
+     */
+    public String getSchemaDefinition() {
+        return schemaDefinition;
+    }
+
+    ResolverBuilder replaying(Collection<ResolverBuilder> fallback, boolean nested) {
+        return new ReplayingResolverBuilder(fallback, nested, resolvers);
+    }
+
+    private static String key(boolean nested, OperationDefinition.Operation operation, AnnotatedType beanType, Collection<ResolverBuilder> builders) {
+        return (nested ? "nested " : "") + operation.name() + " " + ClassUtils.toString(beanType)
+                + builders.stream().map(builder -> builder.getClass().getName()).collect(Collectors.joining(",", " [", "]"));
+    }
+
+    private static void collectClassNames(Type type, boolean deep, Set<Class<?>> visited) {
+        if (type instanceof ParameterizedType) {
+            collectClassNames(((ParameterizedType) type).getRawType(), deep, visited);
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                collectClassNames(argument, deep, visited);
+            }
+        } else if (type instanceof GenericArrayType) {
+            collectClassNames(((GenericArrayType) type).getGenericComponentType(), deep, visited);
+        } else if (type instanceof WildcardType) {
+            for (Type bound : ((WildcardType) type).getUpperBounds()) {
+                collectClassNames(bound, deep, visited);
+            }
+            for (Type bound : ((WildcardType) type).getLowerBounds()) {
+                collectClassNames(bound, deep, visited);
+            }
+        } else if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                collectClassNames(clazz.getComponentType(), deep, visited);
+                return;
+            }
+            if (clazz.isPrimitive() || isPlatformClass(clazz) || !visited.add(clazz) || !deep) {
+                return;
+            }
+            //Input types are not discovered via resolvers, so the types of their members are reachable too
+            collectClassNames(clazz.getGenericSuperclass(), true, visited);
+            for (Type superInterface : clazz.getGenericInterfaces()) {
+                collectClassNames(superInterface, true, visited);
+            }
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!field.isSynthetic()) {
+                    collectClassNames(field.getGenericType(), true, visited);
+                }
+            }
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!method.isSynthetic()) {
+                    collectClassNames(method.getGenericReturnType(), true, visited);
+                    for (Type parameterType : method.getGenericParameterTypes()) {
+                        collectClassNames(parameterType, true, visited);
+                    }
+                }
+            }
+        }
+        //Type variables are resolved in the bean type, so their bounds contribute nothing new
+    }
+
+    private static boolean isPlatformClass(Class<?> clazz) {
+        return clazz.getName().startsWith("java.") || clazz.getName().startsWith("javax.");
+    }
+
+    private static String checksum(List<String> classNames) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ClassLoader loader = classLoader();
+            byte[] buffer = new byte[8192];
+            for (String className : classNames) {
+                digest.update(className.getBytes(StandardCharsets.UTF_8));
+                try (InputStream bytecode = loader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+                    if (bytecode == null) {
+                        continue;
+                    }
+                    for (int read = bytecode.read(buffer); read != -1; read = bytecode.read(buffer)) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : SchemaSnapshot.class.getClassLoader();
+    }
+
+    private static String handle(Member member) {
+        String handle = member.getDeclaringClass().getName() + "#" + member.getName();
+        if (member instanceof Method) {
+            handle += Arrays.stream(((Method) member).getParameterTypes())
+                    .map(Class::getName)
+                    .collect(Collectors.joining(",", "(", ")"));
+        }
+        return handle;
+    }
+
+    private static Member member(String handle) {
+        try {
+            int hash = handle.indexOf('#');
+            Class<?> declaringClass = ClassUtils.forName(handle.substring(0, hash));
+            int paren = handle.indexOf('(', hash);
+            if (paren < 0) {
+                return declaringClass.getDeclaredField(handle.substring(hash + 1));
+            }
+            String parameters = handle.substring(paren + 1, handle.length() - 1);
+            List<Class<?>> parameterTypes = new ArrayList<>();
+            if (!parameters.isEmpty()) {
+                for (String parameter : parameters.split(",")) {
+                    Class<?> primitive = PRIMITIVES.get(parameter);
+                    parameterTypes.add(primitive != null ? primitive : ClassUtils.forName(parameter));
+                }
+            }
+            return declaringClass.getDeclaredMethod(handle.substring(hash + 1, paren), parameterTypes.toArray(new Class<?>[0]));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Recorded member " + handle + " could not be found. The schema snapshot is stale.", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        if (string == null) {
+            data.writeInt(-1);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class ResolverRecord {
+
+        final String name;
+        final String description;
+        final String deprecationReason;
+        final boolean batched;
+        final String complexity;
+        final String executable;
+        final List<String> elements;
+        final String argumentBuilder;
+
+        ResolverRecord(String name, String description, String deprecationReason, boolean batched, String complexity,
+                       String executable, List<String> elements, String argumentBuilder) {
+            this.name = name;
+            this.description = description;
+            this.deprecationReason = deprecationReason;
+            this.batched = batched;
+            this.complexity = complexity;
+            this.executable = executable;
+            this.elements = elements;
+            this.argumentBuilder = argumentBuilder;
+        }
+
+        static ResolverRecord of(Resolver resolver, ResolverArgumentBuilder argumentBuilder) {
+            return new ResolverRecord(resolver.getOperationName(), resolver.getOperationDescription(),
+                    resolver.getOperationDeprecationReason(), resolver.isBatched(), resolver.getComplexityExpression(),
+                    handle((Member) resolver.getExecutable().getDelegate()),
+                    resolver.getTypedElement().getElements().stream()
+                            .map(element -> handle((Member) element))
+                            .collect(Collectors.toList()),
+                    argumentBuilder != null ? argumentBuilder.getClass().getName() : null);
+        }
+
+        static ResolverRecord readFrom(DataInputStream data) throws IOException {
+            String name = readString(data);
+            String description = readString(data);
+            String deprecationReason = readString(data);
+            boolean batched = data.readBoolean();
+            String complexity = readString(data);
+            String executable = readString(data);
+            List<String> elements = new ArrayList<>();
+            for (int i = data.readInt(); i > 0; i--) {
+                elements.add(readString(data));
+            }
+            String argumentBuilder = readString(data);
+            return new ResolverRecord(name, description, deprecationReason, batched, complexity, executable, elements, argumentBuilder);
+        }
+
+        void writeTo(DataOutputStream data) throws IOException {
+            writeString(data, name);
+            writeString(data, description);
+            writeString(data, deprecationReason);
+            data.writeBoolean(batched);
+            writeString(data, complexity);
+            writeString(data, executable);
+            data.writeInt(elements.size());
+            for (String element : elements) {
+                writeString(data, element);
+            }
+            writeString(data, argumentBuilder);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ResolverRecord)) return false;
+            ResolverRecord that = (ResolverRecord) o;
+            return batched == that.batched
+                    && Objects.equals(name, that.name)
+                    && Objects.equals(description, that.description)
+                    && Objects.equals(deprecationReason, that.deprecationReason)
+                    && Objects.equals(complexity, that.complexity)
+                    && Objects.equals(executable, that.executable)
+                    && Objects.equals(elements, that.elements)
+                    && Objects.equals(argumentBuilder, that.argumentBuilder);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, executable, elements, argumentBuilder);
+        }
+    }
+
+    private static class RecordingResolverBuilder implements ResolverBuilder {
+
+        private final Collection<ResolverBuilder> delegates;
+        private final boolean nested;
+        private final Map<String, List<ResolverRecord>> recorded;
+        private final Collection<String> classNames;
+
+        RecordingResolverBuilder(Collection<ResolverBuilder> delegates, boolean nested, Map<String, List<ResolverRecord>> recorded, Collection<String> classNames) {
+            this.delegates = delegates;
+            this.nested = nested;
+            this.recorded = recorded;
+            this.classNames = classNames;
+        }
+
+        @Override
+        public Collection<Resolver> buildQueryResolvers(ResolverBuilderParams params) {
+            return record(params, OperationDefinition.Operation.QUERY, builder -> builder.buildQueryResolvers(params));
+        }
+
+        @Override
+        public Collection<Resolver> buildMutationResolvers(ResolverBuilderParams params) {
+            return record(params, OperationDefinition.Operation.MUTATION, builder -> builder.buildMutationResolvers(params));
+        }
+
+        @Override
+        public Collection<Resolver> buildSubscriptionResolvers(ResolverBuilderParams params) {
+            return record(params, OperationDefinition.Operation.SUBSCRIPTION, builder -> builder.buildSubscriptionResolvers(params));
+        }
+
+        @Override
+        public boolean supports(AnnotatedType type) {
+            return delegates.stream().anyMatch(builder -> builder.supports(type));
+        }
+
+        private Collection<Resolver> record(ResolverBuilderParams params, OperationDefinition.Operation operation, Function<ResolverBuilder, Collection<Resolver>> building) {
+            List<Resolver> resolvers = new ArrayList<>();
+            List<ResolverRecord> records = new ArrayList<>();
+            for (ResolverBuilder builder : delegates) {
+                if (!builder.supports(params.getBeanType())) {
+                    continue;
+                }
+                if (!(builder instanceof AbstractResolverBuilder)) {
+                    throw new IllegalStateException("Resolver builder " + builder.getClass().getName()
+                            + " can not be recorded in a schema snapshot as it does not extend " + AbstractResolverBuilder.class.getName());
+                }
+                ResolverArgumentBuilder argumentBuilder = ((AbstractResolverBuilder) builder).getResolverArgumentBuilder();
+                for (Resolver resolver : building.apply(builder)) {
+                    if (!resolvers.contains(resolver)) {
+                        resolvers.add(resolver);
+                        records.add(ResolverRecord.of(resolver, argumentBuilder));
+                    }
+                }
+            }
+            String key = key(nested, operation, params.getBeanType(), delegates);
+            recorded.merge(key, records, (existing, current) -> {
+                if (!existing.equals(current)) {
+                    throw new IllegalStateException("Conflicting resolvers discovered for " + key + " can not be recorded in a schema snapshot");
+                }
+                return existing;
+            });
+
+            Set<Class<?>> reachable = new HashSet<>();
+            collectClassNames(params.getBeanType().getType(), false, reachable);
+            for (Resolver resolver : resolvers) {
+                resolver.getTypedElement().getElements()
+                        .forEach(element -> reachable.add(((Member) element).getDeclaringClass()));
+                collectClassNames(resolver.getReturnType().getType(), false, reachable);
+                resolver.getArguments().forEach(argument -> collectClassNames(argument.getJavaType().getType(), true, reachable));
+            }
+            reachable.forEach(clazz -> classNames.add(clazz.getName()));
+            return resolvers;
+        }
+    }
+
+    private static class ReplayingResolverBuilder extends AbstractResolverBuilder {
+
+        private final Collection<ResolverBuilder> fallback;
+        private final boolean nested;
+        private final Map<String, List<ResolverRecord>> recorded;
+        private final Map<String, Member> members = new LinkedHashMap<>();
+
+        ReplayingResolverBuilder(Collection<ResolverBuilder> fallback, boolean nested, Map<String, List<ResolverRecord>> recorded) {
+            this.fallback = fallback;
+            this.nested = nested;
+            this.recorded = recorded;
+        }
+
+        @Override
+        public Collection<Resolver> buildQueryResolvers(ResolverBuilderParams params) {
+            return replay(params, OperationDefinition.Operation.QUERY, builder -> builder.buildQueryResolvers(params));
+        }
+
+        @Override
+        public Collection<Resolver> buildMutationResolvers(ResolverBuilderParams params) {
+            return replay(params, OperationDefinition.Operation.MUTATION, builder -> builder.buildMutationResolvers(params));
+        }
+
+        @Override
+        public Collection<Resolver> buildSubscriptionResolvers(ResolverBuilderParams params) {
+            return replay(params, OperationDefinition.Operation.SUBSCRIPTION, builder -> builder.buildSubscriptionResolvers(params));
+        }
+
+        private Collection<Resolver> replay(ResolverBuilderParams params, OperationDefinition.Operation operation, Function<ResolverBuilder, Collection<Resolver>> building) {
+            List<ResolverRecord> records = recorded.get(key(nested, operation, params.getBeanType(), fallback));
+            if (records == null) {
+                //Not encountered when the snapshot was taken, so discovered as usual
+                return fallback.stream()
+                        .filter(builder -> builder.supports(params.getBeanType()))
+                        .flatMap(builder -> building.apply(builder).stream())
+                        .distinct()
+                        .collect(Collectors.toList());
+            }
+            return records.stream().map(record -> rebuild(record, params)).collect(Collectors.toList());
+        }
+
+        private Resolver rebuild(ResolverRecord record, ResolverBuilderParams params) {
+            List<TypedElement> elements = record.elements.stream()
+                    .map(this::member)
+                    .map(member -> member instanceof Method
+                            ? new TypedElement(getReturnType((Method) member, params), (AnnotatedElement) member)
+                            : new TypedElement(getFieldType((Field) member, params), (AnnotatedElement) member))
+                    .collect(Collectors.toList());
+            TypedElement element = elements.size() == 1 ? elements.get(0) : new TypedElement(elements);
+            Member member = member(record.executable);
+            Executable<?> executable;
+            List<OperationArgument> arguments;
+            if (member instanceof Method) {
+                Method method = (Method) member;
+                executable = params.getQuerySourceBeanSupplier() == null
+                        ? new MethodInvoker(method, params.getBeanType())
+                        : new FixedMethodInvoker(params.getQuerySourceBeanSupplier(), method, params.getBeanType());
+                arguments = argumentBuilder(record).buildResolverArguments(ArgumentBuilderParams.builder()
+                        .withResolverMethod(method)
+                        .withDeclaringType(params.getBeanType())
+                        .withInclusionStrategy(params.getInclusionStrategy())
+                        .withTypeTransformer(params.getTypeTransformer())
+                        .withEnvironment(params.getEnvironment())
+                        .build());
+            } else {
+                executable = new FieldAccessor((Field) member, params.getBeanType());
+                arguments = Collections.emptyList();
+            }
+            return new Resolver(record.name, record.description, record.deprecationReason, record.batched,
+                    executable, element, arguments, record.complexity);
+        }
+
+        private ResolverArgumentBuilder argumentBuilder(ResolverRecord record) {
+            return fallback.stream()
+                    .filter(builder -> builder instanceof AbstractResolverBuilder)
+                    .map(builder -> ((AbstractResolverBuilder) builder).getResolverArgumentBuilder())
+                    .filter(argumentBuilder -> argumentBuilder != null && argumentBuilder.getClass().getName().equals(record.argumentBuilder))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Resolver " + record.executable + " was recorded using "
+                            + record.argumentBuilder + " which is not configured on any of the current resolver builders"));
+        }
+
+        private synchronized Member member(String handle) {
+            return members.computeIfAbsent(handle, SchemaSnapshot::member);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.leangen.graphql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Denotes that the deserialized values of the annotated argument (or type) may be modified by the resolvers receiving
+ * them, and thus must never be shared between invocations. Excludes them from input value memoization.
+ *
+ * @see io.leangen.graphql.execution.InputValueMemo
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.PARAMETER, ElementType.TYPE_USE, ElementType.TYPE})
+public @interface GraphQLMutableInput {
+}
@@ -0,0 +1,54 @@
+package io.leangen.graphql.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects how events of a subscription are delivered to clients that consume them slower than they are produced.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+public @interface GraphQLSubscriptionDelivery {
+
+    Policy value();
+
+    /**
+     * The name of the event property whose value identifies the events that replace each other under {@link Policy#CONFLATE}.
+     * If empty, all events replace each other, so only the latest one is delivered.
+     */
+    String conflationKey() default "";
+
+    /**
+     * The maximum number of events in a single batch under {@link Policy#BATCH}.
+     */
+    int batchSize() default 100;
+
+    /**
+     * The time in milliseconds after which an incomplete batch is delivered under {@link Policy#BATCH}.
+     * If zero or negative, batches are only delivered once full (or once the subscription completes).
+     */
+    long batchWindowMillis() default 0;
+
+    /**
+     * The maximum number of events (or batches) pending delivery to a client.
+     * Once reached, the oldest pending event (or batch) is dropped.
+     */
+    int bufferSize() default 256;
+
+    enum Policy {
+        /**
+         * Pending events are replaced by newer events with the same {@link #conflationKey()}
+         */
+        CONFLATE,
+        /**
+         * Events are grouped into lists, and the subscription field is mapped as a list accordingly
+         */
+        BATCH,
+        /**
+         * Events are buffered up to {@link #bufferSize()}, after which the oldest are dropped
+         */
+        DROP_OLDEST
+    }
+}
@@ -0,0 +1,26 @@
+package io.leangen.graphql.execution;
+
+import graphql.ExecutionResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serializes an {@link ExecutionResult} (in its specification form: data, errors and extensions) as JSON,
+ * streaming it directly to an {@link OutputStream} instead of first rendering it as a whole.
+ *
+ * @see io.leangen.graphql.metadata.strategy.value.jackson.JacksonExecutionResultWriter
+ * @see io.leangen.graphql.metadata.strategy.value.gson.GsonExecutionResultWriter
+ */
+public interface ExecutionResultWriter {
+
+    /**
+     * Writes the given result as UTF-8 encoded JSON. The stream is flushed, but not closed.
+     *
+     * @param result The result to write
+     * @param out The stream to write to
+     *
+     * @throws IOException If writing to the stream fails
+     */
+    void write(ExecutionResult result, OutputStream out) throws IOException;
+}
@@ -1,6 +1,8 @@
 package io.leangen.graphql.execution;
 
 import graphql.relay.Relay;
+import io.leangen.graphql.execution.relay.DefaultGlobalIdCodec;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
 import io.leangen.graphql.generator.TypeRegistry;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorRegistry;
 import io.leangen.graphql.generator.mapping.ConverterRegistry;
@@ -13,6 +15,9 @@ import io.leangen.graphql.metadata.strategy.value.ValueMapper;
 
 import java.lang.reflect.AnnotatedType;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @SuppressWarnings("WeakerAccess")
 public class GlobalEnvironment {
@@ -25,6 +30,9 @@ public class GlobalEnvironment {
     public final TypeTransformer typeTransformer;
     public final InclusionStrategy inclusionStrategy;
     public final TypeInfoGenerator typeInfoGenerator;
+    public final GlobalIdCodec globalIdCodec;
+
+    private final Map<Object, Object> componentCaches = new ConcurrentHashMap<>();
 
     /**
      * @param messageBundle The global translation message bundle
@@ -40,6 +48,25 @@ public class GlobalEnvironment {
     public GlobalEnvironment(MessageBundle messageBundle, Relay relay, TypeRegistry typeRegistry, ConverterRegistry converters,
                              ArgumentInjectorRegistry injectors, TypeTransformer typeTransformer, InclusionStrategy inclusionStrategy,
                              TypeInfoGenerator typeInfoGenerator) {
+        this(messageBundle, relay, typeRegistry, converters, injectors, typeTransformer, inclusionStrategy, typeInfoGenerator,
+                new DefaultGlobalIdCodec());
+    }
+
+    /**
+     * @param messageBundle The global translation message bundle
+     * @param relay Relay mapping helper
+     * @param typeRegistry The repository of mapped types
+     * @param converters Repository of all registered {@link InputConverter}s
+*                   and {@link io.leangen.graphql.generator.mapping.OutputConverter}s
+     * @param injectors The repository of registered argument injectors
+     * @param typeTransformer Transformer used to pre-process the types (can be used to complete the missing generics etc)
+     * @param inclusionStrategy The strategy that decides which input fields are acceptable
+     * @param typeInfoGenerator The generator for type names and descriptions
+     * @param globalIdCodec The codec for Relay global IDs
+     */
+    public GlobalEnvironment(MessageBundle messageBundle, Relay relay, TypeRegistry typeRegistry, ConverterRegistry converters,
+                             ArgumentInjectorRegistry injectors, TypeTransformer typeTransformer, InclusionStrategy inclusionStrategy,
+                             TypeInfoGenerator typeInfoGenerator, GlobalIdCodec globalIdCodec) {
         this.messageBundle = messageBundle;
         this.relay = relay;
         this.typeRegistry = typeRegistry;
@@ -48,6 +75,7 @@ public class GlobalEnvironment {
         this.typeTransformer = typeTransformer;
         this.inclusionStrategy = inclusionStrategy;
         this.typeInfoGenerator = typeInfoGenerator;
+        this.globalIdCodec = globalIdCodec;
     }
 
     @SuppressWarnings("unchecked")
@@ -59,6 +87,23 @@ public class GlobalEnvironment {
         return inputConverter == null ? (T) input : inputConverter.convertInput(input, type, this, valueMapper);
     }
 
+    /**
+     * Returns the cache kept in this environment under the given key, creating it if necessary.
+     * Allows components that are reused across environments (e.g. a {@link io.leangen.graphql.metadata.strategy.value.ValueMapperFactory}
+     * used by multiple generators) to cache objects depending on an environment without keeping it reachable
+     * after it's gone.
+     *
+     * @param key The key identifying the cache, normally an object private to the component owning it
+     * @param cacheFactory Creates the cache for this environment if it doesn't exist yet
+     * @param <T> The type of the cache
+     *
+     * @return The (possibly newly created) cache kept under the given key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getComponentCache(Object key, Function<GlobalEnvironment, T> cacheFactory) {
+        return (T) componentCaches.computeIfAbsent(key, k -> cacheFactory.apply(this));
+    }
+
     public AnnotatedType getMappableInputType(AnnotatedType type) {
         return this.converters.getMappableInputType(type);
     }
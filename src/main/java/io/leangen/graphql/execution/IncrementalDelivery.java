@@ -0,0 +1,520 @@
+package io.leangen.graphql.execution;
+
+import graphql.DeferredExecutionResult;
+import graphql.DeferredExecutionResultImpl;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.GraphQLContext;
+import graphql.Scalars;
+import graphql.execution.ExecutionPath;
+import graphql.execution.ValuesResolver;
+import graphql.introspection.Introspection;
+import graphql.language.Directive;
+import graphql.language.Field;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLArgument;
+import graphql.schema.GraphQLDirective;
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLType;
+import io.leangen.graphql.util.GraphQLUtils;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Coordinates incremental delivery of a single request: the initial result is followed by the results of the fields
+ * deferred via {@code @defer} and then by the remaining items of the lists streamed via {@code @stream}.
+ * <p>Streaming is only supported for lists of scalars or enums produced as a {@link java.util.stream.Stream}
+ * or a {@link Publisher}. The items beyond {@code initialCount} are pulled from the source only once
+ * the client requests them, each delivered as a separate {@link DeferredExecutionResult} whose path ends with
+ * the index of the item. For any other field, {@code @stream} is ignored and the list is delivered whole.</p>
+ * <p>The {@link Publisher} produced by {@link #deliver(CompletableFuture)} must be subscribed to
+ * (and either consumed or cancelled), otherwise the streamed sources are never closed.</p>
+ *
+ * @see io.leangen.graphql.GraphQLRuntime#executeIncrementally(graphql.ExecutionInput)
+ */
+public class IncrementalDelivery {
+
+    public static final String STREAM = "stream";
+    public static final String INITIAL_COUNT = "initialCount";
+
+    public static final GraphQLDirective StreamDirective = GraphQLDirective.newDirective()
+            .name(STREAM)
+            .description("Directs the executor to deliver the list items incrementally, after the initial result")
+            .validLocation(Introspection.DirectiveLocation.FIELD)
+            .argument(GraphQLArgument.newArgument()
+                    .name(INITIAL_COUNT)
+                    .description("The number of items to deliver in the initial result")
+                    .type(Scalars.GraphQLInt)
+                    .defaultValue(0))
+            .build();
+
+    private static final String CONTEXT_KEY = IncrementalDelivery.class.getName();
+    private static final ValuesResolver valuesResolver = new ValuesResolver();
+
+    private final Queue<Streamed> streamed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Registers this instance with the request context, so that the adapters producing lists can find it.
+     *
+     * @param context The request context, as wrapped by {@link io.leangen.graphql.GraphQLRuntime}
+     */
+    public void attachTo(Object context) {
+        if (context instanceof ContextWrapper) {
+            ((ContextWrapper) context).putExtension(CONTEXT_KEY, this);
+        } else if (context instanceof GraphQLContext) {
+            ((GraphQLContext) context).put(CONTEXT_KEY, this);
+        }
+    }
+
+    /**
+     * Finds the instance coordinating the current request, if the request is executed incrementally
+     * and the current field is a streamable list annotated with {@code @stream}.
+     *
+     * @param env The environment of the field being resolved
+     *
+     * @return The coordinating instance, or {@code null} if the field is to be delivered whole
+     */
+    public static IncrementalDelivery forStreamedField(DataFetchingEnvironment env) {
+        Object context = env.getContext();
+        IncrementalDelivery delivery = null;
+        if (context instanceof ContextWrapper) {
+            delivery = ((ContextWrapper) context).getExtension(CONTEXT_KEY);
+        } else if (context instanceof GraphQLContext) {
+            delivery = ((GraphQLContext) context).get(CONTEXT_KEY);
+        }
+        if (delivery == null || getItemType(env) == null) {
+            return null;
+        }
+        return env.getMergedField().getFields().stream()
+                .map(Field::getDirectives)
+                .flatMap(List::stream)
+                .anyMatch(dir -> dir.getName().equals(STREAM)) ? delivery : null;
+    }
+
+    /**
+     * Delivers the first {@code initialCount} items in the initial result, and the rest incrementally.
+     *
+     * @param items The source of the list items
+     * @param converter Converts each item before it is delivered
+     * @param onClose Invoked once the source is exhausted or no longer needed
+     * @param env The environment of the field being resolved
+     * @param <T> The type of the source items
+     *
+     * @return The items to deliver in the initial result
+     */
+    public <T> List<Object> stream(Iterator<T> items, Function<T, Object> converter, Runnable onClose, DataFetchingEnvironment env) {
+        int initialCount = getInitialCount(env);
+        List<Object> initial = new ArrayList<>(Math.min(initialCount, 1024));
+        while (initial.size() < initialCount && items.hasNext()) {
+            initial.add(converter.apply(items.next()));
+        }
+        if (items.hasNext()) {
+            streamed.add(new StreamedIterator<>(items, converter, onClose, initial.size(), env));
+        } else {
+            onClose.run();
+        }
+        return initial;
+    }
+
+    /**
+     * Same as {@link #stream(Iterator, Function, Runnable, DataFetchingEnvironment)}, except that the items are pulled
+     * from a {@link Publisher}, subscribed to using the given {@code executor}.
+     *
+     * @param items The source of the list items
+     * @param converter Converts each item before it is delivered
+     * @param executor The executor to subscribe to {@code items} on
+     * @param env The environment of the field being resolved
+     * @param <T> The type of the source items
+     *
+     * @return A promise of the items to deliver in the initial result
+     */
+    public <T> CompletableFuture<List<Object>> stream(Publisher<T> items, Function<T, Object> converter, Executor executor, DataFetchingEnvironment env) {
+        StreamedPublisher<T> source = new StreamedPublisher<>(converter, getInitialCount(env), env);
+        streamed.add(source);
+        executor.execute(() -> items.subscribe(source));
+        return source.initial;
+    }
+
+    /**
+     * Produces the incremental result of the request, starting with the initial result once available.
+     *
+     * @param initialResult The promise of the initial result
+     *
+     * @return All the parts of the result, in the order of delivery
+     */
+    @SuppressWarnings("unchecked")
+    public Publisher<ExecutionResult> deliver(CompletableFuture<ExecutionResult> initialResult) {
+        return subscriber -> {
+            Concat concat = new Concat(subscriber);
+            concat.sources.add(downstream -> downstream.onSubscribe(new Subscription() {
+                private boolean requested;
+
+                @Override
+                public void request(long n) {
+                    if (requested) {
+                        return;
+                    }
+                    requested = true;
+                    initialResult.whenComplete((result, error) -> {
+                        if (error != null) {
+                            downstream.onError(error);
+                            return;
+                        }
+                        Map<Object, Object> extensions = result.getExtensions() != null ? new LinkedHashMap<>(result.getExtensions()) : null;
+                        Publisher<DeferredExecutionResult> deferred = extensions != null ? (Publisher<DeferredExecutionResult>) extensions.remove(GraphQL.DEFERRED_RESULTS) : null;
+                        if (deferred != null) {
+                            concat.sources.add((Publisher<ExecutionResult>) (Publisher<?>) deferred);
+                            result = new ExecutionResultImpl(result.getData(), result.getErrors(), extensions.isEmpty() ? null : extensions);
+                        }
+                        downstream.onNext(result);
+                        downstream.onComplete();
+                    });
+                }
+
+                @Override
+                public void cancel() {
+                    requested = true;
+                }
+            }));
+            subscriber.onSubscribe(concat);
+        };
+    }
+
+    private static int getInitialCount(DataFetchingEnvironment env) {
+        for (Field field : env.getMergedField().getFields()) {
+            Directive directive = field.getDirective(STREAM);
+            if (directive != null) {
+                Object initialCount = valuesResolver.getArgumentValues(env.getGraphQLSchema().getCodeRegistry(),
+                        StreamDirective.getArguments(), directive.getArguments(), env.getVariables()).get(INITIAL_COUNT);
+                return initialCount instanceof Integer ? Math.max((Integer) initialCount, 0) : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static GraphQLType getItemType(DataFetchingEnvironment env) {
+        GraphQLType fieldType = GraphQLUtils.unwrapNonNull(env.getFieldType());
+        if (!(fieldType instanceof GraphQLList)) {
+            return null;
+        }
+        GraphQLType itemType = GraphQLUtils.unwrapNonNull(((GraphQLList) fieldType).getWrappedType());
+        return itemType instanceof GraphQLScalarType || itemType instanceof GraphQLEnumType ? itemType : null;
+    }
+
+    private static Object serialize(Object item, GraphQLType itemType) {
+        if (item == null) {
+            return null;
+        }
+        if (itemType instanceof GraphQLScalarType) {
+            return ((GraphQLScalarType) itemType).getCoercing().serialize(item);
+        }
+        return ((GraphQLEnumType) itemType).getCoercing().serialize(item);
+    }
+
+    private static ExecutionResult itemResult(Object item, ExecutionPath path, GraphQLType itemType) {
+        return DeferredExecutionResultImpl.newDeferredExecutionResult()
+                .from(new ExecutionResultImpl(serialize(item, itemType), Collections.emptyList()))
+                .path(path)
+                .build();
+    }
+
+    private interface Streamed extends Publisher<ExecutionResult> {
+
+        void discard();
+    }
+
+    private class Concat implements Subscription, Subscriber<ExecutionResult> {
+
+        private final Subscriber<? super ExecutionResult> downstream;
+        private final Queue<Publisher<ExecutionResult>> sources = new ConcurrentLinkedQueue<>();
+        private Subscription current;
+        private long requested;
+        private boolean cancelled;
+        private boolean started;
+
+        Concat(Subscriber<? super ExecutionResult> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(new IllegalArgumentException("Requested " + n + " results, but the request must be positive (Reactive Streams §3.9)"));
+                return;
+            }
+            Subscription subscription;
+            boolean start;
+            synchronized (this) {
+                requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+                subscription = current;
+                start = !started;
+                started = true;
+            }
+            if (start) {
+                next();
+            } else if (subscription != null) {
+                subscription.request(n);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            Subscription subscription;
+            synchronized (this) {
+                cancelled = true;
+                subscription = current;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            discardAll();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            long demand;
+            boolean cancel;
+            synchronized (this) {
+                current = subscription;
+                demand = requested;
+                cancel = cancelled;
+            }
+            if (cancel) {
+                subscription.cancel();
+            } else if (demand > 0) {
+                subscription.request(demand);
+            }
+        }
+
+        @Override
+        public void onNext(ExecutionResult result) {
+            synchronized (this) {
+                if (requested != Long.MAX_VALUE) {
+                    requested--;
+                }
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            discardAll();
+            downstream.onError(error);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                current = null;
+            }
+            next();
+        }
+
+        private void next() {
+            Publisher<ExecutionResult> source = sources.poll();
+            if (source == null) {
+                source = streamed.poll();
+            }
+            if (source == null) {
+                downstream.onComplete();
+            } else {
+                source.subscribe(this);
+            }
+        }
+
+        private void discardAll() {
+            for (Streamed source = streamed.poll(); source != null; source = streamed.poll()) {
+                source.discard();
+            }
+        }
+    }
+
+    private static class StreamedIterator<T> implements Streamed {
+
+        private final Iterator<T> items;
+        private final Function<T, Object> converter;
+        private final Runnable onClose;
+        private final ExecutionPath path;
+        private final GraphQLType itemType;
+        private int index;
+        private boolean closed;
+
+        StreamedIterator(Iterator<T> items, Function<T, Object> converter, Runnable onClose, int index, DataFetchingEnvironment env) {
+            this.items = items;
+            this.converter = converter;
+            this.onClose = onClose;
+            this.index = index;
+            this.path = env.getExecutionStepInfo().getPath();
+            this.itemType = getItemType(env);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ExecutionResult> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    try {
+                        for (long i = 0; i < n && !closed; i++) {
+                            if (!items.hasNext()) {
+                                discard();
+                                subscriber.onComplete();
+                                return;
+                            }
+                            subscriber.onNext(itemResult(converter.apply(items.next()), path.segment(index++), itemType));
+                        }
+                        if (!closed && !items.hasNext()) {
+                            discard();
+                            subscriber.onComplete();
+                        }
+                    } catch (Exception e) {
+                        discard();
+                        subscriber.onError(e);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    discard();
+                }
+            });
+        }
+
+        @Override
+        public void discard() {
+            if (!closed) {
+                closed = true;
+                onClose.run();
+            }
+        }
+    }
+
+    private static class StreamedPublisher<T> implements Streamed, Subscriber<T> {
+
+        private final CompletableFuture<List<Object>> initial = new CompletableFuture<>();
+        private final Function<T, Object> converter;
+        private final int initialCount;
+        private final ExecutionPath path;
+        private final GraphQLType itemType;
+        private final List<Object> initialItems;
+        private volatile Subscription upstream;
+        private volatile Subscriber<? super ExecutionResult> downstream;
+        private volatile boolean completed;
+        private volatile Throwable error;
+        private int index;
+
+        StreamedPublisher(Function<T, Object> converter, int initialCount, DataFetchingEnvironment env) {
+            this.converter = converter;
+            this.initialCount = initialCount;
+            this.initialItems = new ArrayList<>(Math.min(initialCount, 1024));
+            this.path = env.getExecutionStepInfo().getPath();
+            this.itemType = getItemType(env);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            if (initialCount > 0) {
+                subscription.request(initialCount);
+            } else {
+                initial.complete(initialItems);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            Object converted = converter.apply(item);
+            if (index < initialCount) {
+                initialItems.add(converted);
+                if (++index == initialCount) {
+                    initial.complete(initialItems);
+                }
+            } else {
+                downstream.onNext(itemResult(converted, path.segment(index++), itemType));
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+            terminate();
+        }
+
+        @Override
+        public void onComplete() {
+            terminate();
+        }
+
+        private void terminate() {
+            Subscriber<? super ExecutionResult> subscriber;
+            synchronized (this) {
+                completed = true;
+                subscriber = downstream;
+            }
+            if (!initial.isDone()) {
+                //The error, if any, is reported in place of the remaining items
+                initial.complete(initialItems);
+            }
+            if (subscriber != null) {
+                signalTerminal(subscriber);
+            }
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ExecutionResult> subscriber) {
+            boolean terminated;
+            synchronized (this) {
+                downstream = subscriber;
+                terminated = completed;
+            }
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    if (upstream != null && !completed) {
+                        upstream.request(n);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    discard();
+                }
+            });
+            if (terminated) {
+                signalTerminal(subscriber);
+            }
+        }
+
+        @Override
+        public void discard() {
+            Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+        private void signalTerminal(Subscriber<? super ExecutionResult> subscriber) {
+            if (error != null) {
+                subscriber.onError(error);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+}
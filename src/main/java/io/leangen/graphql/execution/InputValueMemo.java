@@ -0,0 +1,140 @@
+package io.leangen.graphql.execution;
+
+import graphql.GraphQLContext;
+import io.leangen.graphql.annotations.GraphQLMutableInput;
+import io.leangen.graphql.metadata.OperationArgument;
+import io.leangen.graphql.util.ClassUtils;
+
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the deserialized argument values of a single request. When a variable is passed to a field resolved once
+ * per element of a list, it only gets deserialized the first time, and the same Java object is passed to all
+ * the subsequent invocations expecting the same type.
+ * <p>Only object and list inputs are memoized, keyed by the identity of the coerced input value and the target type.
+ * Arguments given as literals are coerced into new objects on each invocation, so {@link ResolutionEnvironment}
+ * only consults the memo for arguments whose values are variable references.
+ * As the values are shared, arguments whose values the resolvers might modify must be marked
+ * with {@link GraphQLMutableInput} (either directly, or on the argument type or any of its type parameters).</p>
+ *
+ * @see io.leangen.graphql.GraphQLRuntime.Builder#memoizeInputValues()
+ */
+public class InputValueMemo {
+
+    private static final String CONTEXT_KEY = InputValueMemo.class.getName();
+
+    private final Map<Key, Object> values = new ConcurrentHashMap<>();
+
+    /**
+     * Registers this instance with the request context, so that the argument values of the request get memoized.
+     *
+     * @param context The request context, as wrapped by {@link io.leangen.graphql.GraphQLRuntime}
+     */
+    public void attachTo(Object context) {
+        if (context instanceof ContextWrapper) {
+            ((ContextWrapper) context).putExtension(CONTEXT_KEY, this);
+        } else if (context instanceof GraphQLContext) {
+            ((GraphQLContext) context).put(CONTEXT_KEY, this);
+        }
+    }
+
+    /**
+     * Finds the instance attached to the given request context
+     *
+     * @param context The request context
+     *
+     * @return The attached instance, or {@code null} if the argument values of the request are not to be memoized
+     */
+    public static InputValueMemo from(Object context) {
+        if (context instanceof ContextWrapper) {
+            return ((ContextWrapper) context).getExtension(CONTEXT_KEY);
+        }
+        if (context instanceof GraphQLContext) {
+            return ((GraphQLContext) context).get(CONTEXT_KEY);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the memoized value of the given argument, deserializing it first if needed
+     *
+     * @param input The coerced input value
+     * @param argument The argument to deserialize the value for
+     * @param deserializer Deserializes the value when it is not yet memoized
+     *
+     * @return The deserialized value
+     */
+    public Object get(Object input, OperationArgument argument, Supplier<Object> deserializer) {
+        if (!isMemoizable(input, argument)) {
+            return deserializer.get();
+        }
+        Key key = new Key(input, argument.getJavaType());
+        Object value = values.get(key);
+        if (value == null) {
+            value = deserializer.get();
+            if (value != null) {
+                Object existing = values.putIfAbsent(key, value);
+                if (existing != null) {
+                    value = existing;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return The number of values currently memoized
+     */
+    public int size() {
+        return values.size();
+    }
+
+    private static boolean isMemoizable(Object input, OperationArgument argument) {
+        return (input instanceof Map || input instanceof Collection)
+                && (argument.getParameter() == null || !argument.getParameter().isAnnotationPresent(GraphQLMutableInput.class))
+                && !ClassUtils.containsTypeAnnotation(argument.getJavaType(), GraphQLMutableInput.class)
+                && !isMutableType(argument.getJavaType());
+    }
+
+    private static boolean isMutableType(AnnotatedType type) {
+        if (ClassUtils.getRawType(type.getType()).isAnnotationPresent(GraphQLMutableInput.class)) {
+            return true;
+        }
+        if (type instanceof AnnotatedParameterizedType) {
+            return Arrays.stream(((AnnotatedParameterizedType) type).getAnnotatedActualTypeArguments())
+                    .anyMatch(InputValueMemo::isMutableType);
+        }
+        return type instanceof AnnotatedArrayType && isMutableType(((AnnotatedArrayType) type).getAnnotatedGenericComponentType());
+    }
+
+    private static class Key {
+
+        private final Object input;
+        private final AnnotatedType type;
+
+        Key(Object input, AnnotatedType type) {
+            this.input = input;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            if (this == that) return true;
+            if (!(that instanceof Key)) return false;
+            Key other = (Key) that;
+            return input == other.input && type.equals(other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(input) + type.hashCode();
+        }
+    }
+}
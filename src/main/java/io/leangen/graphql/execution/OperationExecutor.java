@@ -68,6 +68,18 @@ public class OperationExecutor {
         return resolutionEnvironment.convertOutput(result, resolver.getTypedElement(), resolver.getReturnType());
     }
 
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public ValueMapper getValueMapper() {
+        return valueMapper;
+    }
+
+    public List<ResolverInterceptor> getInterceptors(Resolver resolver) {
+        return interceptors.get(resolver);
+    }
+
     /**
      * Prepares input arguments by calling respective {@link ArgumentInjector}s
      * and invokes the underlying resolver method/field
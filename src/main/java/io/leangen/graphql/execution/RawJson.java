@@ -0,0 +1,143 @@
+package io.leangen.graphql.execution;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A pre-serialized JSON value, returned by resolvers that already hold their result as JSON (e.g. cached documents
+ * or upstream responses). Mapped as the {@code RawJSON} scalar, it is carried through execution unchanged and spliced
+ * into the response as-is by {@link ExecutionResultWriter}s (and by Jackson, when
+ * {@link io.leangen.graphql.metadata.strategy.value.jackson.RawJsonModule} is registered), without ever being parsed.
+ * Binary content is written out without being decoded.
+ * <p>The content is not validated unless {@link #validate()} is invoked. Binary content must be UTF-8 encoded.</p>
+ *
+ * @see io.leangen.graphql.util.Scalars#GraphQLRawJson
+ */
+public final class RawJson {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Object content;
+    private volatile boolean valid;
+
+    private RawJson(Object content) {
+        this.content = Objects.requireNonNull(content);
+    }
+
+    public static RawJson of(byte[] json) {
+        return new RawJson(json);
+    }
+
+    public static RawJson of(ByteBuffer json) {
+        return new RawJson(json);
+    }
+
+    public static RawJson of(CharSequence json) {
+        return new RawJson(json);
+    }
+
+    /**
+     * @return The wrapped content: a {@code byte[]}, a {@link ByteBuffer} or a {@link CharSequence}
+     */
+    public Object getContent() {
+        return content;
+    }
+
+    /**
+     * Checks that the content is a single well-formed JSON value. The content is only scanned, never bound.
+     * The outcome is remembered, so repeated invocations are cheap.
+     *
+     * @return This instance, to allow method chaining
+     *
+     * @throws IllegalArgumentException If the content is not well-formed
+     */
+    public RawJson validate() {
+        if (!valid) {
+            try (JsonParser parser = createParser()) {
+                if (parser.nextToken() == null) {
+                    throw new IllegalArgumentException("Empty JSON content");
+                }
+                parser.skipChildren();
+                JsonToken trailing = parser.nextToken();
+                if (trailing != null) {
+                    throw new IllegalArgumentException("Unexpected content after the JSON value: " + trailing);
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Malformed JSON content: " + e.getMessage(), e);
+            }
+            valid = true;
+        }
+        return this;
+    }
+
+    private JsonParser createParser() throws IOException {
+        if (content instanceof byte[]) {
+            return JSON_FACTORY.createParser((byte[]) content);
+        }
+        if (content instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) content;
+            if (buffer.hasArray()) {
+                return JSON_FACTORY.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            }
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return JSON_FACTORY.createParser(bytes);
+        }
+        return JSON_FACTORY.createParser(content.toString());
+    }
+
+    /**
+     * Writes the content to the given stream as UTF-8 encoded JSON. Binary content is written as-is.
+     *
+     * @param out The stream to write to
+     *
+     * @return The number of bytes written
+     *
+     * @throws IOException If writing fails
+     */
+    public int writeTo(OutputStream out) throws IOException {
+        if (content instanceof byte[]) {
+            out.write((byte[]) content);
+            return ((byte[]) content).length;
+        }
+        if (content instanceof ByteBuffer) {
+            ByteBuffer buffer = ((ByteBuffer) content).duplicate();
+            int length = buffer.remaining();
+            if (buffer.hasArray()) {
+                out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            } else {
+                byte[] chunk = new byte[Math.min(length, 8192)];
+                while (buffer.hasRemaining()) {
+                    int count = Math.min(chunk.length, buffer.remaining());
+                    buffer.get(chunk, 0, count);
+                    out.write(chunk, 0, count);
+                }
+            }
+            return length;
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * @return The content as JSON text. Binary content is decoded on each invocation.
+     */
+    @Override
+    public String toString() {
+        if (content instanceof byte[]) {
+            return new String((byte[]) content, StandardCharsets.UTF_8);
+        }
+        if (content instanceof ByteBuffer) {
+            return StandardCharsets.UTF_8.decode(((ByteBuffer) content).duplicate()).toString();
+        }
+        return content.toString();
+    }
+}
@@ -1,15 +1,20 @@
 package io.leangen.graphql.execution;
 
 import graphql.execution.DataFetcherResult;
+import graphql.language.Argument;
+import graphql.language.Field;
+import graphql.language.VariableReference;
 import graphql.execution.ExecutionStepInfo;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLNamedType;
 import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.generator.mapping.ArgumentInjector;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
 import io.leangen.graphql.generator.mapping.ConverterRegistry;
 import io.leangen.graphql.generator.mapping.DelegatingOutputConverter;
 import io.leangen.graphql.generator.mapping.OutputConverter;
+import io.leangen.graphql.generator.mapping.common.InputValueDeserializer;
 import io.leangen.graphql.metadata.OperationArgument;
 import io.leangen.graphql.metadata.Resolver;
 import io.leangen.graphql.metadata.strategy.value.ValueMapper;
@@ -87,6 +92,10 @@ public class ResolutionEnvironment {
         return outputConverter == null ? (S) output : outputConverter.convertOutput(output, type, this);
     }
 
+    public boolean hasOutputConverter(AnnotatedElement element, AnnotatedType type) {
+        return converters.getOutputConverter(element, type) != null;
+    }
+
     public AnnotatedType getDerived(AnnotatedType type, int index) {
         try {
             return getDerived(type).get(index);
@@ -105,13 +114,34 @@ public class ResolutionEnvironment {
     public Object getInputValue(Object input, OperationArgument argument) {
         boolean argValuePresent = dataFetchingEnvironment.containsArgument(argument.getName());
         ArgumentInjectorParams params = new ArgumentInjectorParams(input, argValuePresent, argument.getJavaType(), argument.getBaseType(), argument.getParameter(), this);
-        Object value = this.globalEnvironment.injectors.getInjector(argument.getJavaType(), argument.getParameter()).getArgumentValue(params);
+        ArgumentInjector injector = this.globalEnvironment.injectors.getInjector(argument.getJavaType(), argument.getParameter());
+        InputValueMemo memo = argValuePresent && injector instanceof InputValueDeserializer ? InputValueMemo.from(rootContext) : null;
+        Object value = memo != null && isVariableReference(argument.getName())
+                ? memo.get(input, argument, () -> injector.getArgumentValue(params))
+                : injector.getArgumentValue(params);
         if (argValuePresent) {
             arguments.put(argument.getName(), value);
         }
         return value;
     }
 
+    /**
+     * Checks whether the value of the given argument is a variable reference. Only such values are the same instances
+     * every time the field is resolved, while values given as literals get coerced anew on each invocation.
+     */
+    private boolean isVariableReference(String argumentName) {
+        Field field = dataFetchingEnvironment.getField();
+        if (field == null) {
+            return false;
+        }
+        for (Argument argument : field.getArguments()) {
+            if (argument.getName().equals(argumentName)) {
+                return argument.getValue() instanceof VariableReference;
+            }
+        }
+        return false;
+    }
+
     public Directives getDirectives(ExecutionStepInfo step) {
         return new Directives(dataFetchingEnvironment, step);
     }
@@ -0,0 +1,40 @@
+package io.leangen.graphql.execution;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the events that were dropped or conflated by subscription delivery policies, per subscription field.
+ * Fields are identified by the name of the declaring type and the field name, so that fields of the same name
+ * in different schemas sharing the same metrics are counted separately.
+ *
+ * @see io.leangen.graphql.annotations.GraphQLSubscriptionDelivery
+ */
+public class SubscriptionDeliveryMetrics {
+
+    private final Map<String, LongAdder> dropped = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> conflated = new ConcurrentHashMap<>();
+
+    public void recordDropped(String typeName, String fieldName, long count) {
+        dropped.computeIfAbsent(coordinates(typeName, fieldName), name -> new LongAdder()).add(count);
+    }
+
+    public void recordConflated(String typeName, String fieldName) {
+        conflated.computeIfAbsent(coordinates(typeName, fieldName), name -> new LongAdder()).increment();
+    }
+
+    public long getDropped(String typeName, String fieldName) {
+        LongAdder counter = dropped.get(coordinates(typeName, fieldName));
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public long getConflated(String typeName, String fieldName) {
+        LongAdder counter = conflated.get(coordinates(typeName, fieldName));
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private static String coordinates(String typeName, String fieldName) {
+        return typeName + "." + fieldName;
+    }
+}
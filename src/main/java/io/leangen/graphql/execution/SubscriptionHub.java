@@ -0,0 +1,298 @@
+package io.leangen.graphql.execution;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares a single upstream subscription between all clients subscribed to the same operation with the same arguments.
+ * Events are fanned out to each client through its own bounded buffer, so a slow client never holds back the others.
+ * A client whose buffer overflows is immediately terminated with an error. The upstream subscription is cancelled as soon as
+ * the last client leaves, and the next client to arrive opens a fresh one.
+ */
+@SuppressWarnings("WeakerAccess")
+public class SubscriptionHub {
+
+    private final int bufferSize;
+    private final Map<Object, SharedPublisher<?>> shared = new ConcurrentHashMap<>();
+
+    public SubscriptionHub() {
+        this(256);
+    }
+
+    public SubscriptionHub(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    public <T> Publisher<T> share(Publisher<T> upstream, ResolutionEnvironment env) {
+        return share(getKey(env), upstream);
+    }
+
+    /**
+     * Returns a {@link Publisher} that, when subscribed to, joins the upstream subscription currently shared under
+     * {@code key}, or opens a new one using {@code upstream} if there is none.
+     *
+     * @param key The key identifying the shared upstream
+     * @param upstream The publisher to subscribe to if no upstream is shared under {@code key} yet
+     * @param <T> The type of the published events
+     *
+     * @return A publisher sharing the upstream under {@code key}
+     */
+    public <T> Publisher<T> share(Object key, Publisher<T> upstream) {
+        return subscriber -> attach(key, upstream, subscriber);
+    }
+
+    /**
+     * @return The number of upstream subscriptions currently open
+     */
+    public int getActiveUpstreamCount() {
+        return shared.size();
+    }
+
+    /**
+     * Identifies the subscriptions that can share an upstream. By default, these are all subscriptions
+     * to the same field with equal argument values.
+     *
+     * @param env The environment of the resolver that produced the upstream publisher
+     *
+     * @return The key identifying the shared upstream
+     */
+    protected Object getKey(ResolutionEnvironment env) {
+        return Arrays.asList(env.parentType.getName(),
+                env.dataFetchingEnvironment.getFieldDefinition().getName(),
+                env.dataFetchingEnvironment.getArguments());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void attach(Object key, Publisher<T> upstream, Subscriber<? super T> subscriber) {
+        while (true) {
+            SharedPublisher<T> publisher = (SharedPublisher<T>) shared.computeIfAbsent(key, k -> new SharedPublisher<>(k, upstream));
+            if (publisher.add(subscriber)) {
+                return;
+            }
+            //The upstream is being torn down, make room for a fresh one
+            shared.remove(key, publisher);
+        }
+    }
+
+    private class SharedPublisher<T> implements Subscriber<T> {
+
+        private final Object key;
+        private final Publisher<T> upstream;
+        private final List<ClientSubscription<T>> clients = new CopyOnWriteArrayList<>();
+        private volatile Subscription subscription;
+        private boolean connected;
+        private boolean terminated;
+
+        SharedPublisher(Object key, Publisher<T> upstream) {
+            this.key = key;
+            this.upstream = upstream;
+        }
+
+        boolean add(Subscriber<? super T> subscriber) {
+            ClientSubscription<T> client = new ClientSubscription<>(subscriber, this);
+            boolean connect;
+            synchronized (this) {
+                if (terminated) {
+                    return false;
+                }
+                clients.add(client);
+                connect = !connected;
+                connected = true;
+            }
+            subscriber.onSubscribe(client);
+            client.ready();
+            if (connect) {
+                upstream.subscribe(this);
+            }
+            return true;
+        }
+
+        void remove(ClientSubscription<T> client) {
+            synchronized (this) {
+                if (!clients.remove(client) || !clients.isEmpty() || terminated) {
+                    return;
+                }
+                terminated = true;
+            }
+            shared.remove(key, this);
+            Subscription current = this.subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            boolean cancel;
+            synchronized (this) {
+                this.subscription = subscription;
+                cancel = terminated;
+            }
+            if (cancel) {
+                subscription.cancel();
+            } else {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(T event) {
+            for (ClientSubscription<T> client : clients) {
+                client.offer(event);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            terminate(error);
+        }
+
+        @Override
+        public void onComplete() {
+            terminate(null);
+        }
+
+        private void terminate(Throwable error) {
+            synchronized (this) {
+                terminated = true;
+            }
+            shared.remove(key, this);
+            for (ClientSubscription<T> client : clients) {
+                client.complete(error);
+            }
+        }
+    }
+
+    private class ClientSubscription<T> implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final SharedPublisher<T> parent;
+        private final Queue<T> buffer = new ArrayDeque<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean ready;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        ClientSubscription(Subscriber<? super T> subscriber, SharedPublisher<T> parent) {
+            this.subscriber = subscriber;
+            this.parent = parent;
+        }
+
+        void ready() {
+            ready = true;
+            drain();
+        }
+
+        void offer(T event) {
+            if (done) {
+                return;
+            }
+            boolean overflow;
+            synchronized (buffer) {
+                overflow = buffer.size() == bufferSize;
+                if (overflow) {
+                    //The client is lagging too far behind to ever catch up, so fail it right away
+                    buffer.clear();
+                } else {
+                    buffer.add(event);
+                }
+            }
+            if (overflow) {
+                parent.remove(this);
+                complete(new IllegalStateException("Subscriber could not keep up: more than " + bufferSize + " events buffered"));
+            } else {
+                drain();
+            }
+        }
+
+        void complete(Throwable error) {
+            this.error = error;
+            this.done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                parent.remove(this);
+                complete(new IllegalArgumentException("Requested " + n + " events, but the request must be positive (Reactive Streams §3.9)"));
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                parent.remove(this);
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (ready) {
+                    long demand = requested.get();
+                    long emitted = 0;
+                    while (!cancelled) {
+                        boolean terminal = done;
+                        T event = null;
+                        if (emitted != demand) {
+                            synchronized (buffer) {
+                                event = buffer.poll();
+                            }
+                        }
+                        if (event == null) {
+                            if (terminal && isEmpty()) {
+                                cancelled = true;
+                                if (error != null) {
+                                    subscriber.onError(error);
+                                } else {
+                                    subscriber.onComplete();
+                                }
+                            }
+                            break;
+                        }
+                        subscriber.onNext(event);
+                        emitted++;
+                    }
+                    if (cancelled) {
+                        synchronized (buffer) {
+                            buffer.clear();
+                        }
+                    } else if (emitted != 0 && demand != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private boolean isEmpty() {
+            synchronized (buffer) {
+                return buffer.isEmpty();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.leangen.graphql.execution.relay;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Produces the same global IDs as {@link graphql.relay.Relay#toGlobalId(String, String)}: the URL-safe,
+ * unpadded Base64 encoding of {@code type:id}.
+ * <p>The encoding of the whole 3-byte groups of each {@code type:} prefix is computed once and reused,
+ * so only the ID (and up to 2 remaining bytes of the prefix) are encoded for each global ID.
+ * Numeric IDs are encoded straight from their digits.</p>
+ */
+public class DefaultGlobalIdCodec implements GlobalIdCodec {
+
+    private static final byte[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, Prefix> prefixes = new ConcurrentHashMap<>();
+
+    @Override
+    public String encode(String typeName, String id) {
+        byte[] bytes = utf8(id);
+        return prefix(typeName).encode(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public String encode(String typeName, long id) {
+        if (id == Long.MIN_VALUE) {
+            return encode(typeName, Long.toString(id));
+        }
+        byte[] digits = new byte[20];
+        int start = digits.length;
+        long remaining = Math.abs(id);
+        do {
+            digits[--start] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (id < 0) {
+            digits[--start] = '-';
+        }
+        return prefix(typeName).encode(digits, start, digits.length - start);
+    }
+
+    @Override
+    public GlobalId decode(String globalId) {
+        byte[] bytes = DECODER.decode(globalId);
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == ':') {
+                return new GlobalId(bytes, i);
+            }
+        }
+        throw new IllegalArgumentException(String.format("expecting a valid global id, got %s", globalId));
+    }
+
+    private Prefix prefix(String typeName) {
+        return prefixes.computeIfAbsent(typeName, Prefix::new);
+    }
+
+    private static byte[] utf8(String value) {
+        int length = value.length();
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+            bytes[i] = (byte) c;
+        }
+        return bytes;
+    }
+
+    private static class Prefix {
+
+        private final byte[] encoded;
+        private final byte[] tail;
+
+        Prefix(String typeName) {
+            byte[] raw = (typeName + ":").getBytes(StandardCharsets.UTF_8);
+            int whole = raw.length - raw.length % 3;
+            this.encoded = Base64.getUrlEncoder().withoutPadding().encode(Arrays.copyOf(raw, whole));
+            this.tail = Arrays.copyOfRange(raw, whole, raw.length);
+        }
+
+        String encode(byte[] id, int offset, int length) {
+            int remaining = tail.length + length;
+            byte[] out = new byte[encoded.length + remaining / 3 * 4 + (remaining % 3 == 0 ? 0 : remaining % 3 + 1)];
+            System.arraycopy(encoded, 0, out, 0, encoded.length);
+            int o = encoded.length;
+            int i = 0;
+            while (remaining - i >= 3) {
+                int bits = (byteAt(i, id, offset) & 0xff) << 16 | (byteAt(i + 1, id, offset) & 0xff) << 8 | (byteAt(i + 2, id, offset) & 0xff);
+                out[o++] = ALPHABET[bits >>> 18];
+                out[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+                out[o++] = ALPHABET[(bits >>> 6) & 0x3f];
+                out[o++] = ALPHABET[bits & 0x3f];
+                i += 3;
+            }
+            if (remaining - i == 1) {
+                int bits = (byteAt(i, id, offset) & 0xff) << 16;
+                out[o++] = ALPHABET[bits >>> 18];
+                out[o] = ALPHABET[(bits >>> 12) & 0x3f];
+            } else if (remaining - i == 2) {
+                int bits = (byteAt(i, id, offset) & 0xff) << 16 | (byteAt(i + 1, id, offset) & 0xff) << 8;
+                out[o++] = ALPHABET[bits >>> 18];
+                out[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+                out[o] = ALPHABET[(bits >>> 6) & 0x3f];
+            }
+            return new String(out, StandardCharsets.US_ASCII);
+        }
+
+        private byte byteAt(int index, byte[] id, int offset) {
+            return index < tail.length ? tail[index] : id[offset + index - tail.length];
+        }
+    }
+}
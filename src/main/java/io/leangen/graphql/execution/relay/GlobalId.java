@@ -0,0 +1,99 @@
+package io.leangen.graphql.execution.relay;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A decoded Relay global ID. When produced from the decoded bytes, the type name and the object ID are only
+ * turned into strings when (and if) requested, and numeric IDs can be read without going through a string at all.
+ */
+public class GlobalId {
+
+    private final byte[] bytes;
+    private final int separator;
+    private String type;
+    private String id;
+
+    public GlobalId(String type, String id) {
+        this.bytes = null;
+        this.separator = -1;
+        this.type = type;
+        this.id = id;
+    }
+
+    /**
+     * @param bytes The UTF-8 encoded {@code type:id} pair
+     * @param separator The index of the first colon, separating the type name from the ID
+     */
+    GlobalId(byte[] bytes, int separator) {
+        this.bytes = bytes;
+        this.separator = separator;
+    }
+
+    public String getType() {
+        if (type == null) {
+            type = new String(bytes, 0, separator, StandardCharsets.UTF_8);
+        }
+        return type;
+    }
+
+    public String getId() {
+        if (id == null) {
+            id = new String(bytes, separator + 1, bytes.length - separator - 1, StandardCharsets.UTF_8);
+        }
+        return id;
+    }
+
+    /**
+     * Reads the ID as a number in its canonical decimal form (an optional minus sign followed by digits,
+     * with no leading zeros)
+     *
+     * @return The numeric ID
+     *
+     * @throws NumberFormatException If the ID is not a number in the canonical form, or is out of range
+     */
+    public long getIdAsLong() {
+        if (bytes == null) {
+            return parseCanonical(id);
+        }
+        int start = separator + 1;
+        int length = bytes.length - start;
+        boolean negative = length > 0 && bytes[start] == '-';
+        int firstDigit = negative ? start + 1 : start;
+        int digits = bytes.length - firstDigit;
+        if (digits == 0 || digits > 19 || (bytes[firstDigit] == '0' && (digits > 1 || negative))) {
+            throw new NumberFormatException("Not a canonical numeric ID: " + getId());
+        }
+        long result = 0;
+        for (int i = firstDigit; i < bytes.length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a canonical numeric ID: " + getId());
+            }
+            //Accumulate negatively, as the negative range is larger
+            result = result * 10 - digit;
+            if (result > 0) {
+                throw new NumberFormatException("Numeric ID out of range: " + getId());
+            }
+        }
+        if (!negative) {
+            if (result == Long.MIN_VALUE) {
+                throw new NumberFormatException("Numeric ID out of range: " + getId());
+            }
+            result = -result;
+        }
+        return result;
+    }
+
+    private static long parseCanonical(String id) {
+        long result = Long.parseLong(id);
+        if (!Long.toString(result).equals(id)) {
+            throw new NumberFormatException("Not a canonical numeric ID: " + id);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getType() + ":" + getId();
+    }
+}
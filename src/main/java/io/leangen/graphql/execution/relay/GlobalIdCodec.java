@@ -0,0 +1,39 @@
+package io.leangen.graphql.execution.relay;
+
+/**
+ * Encodes and decodes Relay global IDs, combining the name of a GraphQL type with the ID of an object of that type.
+ *
+ * @see DefaultGlobalIdCodec
+ * @see io.leangen.graphql.GraphQLSchemaGenerator#withGlobalIdCodec(GlobalIdCodec)
+ */
+public interface GlobalIdCodec {
+
+    /**
+     * @param typeName The name of the GraphQL type
+     * @param id The serialized ID of the object
+     *
+     * @return The global ID
+     */
+    String encode(String typeName, String id);
+
+    /**
+     * Encodes a numeric ID. Must produce the same result as encoding its decimal representation.
+     *
+     * @param typeName The name of the GraphQL type
+     * @param id The ID of the object
+     *
+     * @return The global ID
+     */
+    default String encode(String typeName, long id) {
+        return encode(typeName, Long.toString(id));
+    }
+
+    /**
+     * @param globalId The global ID to decode
+     *
+     * @return The type name and the object ID the global ID consists of
+     *
+     * @throws IllegalArgumentException If the given string is not a valid global ID
+     */
+    GlobalId decode(String globalId);
+}
@@ -33,8 +33,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -68,6 +70,8 @@ public class BuildContext {
     public final List<Consumer<BuildContext>> postBuildHooks;
     public final List<AnnotatedType> additionalDirectives;
     public final GraphQLCodeRegistry.Builder codeRegistry;
+    public final SharedComponents sharedComponents;
+    public final GenerationProfiler profiler;
 
     final Validator validator;
 
@@ -98,6 +102,45 @@ public class BuildContext {
                         DirectiveBuilder directiveBuilder, InclusionStrategy inclusionStrategy, RelayMappingConfig relayMappingConfig,
                         Collection<GraphQLNamedType> knownTypes, List<AnnotatedType> additionalDirectives, Comparator<AnnotatedType> typeComparator,
                         ImplementationDiscoveryStrategy implementationStrategy, GraphQLCodeRegistry.Builder codeRegistry) {
+        this(basePackages, environment, operationRegistry, typeMappers, transformers, valueMapperFactory, typeInfoGenerator,
+                messageBundle, interfaceStrategy, scalarStrategy, typeTransformer, abstractInputHandler, inputFieldBuilders,
+                interceptorFactory, directiveBuilder, inclusionStrategy, relayMappingConfig, knownTypes, additionalDirectives,
+                typeComparator, implementationStrategy, codeRegistry, null);
+    }
+
+    /**
+     * Same as the other constructor, with an additional parameter
+     * @param sharedComponents The value mappers and executors shared with other schemas, or {@code null} if none are shared
+     */
+    public BuildContext(String[] basePackages, GlobalEnvironment environment, OperationRegistry operationRegistry,
+                        TypeMapperRegistry typeMappers, SchemaTransformerRegistry transformers, ValueMapperFactory valueMapperFactory,
+                        TypeInfoGenerator typeInfoGenerator, MessageBundle messageBundle, InterfaceMappingStrategy interfaceStrategy,
+                        ScalarDeserializationStrategy scalarStrategy, TypeTransformer typeTransformer, AbstractInputHandler abstractInputHandler,
+                        InputFieldBuilderRegistry inputFieldBuilders, ResolverInterceptorFactory interceptorFactory,
+                        DirectiveBuilder directiveBuilder, InclusionStrategy inclusionStrategy, RelayMappingConfig relayMappingConfig,
+                        Collection<GraphQLNamedType> knownTypes, List<AnnotatedType> additionalDirectives, Comparator<AnnotatedType> typeComparator,
+                        ImplementationDiscoveryStrategy implementationStrategy, GraphQLCodeRegistry.Builder codeRegistry,
+                        SharedComponents sharedComponents) {
+        this(basePackages, environment, operationRegistry, typeMappers, transformers, valueMapperFactory, typeInfoGenerator,
+                messageBundle, interfaceStrategy, scalarStrategy, typeTransformer, abstractInputHandler, inputFieldBuilders,
+                interceptorFactory, directiveBuilder, inclusionStrategy, relayMappingConfig, knownTypes, additionalDirectives,
+                typeComparator, implementationStrategy, codeRegistry, sharedComponents, GenerationProfiler.NONE);
+    }
+
+    /**
+     * Same as the other constructors, with additional parameters
+     * @param sharedComponents The value mappers and executors shared with other schemas, or {@code null} if none are shared
+     * @param profiler The profiler recording the cost of each generation step
+     */
+    public BuildContext(String[] basePackages, GlobalEnvironment environment, OperationRegistry operationRegistry,
+                        TypeMapperRegistry typeMappers, SchemaTransformerRegistry transformers, ValueMapperFactory valueMapperFactory,
+                        TypeInfoGenerator typeInfoGenerator, MessageBundle messageBundle, InterfaceMappingStrategy interfaceStrategy,
+                        ScalarDeserializationStrategy scalarStrategy, TypeTransformer typeTransformer, AbstractInputHandler abstractInputHandler,
+                        InputFieldBuilderRegistry inputFieldBuilders, ResolverInterceptorFactory interceptorFactory,
+                        DirectiveBuilder directiveBuilder, InclusionStrategy inclusionStrategy, RelayMappingConfig relayMappingConfig,
+                        Collection<GraphQLNamedType> knownTypes, List<AnnotatedType> additionalDirectives, Comparator<AnnotatedType> typeComparator,
+                        ImplementationDiscoveryStrategy implementationStrategy, GraphQLCodeRegistry.Builder codeRegistry,
+                        SharedComponents sharedComponents, GenerationProfiler profiler) {
         this.operationRegistry = operationRegistry;
         this.typeRegistry = environment.typeRegistry;
         this.transformers = transformers;
@@ -125,9 +168,11 @@ public class BuildContext {
         this.abstractInputHandler = abstractInputHandler;
         this.globalEnvironment = environment;
         this.relayMappingConfig = relayMappingConfig;
-        this.classFinder = new ClassFinder();
+        this.classFinder = new ClassFinder().withProfiler(profiler);
         this.validator = new Validator(environment, typeMappers, knownTypes, typeComparator);
         this.codeRegistry = codeRegistry;
+        this.sharedComponents = sharedComponents;
+        this.profiler = Objects.requireNonNull(profiler);
         this.postBuildHooks = new ArrayList<>(Collections.singletonList(context -> classFinder.close()));
     }
 
@@ -143,7 +188,11 @@ public class BuildContext {
                 .collect(Collectors.toList());
         Map<Class, List<Class<?>>> concreteSubTypes = abstractTypes.stream()
                 .collect(Collectors.toMap(Function.identity(), abs -> abstractInputHandler.findConcreteSubTypes(abs, this)));
-        return valueMapperFactory.getValueMapper(concreteSubTypes, globalEnvironment);
+        Supplier<ValueMapper> factory = () -> valueMapperFactory.getValueMapper(concreteSubTypes, globalEnvironment);
+        if (sharedComponents != null) {
+            return sharedComponents.getValueMapper(concreteSubTypes, this, factory);
+        }
+        return factory.get();
     }
 
     public GraphqlTypeComparatorRegistry comparatorRegistry(AnnotatedType type) {
@@ -0,0 +1,381 @@
+package io.leangen.graphql.generator;
+
+import io.leangen.graphql.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Records where the time (and, where the JVM supports measuring it, memory) goes during schema generation.
+ * Every measurement is attributed to a {@link Phase}, a subject (e.g. the Java type being mapped) and the component
+ * doing the work (e.g. the {@link io.leangen.graphql.generator.mapping.TypeMapper} class).
+ * <p>Measurements nest: mapping a type includes mapping its fields' types, discovering its input fields etc.
+ * The <i>total</i> time of an entry includes all the nested measurements, while its <i>self</i> time excludes them,
+ * so the self times of all entries add up to the duration of the generation.</p>
+ * <p>Work handed off to other threads (e.g. when building resolvers in parallel) is attributed to the measurement
+ * that handed it off, via {@link #inCurrentFrame(Function)}. As such work overlaps in time, the nested measurements
+ * can then add up to more than the enclosing one, whose self time is reported as 0 in that case.
+ * The self times then add up to the total work done across all threads, rather than the duration of the generation.</p>
+ * <p>Profiling is opt-in, via {@link io.leangen.graphql.GraphQLSchemaGenerator#withProfiler(GenerationProfiler)}.
+ * A single profiler can be used across multiple generations, accumulating the measurements.</p>
+ */
+public class GenerationProfiler {
+
+    /**
+     * A profiler that records nothing, used when profiling is not enabled
+     */
+    public static final GenerationProfiler NONE = new GenerationProfiler(false);
+
+    private static final AllocationCounter ALLOCATION_COUNTER = AllocationCounter.create();
+
+    private final boolean enabled;
+    private final Map<List<Object>, Stats> stats = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public GenerationProfiler() {
+        this(true);
+    }
+
+    private GenerationProfiler(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public enum Phase {
+        SCHEMA_GENERATION, RESOLVER_EXTRACTION, TYPE_MAPPING, INPUT_TYPE_MAPPING, SCHEMA_TRANSFORMATION,
+        INPUT_FIELD_DISCOVERY, CLASS_SCAN, VALUE_MAPPER_CREATION
+    }
+
+    /**
+     * Performs the given action, recording its duration (and allocation) if profiling is enabled
+     *
+     * @param phase The phase of the generation the action belongs to
+     * @param subject What the action works on, e.g. a Java type. Only converted to a string if profiling is enabled.
+     * @param component The class of the component performing the action
+     * @param action The action to perform
+     * @param <T> The type of the action's result
+     *
+     * @return The result of the action
+     */
+    public <T> T profile(Phase phase, Object subject, Class<?> component, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        Deque<Frame> stack = frames.get();
+        Frame frame = new Frame(ALLOCATION_COUNTER.allocatedBytes());
+        stack.push(frame);
+        try {
+            return action.get();
+        } finally {
+            stack.pop();
+            long nanos = System.nanoTime() - frame.startNanos;
+            long allocated = ALLOCATION_COUNTER.allocatedBytes() - frame.startAllocated;
+            Frame parent = stack.peek();
+            if (parent != null) {
+                parent.addChild(nanos, allocated);
+            }
+            stats.computeIfAbsent(Arrays.asList(phase, subjectName(subject), component.getName()), k -> new Stats())
+                    .record(nanos, frame.selfNanos(nanos), allocated, frame.selfAllocated(allocated));
+        }
+    }
+
+    /**
+     * Makes the measurements taken by the given task count as nested in the one currently in progress
+     * on the calling thread, even when the task is run on a different thread. Must be called on the thread
+     * handing off the work, e.g. before submitting it to a pool.
+     *
+     * @param task The task to be run on (possibly) different threads
+     * @param <T> The type of the task's input
+     * @param <R> The type of the task's result
+     *
+     * @return The task wrapped to attribute its measurements to the current one, or the task itself if there is none
+     */
+    public <T, R> Function<T, R> inCurrentFrame(Function<T, R> task) {
+        Frame parent = enabled ? frames.get().peek() : null;
+        if (parent == null) {
+            return task;
+        }
+        return input -> {
+            Deque<Frame> stack = frames.get();
+            stack.push(parent);
+            try {
+                return task.apply(input);
+            } finally {
+                stack.pop();
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return A snapshot of the measurements recorded so far
+     */
+    public Report getReport() {
+        List<Entry> entries = stats.entrySet().stream()
+                .map(e -> e.getValue().toEntry((Phase) e.getKey().get(0), (String) e.getKey().get(1), (String) e.getKey().get(2)))
+                .sorted(Comparator.comparingLong(Entry::getSelfNanos).reversed())
+                .collect(Collectors.toList());
+        return new Report(entries, ALLOCATION_COUNTER.isSupported());
+    }
+
+    private static String subjectName(Object subject) {
+        if (subject instanceof AnnotatedType) {
+            return ClassUtils.toString((AnnotatedType) subject);
+        }
+        if (subject instanceof Type) {
+            return ((Type) subject).getTypeName();
+        }
+        if (subject instanceof Collection) {
+            return ((Collection<?>) subject).stream()
+                    .map(GenerationProfiler::subjectName)
+                    .collect(Collectors.joining(", ", "[", "]"));
+        }
+        return String.valueOf(subject);
+    }
+
+    public static class Report {
+
+        private final List<Entry> entries;
+        private final boolean allocationTracked;
+
+        private Report(List<Entry> entries, boolean allocationTracked) {
+            this.entries = Collections.unmodifiableList(entries);
+            this.allocationTracked = allocationTracked;
+        }
+
+        /**
+         * @return All the entries, the most expensive (by self time) first
+         */
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        /**
+         * @param limit The maximum number of entries to return
+         *
+         * @return The most expensive entries (by self time)
+         */
+        public List<Entry> getHotspots(int limit) {
+            return entries.subList(0, Math.min(limit, entries.size()));
+        }
+
+        /**
+         * @return The self time spent in each phase, in nanoseconds
+         */
+        public Map<Phase, Long> getSelfNanosByPhase() {
+            Map<Phase, Long> phases = new EnumMap<>(Phase.class);
+            entries.forEach(entry -> phases.merge(entry.getPhase(), entry.getSelfNanos(), Long::sum));
+            return phases;
+        }
+
+        /**
+         * @return Whether the allocated bytes were measured. If not, all allocations are reported as 0.
+         */
+        public boolean isAllocationTracked() {
+            return allocationTracked;
+        }
+
+        public String toJson() {
+            StringBuilder json = new StringBuilder("{\"allocationTracked\":").append(allocationTracked).append(",\"phases\":{");
+            json.append(getSelfNanosByPhase().entrySet().stream()
+                    .map(phase -> "\"" + phase.getKey() + "\":" + phase.getValue())
+                    .collect(Collectors.joining(",")));
+            json.append("},\"entries\":[");
+            json.append(entries.stream().map(Entry::toJson).collect(Collectors.joining(",")));
+            return json.append("]}").toString();
+        }
+
+        @Override
+        public String toString() {
+            return getHotspots(20).stream().map(Entry::toString).collect(Collectors.joining("\n"));
+        }
+    }
+
+    public static class Entry {
+
+        private final Phase phase;
+        private final String subject;
+        private final String component;
+        private final long calls;
+        private final long totalNanos;
+        private final long selfNanos;
+        private final long allocatedBytes;
+        private final long selfAllocatedBytes;
+
+        private Entry(Phase phase, String subject, String component, long calls, long totalNanos, long selfNanos,
+                      long allocatedBytes, long selfAllocatedBytes) {
+            this.phase = phase;
+            this.subject = subject;
+            this.component = component;
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+            this.selfNanos = selfNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.selfAllocatedBytes = selfAllocatedBytes;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public String getComponent() {
+            return component;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return The time spent, including all nested measurements, in nanoseconds.
+         * Recursive calls for the same subject are counted once per call.
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return The time spent, excluding all nested measurements, in nanoseconds
+         */
+        public long getSelfNanos() {
+            return selfNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getSelfAllocatedBytes() {
+            return selfAllocatedBytes;
+        }
+
+        private String toJson() {
+            return String.format("{\"phase\":\"%s\",\"subject\":\"%s\",\"component\":\"%s\",\"calls\":%d,\"totalNanos\":%d," +
+                            "\"selfNanos\":%d,\"allocatedBytes\":%d,\"selfAllocatedBytes\":%d}",
+                    phase, escape(subject), escape(component), calls, totalNanos, selfNanos, allocatedBytes, selfAllocatedBytes);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s (%s): %d calls, %.3f ms self, %.3f ms total, %d bytes self",
+                    phase, subject, component, calls, selfNanos / 1e6, totalNanos / 1e6, selfAllocatedBytes);
+        }
+
+        private static String escape(String value) {
+            StringBuilder escaped = new StringBuilder(value.length());
+            for (char c : value.toCharArray()) {
+                if (c == '"' || c == '\\') {
+                    escaped.append('\\').append(c);
+                } else if (c < 0x20) {
+                    escaped.append(String.format("\\u%04x", (int) c));
+                } else {
+                    escaped.append(c);
+                }
+            }
+            return escaped.toString();
+        }
+    }
+
+    private static class Frame {
+
+        private final long startNanos = System.nanoTime();
+        private final long startAllocated;
+        private long childNanos;
+        private long childAllocated;
+
+        Frame(long startAllocated) {
+            this.startAllocated = startAllocated;
+        }
+
+        //Children may be measured on other threads, see inCurrentFrame
+        synchronized void addChild(long nanos, long allocated) {
+            this.childNanos += nanos;
+            this.childAllocated += allocated;
+        }
+
+        synchronized long selfNanos(long nanos) {
+            return Math.max(0, nanos - childNanos);
+        }
+
+        synchronized long selfAllocated(long allocated) {
+            return Math.max(0, allocated - childAllocated);
+        }
+    }
+
+    private static class Stats {
+
+        private long calls;
+        private long totalNanos;
+        private long selfNanos;
+        private long allocated;
+        private long selfAllocated;
+
+        synchronized void record(long nanos, long selfNanos, long allocated, long selfAllocated) {
+            this.calls++;
+            this.totalNanos += nanos;
+            this.selfNanos += selfNanos;
+            this.allocated += allocated;
+            this.selfAllocated += selfAllocated;
+        }
+
+        synchronized Entry toEntry(Phase phase, String subject, String component) {
+            return new Entry(phase, subject, component, calls, totalNanos, selfNanos, allocated, selfAllocated);
+        }
+    }
+
+    /**
+     * Measures the bytes allocated by the current thread, using the HotSpot-specific
+     * {@code com.sun.management.ThreadMXBean} where available
+     */
+    private static class AllocationCounter {
+
+        private final com.sun.management.ThreadMXBean threads;
+
+        private AllocationCounter(com.sun.management.ThreadMXBean threads) {
+            this.threads = threads;
+        }
+
+        static AllocationCounter create() {
+            try {
+                java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+                if (threads instanceof com.sun.management.ThreadMXBean) {
+                    com.sun.management.ThreadMXBean hotSpotThreads = (com.sun.management.ThreadMXBean) threads;
+                    if (hotSpotThreads.isThreadAllocatedMemorySupported() && hotSpotThreads.isThreadAllocatedMemoryEnabled()) {
+                        return new AllocationCounter(hotSpotThreads);
+                    }
+                }
+            } catch (LinkageError | UnsupportedOperationException e) {
+                //Not available on this JVM
+            }
+            return new AllocationCounter(null);
+        }
+
+        boolean isSupported() {
+            return threads != null;
+        }
+
+        long allocatedBytes() {
+            return threads == null ? 0 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+}
@@ -12,16 +12,23 @@ import java.util.Set;
 public class InputFieldBuilderRegistry {
 
     private final List<InputFieldBuilder> builders;
+    private final GenerationProfiler profiler;
 
     public InputFieldBuilderRegistry(List<InputFieldBuilder> builders) {
+        this(builders, GenerationProfiler.NONE);
+    }
+
+    public InputFieldBuilderRegistry(List<InputFieldBuilder> builders, GenerationProfiler profiler) {
         this.builders = builders;
+        this.profiler = profiler;
     }
 
     public Set<InputField> getInputFields(InputFieldBuilderParams params) {
         return builders.stream()
                 .filter(builder -> builder.supports(params.getType()))
                 .findFirst()
-                .map(builder -> builder.getInputFields(params))
+                .map(builder -> profiler.profile(GenerationProfiler.Phase.INPUT_FIELD_DISCOVERY, params.getType(), builder.getClass(),
+                        () -> builder.getInputFields(params)))
                 .orElseThrow(() -> new MappingException(String.format("No %s found for type %s",
                         InputFieldBuilder.class.getSimpleName(), ClassUtils.toString(params.getType()))));
     }
@@ -24,6 +24,7 @@ import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLId;
 import io.leangen.graphql.execution.ContextWrapper;
 import io.leangen.graphql.execution.OperationExecutor;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
 import io.leangen.graphql.generator.mapping.TypeMapper;
 import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
 import io.leangen.graphql.metadata.Directive;
@@ -112,7 +113,7 @@ public class OperationMapper {
         if (rootQueries.stream().noneMatch(query -> query.getName().equals(GraphQLUtils.NODE))) {
             Map<String, String> nodeQueriesByType = getNodeQueriesByType(rootQueries, queries, buildContext.typeRegistry, buildContext.node, buildContext);
             if (!nodeQueriesByType.isEmpty()) {
-                queries.add(buildContext.relay.nodeField(buildContext.node, createNodeResolver(nodeQueriesByType, buildContext.relay)));
+                queries.add(buildContext.relay.nodeField(buildContext.node, createNodeResolver(nodeQueriesByType, buildContext.globalEnvironment.globalIdCodec)));
             }
         }
         return queries;
@@ -206,7 +207,9 @@ public class OperationMapper {
      */
     public GraphQLOutputType toGraphQLType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
         env.addType(javaType);
-        GraphQLOutputType type = env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip).toGraphQLType(javaType, mappersToSkip, env);
+        TypeMapper mapper = env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip);
+        GraphQLOutputType type = env.buildContext.profiler.profile(GenerationProfiler.Phase.TYPE_MAPPING, javaType, mapper.getClass(),
+                () -> mapper.toGraphQLType(javaType, mappersToSkip, env));
         log(env.buildContext.validator.checkUniqueness(type, env.rootElement, javaType));
         env.buildContext.typeCache.completeType(type);
         return type;
@@ -247,7 +250,9 @@ public class OperationMapper {
      */
     public GraphQLInputType toGraphQLInputType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
         env.addType(javaType);
-        GraphQLInputType type = env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip).toGraphQLInputType(javaType, mappersToSkip, env);
+        TypeMapper mapper = env.buildContext.typeMappers.getTypeMapper(env.rootElement, javaType, mappersToSkip);
+        GraphQLInputType type = env.buildContext.profiler.profile(GenerationProfiler.Phase.INPUT_TYPE_MAPPING, javaType, mapper.getClass(),
+                () -> mapper.toGraphQLInputType(javaType, mappersToSkip, env));
         log(env.buildContext.validator.checkUniqueness(type, env.rootElement, javaType));
         return type;
     }
@@ -387,7 +392,11 @@ public class OperationMapper {
         if (operation.isBatched()) {
             return (BatchedDataFetcher) environment -> new OperationExecutor(operation, valueMapper, buildContext.globalEnvironment, buildContext.interceptorFactory).execute(environment);
         }
-        return new OperationExecutor(operation, valueMapper, buildContext.globalEnvironment, buildContext.interceptorFactory)::execute;
+        OperationExecutor executor = new OperationExecutor(operation, valueMapper, buildContext.globalEnvironment, buildContext.interceptorFactory);
+        if (buildContext.sharedComponents != null) {
+            executor = buildContext.sharedComponents.getOperationExecutor(executor, buildContext);
+        }
+        return executor::execute;
     }
 
     /**
@@ -397,15 +406,15 @@ public class OperationMapper {
      *
      * @param nodeQueriesByType A map of all queries whose return types implement the <em>Node</em> interface, keyed
      *                          by their corresponding GraphQL type name
-     * @param relay Relay helper
+     * @param globalIdCodec The codec for Relay global IDs
      *
      * @return The node query resolver
      */
-    private DataFetcher<?> createNodeResolver(Map<String, String> nodeQueriesByType, Relay relay) {
+    private DataFetcher<?> createNodeResolver(Map<String, String> nodeQueriesByType, GlobalIdCodec globalIdCodec) {
         return env -> {
             String typeName;
             try {
-                typeName = relay.fromGlobalId(env.getArgument(GraphQLId.RELAY_ID_FIELD_NAME)).getType();
+                typeName = globalIdCodec.decode(env.getArgument(GraphQLId.RELAY_ID_FIELD_NAME)).getType();
             } catch (Exception e) {
                 throw new IllegalArgumentException(env.getArgument(GraphQLId.RELAY_ID_FIELD_NAME) + " is not a valid Relay node ID");
             }
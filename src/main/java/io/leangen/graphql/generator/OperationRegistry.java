@@ -1,5 +1,6 @@
 package io.leangen.graphql.generator;
 
+import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.execution.GlobalEnvironment;
 import io.leangen.graphql.metadata.Operation;
 import io.leangen.graphql.metadata.Resolver;
@@ -8,6 +9,7 @@ import io.leangen.graphql.metadata.strategy.query.OperationBuilder;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
 import io.leangen.graphql.metadata.strategy.query.ResolverBuilderParams;
 import io.leangen.graphql.metadata.strategy.type.TypeTransformer;
+import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
@@ -19,9 +21,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class OperationRegistry {
 
@@ -34,11 +40,30 @@ public class OperationRegistry {
     private final TypeTransformer typeTransformer;
     private final String[] basePackages;
     private final GlobalEnvironment environment;
+    private final ForkJoinPool resolverBuildingPool;
+    private final GenerationProfiler profiler;
+    private final Map<Class<?>, List<Operation>> embeddableQueriesByContext;
+    private final Map<Type, Set<Operation>> embeddableQueries = new ConcurrentHashMap<>();
+    private final Map<AnnotatedType, Set<Operation>> nestedQueries = new ConcurrentHashMap<>();
 
     public OperationRegistry(OperationSourceRegistry operationSourceRegistry, OperationBuilder operationBuilder,
                              InclusionStrategy inclusionStrategy, TypeTransformer typeTransformer, String[] basePackages,
                              GlobalEnvironment environment) {
+        this(operationSourceRegistry, operationBuilder, inclusionStrategy, typeTransformer, basePackages, environment, null, GenerationProfiler.NONE);
+    }
+
+    /**
+     * @param resolverBuildingPool The pool used to build the resolvers of different operation sources in parallel,
+     *                             or {@code null} to build them sequentially. The resulting operations are the same
+     *                             (and in the same order) either way.
+     * @param profiler The profiler the work done on the {@code resolverBuildingPool} is reported to
+     */
+    public OperationRegistry(OperationSourceRegistry operationSourceRegistry, OperationBuilder operationBuilder,
+                             InclusionStrategy inclusionStrategy, TypeTransformer typeTransformer, String[] basePackages,
+                             GlobalEnvironment environment, ForkJoinPool resolverBuildingPool, GenerationProfiler profiler) {
 
+        this.resolverBuildingPool = resolverBuildingPool;
+        this.profiler = profiler;
         this.operationSourceRegistry = operationSourceRegistry;
         this.operationBuilder = operationBuilder;
         this.inclusionStrategy = inclusionStrategy;
@@ -51,6 +76,18 @@ public class OperationRegistry {
         queries = buildQueries(resolvers);
         mutations = buildMutations(mutationResolvers);
         subscriptions = buildSubscriptions(subscriptionResolvers);
+        embeddableQueriesByContext = indexEmbeddableQueries(queries);
+    }
+
+    /**
+     * Indexes the (unbatched) non-root queries by the raw type of their context, so that finding the queries
+     * embeddable into a type only requires checking those attached to one of its super types.
+     */
+    private static Map<Class<?>, List<Operation>> indexEmbeddableQueries(Set<Operation> queries) {
+        return queries.stream()
+                .filter(query -> !query.isRoot())
+                .map(Operation::unbatch)
+                .collect(Collectors.groupingBy(query -> GenericTypeReflector.erase(query.getContextType())));
     }
 
     private Set<Operation> buildQueries(List<Resolver> resolvers) {
@@ -102,10 +139,6 @@ public class OperationRegistry {
         return contextTypes;
     }
 
-    private Collection<Operation> getAllQueries() {
-        return queries;
-    }
-
     Collection<Operation> getRootQueries() {
         return queries.stream().filter(Operation::isRoot).collect(Collectors.toList());
     }
@@ -119,8 +152,7 @@ public class OperationRegistry {
     }
 
     private Set<Operation> getNestedQueries(AnnotatedType domainType) {
-        OperationSource domainSource = operationSourceRegistry.nestedSourceForType(domainType);
-        return buildNestedQueries(domainSource);
+        return nestedQueries.computeIfAbsent(domainType, type -> buildNestedQueries(operationSourceRegistry.nestedSourceForType(type)));
     }
 
     public Collection<Operation> getChildQueries(AnnotatedType domainType) {
@@ -137,10 +169,14 @@ public class OperationRegistry {
     }
 
     private Set<Operation> getEmbeddableQueries(Type domainType) {
-        return getAllQueries().stream()
-                .map(Operation::unbatch)
-                .filter(query -> query.isEmbeddableForType(domainType))
-                .collect(Collectors.toSet());
+        return embeddableQueries.computeIfAbsent(domainType, type -> {
+            Set<Class<?>> superTypes = ClassUtils.getSuperTypes(GenericTypeReflector.erase(type));
+            superTypes.add(Object.class);
+            return superTypes.stream()
+                    .flatMap(superType -> embeddableQueriesByContext.getOrDefault(superType, Collections.emptyList()).stream())
+                    .filter(query -> query.isEmbeddableForType(type))
+                    .collect(Collectors.toSet());
+        });
     }
 
     private Set<Operation> buildNestedQueries(OperationSource operationSource) {
@@ -166,11 +202,34 @@ public class OperationRegistry {
     }
 
     private List<Resolver> buildResolvers(Collection<OperationSource> operationSources, BiFunction<OperationSource, ResolverBuilder, Collection<Resolver>> building) {
-        return operationSources.stream()
-                .flatMap(operationSource ->
-                        operationSource.getResolverBuilders().stream()
-                                .flatMap(builder -> building.apply(operationSource, builder).stream())
-                                .distinct())
+        Function<OperationSource, Stream<Resolver>> perSource = operationSource -> operationSource.getResolverBuilders().stream()
+                .flatMap(builder -> building.apply(operationSource, builder).stream())
+                .distinct();
+        if (resolverBuildingPool == null || operationSources.size() < 2) {
+            return buildResolvers(operationSources.stream(), perSource);
+        }
+        //Captured here, as the pool's threads know nothing of the measurement in progress on this one
+        Function<OperationSource, Stream<Resolver>> profiledPerSource = profiler.inCurrentFrame(perSource);
+        //Ordered parallel streams keep the encounter order, so the result is identical to the sequential one
+        try {
+            return resolverBuildingPool.submit(() -> buildResolvers(operationSources.parallelStream(), profiledPerSource)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building resolvers", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private List<Resolver> buildResolvers(Stream<OperationSource> operationSources, Function<OperationSource, Stream<Resolver>> perSource) {
+        return operationSources
+                .flatMap(perSource)
                 .collect(Collectors.toList());
     }
 }
@@ -34,6 +34,10 @@ public class OperationSource {
         return javaType;
     }
 
+    Collection<ResolverBuilder> getAllResolverBuilders() {
+        return resolverBuilders;
+    }
+
     Collection<ResolverBuilder> getResolverBuilders() {
         return resolverBuilders.stream().filter(builder -> builder.supports(javaType)).collect(Collectors.toList());
     }
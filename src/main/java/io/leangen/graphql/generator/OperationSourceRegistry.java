@@ -7,6 +7,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 /**
  * Created by bojan.tomic on 7/12/16.
@@ -16,37 +18,73 @@ public class OperationSourceRegistry {
     private final Collection<ResolverBuilder> topLevelResolverBuilders = new LinkedHashSet<>();
     private final Collection<ResolverBuilder> nestedResolverBuilders = new LinkedHashSet<>();
     private final Collection<OperationSource> operationSources = new HashSet<>();
+    private UnaryOperator<Collection<ResolverBuilder>> topLevelDecorator = UnaryOperator.identity();
+    private UnaryOperator<Collection<ResolverBuilder>> nestedDecorator = UnaryOperator.identity();
+    //The sources and nested builders with the decorators applied, reset whenever anything they depend on changes
+    private Collection<OperationSource> decoratedOperationSources;
+    private Collection<ResolverBuilder> decoratedNestedResolverBuilders;
 
     public void registerOperationSource(Supplier<Object> querySourceBeanSupplier, AnnotatedType beanType) {
         this.operationSources.add(new OperationSource(querySourceBeanSupplier, beanType, topLevelResolverBuilders));
+        reset();
     }
 
     public void registerOperationSource(Supplier<Object> querySourceBeanSupplier, AnnotatedType beanType, Collection<ResolverBuilder> extractors) {
         this.operationSources.add(new OperationSource(querySourceBeanSupplier, beanType, extractors.isEmpty() ? topLevelResolverBuilders : extractors));
+        reset();
     }
 
     public void registerOperationSource(AnnotatedType serviceType) {
         this.operationSources.add(new OperationSource(serviceType, topLevelResolverBuilders));
+        reset();
     }
 
     public void registerOperationSource(AnnotatedType serviceType, Collection<ResolverBuilder> strategies) {
         this.operationSources.add(new OperationSource(serviceType, strategies));
+        reset();
     }
 
     public void registerGlobalResolverBuilders(Collection<ResolverBuilder> resolverDetectionStrategies) {
         this.topLevelResolverBuilders.addAll(resolverDetectionStrategies);
+        reset();
     }
 
     public void registerGlobalNestedResolverBuilders(Collection<ResolverBuilder> resolverDetectionStrategies) {
         this.nestedResolverBuilders.addAll(resolverDetectionStrategies);
+        reset();
+    }
+
+    /**
+     * Registers functions replacing the resolver builders of each operation source right before they're used.
+     *
+     * @param topLevel Applied to the builders of the registered (top-level) operation sources
+     * @param nested Applied to the builders of the nested operation sources (the domain types)
+     */
+    public void decorateResolverBuilders(UnaryOperator<Collection<ResolverBuilder>> topLevel, UnaryOperator<Collection<ResolverBuilder>> nested) {
+        this.topLevelDecorator = topLevel;
+        this.nestedDecorator = nested;
+        reset();
     }
 
     public OperationSource nestedSourceForType(AnnotatedType domainType) {
-        return new OperationSource(domainType, nestedResolverBuilders);
+        if (decoratedNestedResolverBuilders == null) {
+            decoratedNestedResolverBuilders = nestedDecorator.apply(nestedResolverBuilders);
+        }
+        return new OperationSource(domainType, decoratedNestedResolverBuilders);
     }
 
     public Collection<OperationSource> getOperationSources() {
-        return operationSources;
+        if (decoratedOperationSources == null) {
+            decoratedOperationSources = operationSources.stream()
+                    .map(source -> new OperationSource(source.getServiceBeanSupplier(), source.getJavaType(), topLevelDecorator.apply(source.getAllResolverBuilders())))
+                    .collect(Collectors.toList());
+        }
+        return decoratedOperationSources;
+    }
+
+    private void reset() {
+        this.decoratedOperationSources = null;
+        this.decoratedNestedResolverBuilders = null;
     }
 
     public boolean isEmpty() {
@@ -0,0 +1,153 @@
+package io.leangen.graphql.generator;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.execution.OperationExecutor;
+import io.leangen.graphql.metadata.OperationArgument;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.metadata.execution.FieldAccessor;
+import io.leangen.graphql.metadata.execution.MethodInvoker;
+import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runtime components that can be shared between multiple schemas generated from (mostly) the same configuration,
+ * e.g. by {@link io.leangen.graphql.SchemaFamily}.
+ * <p>Components are only shared when they would behave identically in every schema:</p>
+ * <ul>
+ *     <li>{@link ValueMapper}s are shared when produced by the same factory instance, for the same abstract input
+ *     types, under an equal {@link io.leangen.graphql.metadata.strategy.InclusionStrategy}</li>
+ *     <li>{@link OperationExecutor}s are shared only when all their resolvers are invoked on the source object
+ *     (as opposed to a service bean, which may differ between schemas), are equal, have equal interceptors
+ *     and, if the operation accepts input objects, share the value mapper</li>
+ * </ul>
+ * Both capture the {@link io.leangen.graphql.execution.GlobalEnvironment} (the converters, injectors,
+ * message bundle, Relay ID codec and the type registry of the schema), so they are only ever shared between
+ * schemas built in the same environment, and with the very same value mapper factory, type transformer and type info
+ * generator instances. As every generator creates its own environment, this in practice means components are
+ * only shared within a schema, e.g. between the equal executors of the types implementing the same interface.
+ */
+public class SharedComponents {
+
+    private final Map<List<Object>, ValueMapper> valueMappers = new ConcurrentHashMap<>();
+    private final Map<List<Object>, OperationExecutor> executors = new ConcurrentHashMap<>();
+    private final AtomicInteger valueMappersCreated = new AtomicInteger();
+    private final AtomicInteger valueMappersReused = new AtomicInteger();
+    private final AtomicInteger executorsCreated = new AtomicInteger();
+    private final AtomicInteger executorsReused = new AtomicInteger();
+
+    @SuppressWarnings("rawtypes")
+    ValueMapper getValueMapper(Map<Class, List<Class<?>>> concreteSubTypes, BuildContext buildContext, Supplier<ValueMapper> factory) {
+        List<Object> key = Arrays.asList(profile(buildContext), concreteSubTypes, buildContext.inclusionStrategy);
+        return share(valueMappers, key, factory, valueMappersCreated, valueMappersReused);
+    }
+
+    /**
+     * Returns an equivalent executor created previously, if one exists and is safe to share, or the given one otherwise.
+     *
+     * @param executor The newly created executor
+     * @param buildContext The context the executor was created in
+     *
+     * @return The executor to use
+     */
+    public OperationExecutor getOperationExecutor(OperationExecutor executor, BuildContext buildContext) {
+        Collection<Resolver> resolvers = executor.getOperation().getResolvers();
+        if (!resolvers.stream().allMatch(SharedComponents::isInvokedOnSource)) {
+            executorsCreated.incrementAndGet();
+            return executor;
+        }
+        boolean acceptsInput = resolvers.stream()
+                .flatMap(resolver -> resolver.getArguments().stream())
+                .anyMatch(OperationArgument::isMappable);
+        Set<List<Object>> resolverKeys = resolvers.stream()
+                .map(resolver -> Arrays.asList(
+                        resolver.getExecutable().getDelegate(),
+                        GenericTypeReflector.toCanonical(resolver.getTypedElement().getJavaType()),
+                        resolver.getTypedElement().getElements(),
+                        resolver.getArguments().stream().map(SharedComponents::argumentKey).collect(Collectors.toList()),
+                        String.valueOf(resolver.getComplexityExpression()),
+                        resolver.isBatched(),
+                        executor.getInterceptors(resolver)))
+                .collect(Collectors.toSet());
+        List<Object> key = Arrays.asList(profile(buildContext), resolverKeys, acceptsInput ? executor.getValueMapper() : null);
+        return share(executors, key, () -> executor, executorsCreated, executorsReused);
+    }
+
+    public int getValueMappersCreated() {
+        return valueMappersCreated.get();
+    }
+
+    public int getValueMappersReused() {
+        return valueMappersReused.get();
+    }
+
+    public int getExecutorsCreated() {
+        return executorsCreated.get();
+    }
+
+    public int getExecutorsReused() {
+        return executorsReused.get();
+    }
+
+    private static <T> T share(Map<List<Object>, T> shared, List<Object> key, Supplier<T> factory, AtomicInteger created, AtomicInteger reused) {
+        T existing = shared.get(key);
+        if (existing != null) {
+            reused.incrementAndGet();
+            return existing;
+        }
+        T component = factory.get();
+        existing = shared.putIfAbsent(key, component);
+        if (existing != null) {
+            reused.incrementAndGet();
+            return existing;
+        }
+        created.incrementAndGet();
+        return component;
+    }
+
+    private static boolean isInvokedOnSource(Resolver resolver) {
+        Class<?> executableType = resolver.getExecutable().getClass();
+        return executableType == MethodInvoker.class || executableType == FieldAccessor.class;
+    }
+
+    private static List<Object> argumentKey(OperationArgument argument) {
+        return Arrays.asList(argument.getName(), GenericTypeReflector.toCanonical(argument.getJavaType()),
+                String.valueOf(argument.getDefaultValue()), argument.isContext(), argument.isMappable(), argument.getParameter());
+    }
+
+    //Compared by identity, as the components may be configured differently, and the environment is per schema
+    private static List<Object> profile(BuildContext buildContext) {
+        return Arrays.asList(
+                new Identity(buildContext.globalEnvironment),
+                new Identity(buildContext.valueMapperFactory),
+                new Identity(buildContext.typeTransformer),
+                new Identity(buildContext.typeInfoGenerator));
+    }
+
+    private static class Identity {
+
+        private final Object component;
+
+        Identity(Object component) {
+            this.component = component;
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            return that instanceof Identity && ((Identity) that).component == component;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(component);
+        }
+    }
+}
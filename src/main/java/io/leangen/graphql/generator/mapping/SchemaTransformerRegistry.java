@@ -5,6 +5,7 @@ import graphql.schema.GraphQLDirective;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLInputObjectField;
 import io.leangen.graphql.generator.BuildContext;
+import io.leangen.graphql.generator.GenerationProfiler;
 import io.leangen.graphql.generator.OperationMapper;
 import io.leangen.graphql.metadata.Directive;
 import io.leangen.graphql.metadata.DirectiveArgument;
@@ -25,35 +26,45 @@ public class SchemaTransformerRegistry {
 
     public GraphQLFieldDefinition transform(GraphQLFieldDefinition field, Operation operation, OperationMapper operationMapper, BuildContext buildContext) {
         for (SchemaTransformer transformer : transformers) {
-            field = transformer.transformField(field, operation, operationMapper, buildContext);
+            GraphQLFieldDefinition current = field;
+            field = buildContext.profiler.profile(GenerationProfiler.Phase.SCHEMA_TRANSFORMATION, current.getName(), transformer.getClass(),
+                    () -> transformer.transformField(current, operation, operationMapper, buildContext));
         }
         return field;
     }
 
     public GraphQLInputObjectField transform(GraphQLInputObjectField field, InputField inputField, OperationMapper operationMapper, BuildContext buildContext) {
         for (SchemaTransformer transformer : transformers) {
-            field = transformer.transformInputField(field, inputField, operationMapper, buildContext);
+            GraphQLInputObjectField current = field;
+            field = buildContext.profiler.profile(GenerationProfiler.Phase.SCHEMA_TRANSFORMATION, current.getName(), transformer.getClass(),
+                    () -> transformer.transformInputField(current, inputField, operationMapper, buildContext));
         }
         return field;
     }
 
     public GraphQLArgument transform(GraphQLArgument argument, OperationArgument operationArgument, OperationMapper operationMapper, BuildContext buildContext) {
         for (SchemaTransformer transformer : transformers) {
-            argument = transformer.transformArgument(argument, operationArgument, operationMapper, buildContext);
+            GraphQLArgument current = argument;
+            argument = buildContext.profiler.profile(GenerationProfiler.Phase.SCHEMA_TRANSFORMATION, current.getName(), transformer.getClass(),
+                    () -> transformer.transformArgument(current, operationArgument, operationMapper, buildContext));
         }
         return argument;
     }
 
     public GraphQLArgument transform(GraphQLArgument argument, DirectiveArgument directiveArgument, OperationMapper operationMapper, BuildContext buildContext) {
         for (SchemaTransformer transformer : transformers) {
-            argument = transformer.transformArgument(argument, directiveArgument, operationMapper, buildContext);
+            GraphQLArgument current = argument;
+            argument = buildContext.profiler.profile(GenerationProfiler.Phase.SCHEMA_TRANSFORMATION, current.getName(), transformer.getClass(),
+                    () -> transformer.transformArgument(current, directiveArgument, operationMapper, buildContext));
         }
         return argument;
     }
 
     public GraphQLDirective transform(GraphQLDirective directive, Directive directiveModel, OperationMapper operationMapper, BuildContext buildContext) {
         for (SchemaTransformer transformer : transformers) {
-            directive = transformer.transformDirective(directive, directiveModel, operationMapper, buildContext);
+            GraphQLDirective current = directive;
+            directive = buildContext.profiler.profile(GenerationProfiler.Phase.SCHEMA_TRANSFORMATION, current.getName(), transformer.getClass(),
+                    () -> transformer.transformDirective(current, directiveModel, operationMapper, buildContext));
         }
         return directive;
     }
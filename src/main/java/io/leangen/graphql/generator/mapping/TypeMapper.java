@@ -17,5 +17,17 @@ public interface TypeMapper {
     GraphQLOutputType toGraphQLType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env);
     GraphQLInputType toGraphQLInputType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env);
 
+    /**
+     * Checks whether this mapper can map the given type.
+     * <p>The result must depend only on the type (including its annotations) and the annotations of the element
+     * (other than those merely naming and describing operations, arguments and fields, like
+     * {@link io.leangen.graphql.annotations.GraphQLQuery}), and must not change over time,
+     * as {@link TypeMapperRegistry} caches it per such shape.</p>
+     *
+     * @param element The element (method, field, parameter etc.) the type belongs to, if any
+     * @param type The type to check
+     *
+     * @return {@code true} if this mapper can map the given type, {@code false} otherwise
+     */
     boolean supports(AnnotatedElement element, AnnotatedType type);
 }
@@ -1,46 +1,181 @@
 package io.leangen.graphql.generator.mapping;
 
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLComplexity;
+import io.leangen.graphql.annotations.GraphQLEnumValue;
 import io.leangen.graphql.annotations.GraphQLIgnore;
+import io.leangen.graphql.annotations.GraphQLInputField;
+import io.leangen.graphql.annotations.GraphQLMutation;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.GraphQLSubscription;
 import io.leangen.graphql.metadata.exceptions.MappingException;
 import io.leangen.graphql.util.ClassUtils;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
+ * Dispatches types to the first {@link TypeMapper} that supports them.
+ * The results are cached per type shape (the type, the annotations on it and on the element it belongs to and
+ * the mappers to skip), so repeated occurrences of the same shape (e.g. common field types, or the re-checks done by
+ * {@link io.leangen.graphql.generator.Validator}) are only resolved once. Annotations merely naming and describing
+ * operations, arguments and fields (like {@link GraphQLQuery} or {@link GraphQLArgument}) are not considered.
+ * This relies on {@link TypeMapper#supports} being a pure function of the type and the element's annotations.
+ * <p>The key is built without canonicalizing the type or hashing annotation values, as doing so costs more than
+ * the scan it replaces. See {@code TypeMapperRegistryTest#benchmark} for the comparison.</p>
+ *
  * @author Bojan Tomic (kaqqao)
  */
 public class TypeMapperRegistry {
 
+    private static final Object MAPPABLE = new Object();
+    private static final Set<Class<? extends Annotation>> IRRELEVANT_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            GraphQLQuery.class, GraphQLMutation.class, GraphQLSubscription.class, GraphQLArgument.class,
+            GraphQLInputField.class, GraphQLEnumValue.class, GraphQLComplexity.class));
+
     private final List<TypeMapper> typeMappers;
+    private final Map<DispatchKey, Optional<TypeMapper>> dispatchCache = new ConcurrentHashMap<>();
+    private final Map<DispatchKey, AnnotatedType> mappableTypeCache = new ConcurrentHashMap<>();
 
     public TypeMapperRegistry(List<TypeMapper> typeMappers) {
         this.typeMappers = Collections.unmodifiableList(typeMappers);
     }
 
     public TypeMapper getTypeMapper(AnnotatedElement element, AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip) {
-        return getTypeMapper(element, javaType, typeMapper -> !mappersToSkip.contains(typeMapper.getClass()))
+        Set<Class<? extends TypeMapper>> skipped = mappersToSkip.isEmpty() ? Collections.emptySet() : new HashSet<>(mappersToSkip);
+        return getTypeMapper(element, javaType, skipped, typeMapper -> !skipped.contains(typeMapper.getClass()))
                 .orElseThrow(() -> new MappingException(String.format("No %s found for type %s",
                         TypeMapper.class.getSimpleName(), ClassUtils.toString(javaType))));
     }
 
-    private Optional<TypeMapper> getTypeMapper(AnnotatedElement element, AnnotatedType javaType, Predicate<TypeMapper> filter) {
-        return typeMappers.stream()
+    private Optional<TypeMapper> getTypeMapper(AnnotatedElement element, AnnotatedType javaType, Object filterKey, Predicate<TypeMapper> filter) {
+        return dispatchCache.computeIfAbsent(new DispatchKey(element, javaType, filterKey), k -> typeMappers.stream()
                 .filter(filter)
                 .filter(typeMapper -> typeMapper.supports(element, javaType))
-                .findFirst();
+                .findFirst());
     }
 
     public AnnotatedType getMappableType(AnnotatedElement element, AnnotatedType type) {
-        Optional<TypeMapper> mapper = this.getTypeMapper(element, type, typeMapper -> !typeMapper.getClass().isAnnotationPresent(GraphQLIgnore.class));
+        DispatchKey key = new DispatchKey(element, type, MAPPABLE);
+        AnnotatedType mappable = mappableTypeCache.get(key);
+        if (mappable == null) {
+            //Not computeIfAbsent as this recurses into the same map
+            mappable = resolveMappableType(element, type);
+            mappableTypeCache.put(key, mappable);
+        }
+        return mappable;
+    }
+
+    private AnnotatedType resolveMappableType(AnnotatedElement element, AnnotatedType type) {
+        Optional<TypeMapper> mapper = this.getTypeMapper(element, type, MAPPABLE, typeMapper -> !typeMapper.getClass().isAnnotationPresent(GraphQLIgnore.class));
         if (mapper.isPresent() && mapper.get() instanceof TypeSubstituter) {
             return getMappableType(element, ((TypeSubstituter) mapper.get()).getSubstituteType(type));
         }
         return ClassUtils.transformType(type, t -> getMappableType(element, t));
     }
+
+    /**
+     * A structural key that is cheap to build and hash: the (reflection-produced, structurally comparable)
+     * {@link java.lang.reflect.Type}, plus the annotations found on the type and its components and the relevant
+     * annotations on the element. The annotations of the type tree are listed in pre-order, each node's followed by
+     * a separator, so that annotations in different positions (e.g. {@code @GraphQLNonNull List<String>}
+     * and {@code List<@GraphQLNonNull String>}) never produce equal keys. Annotations are hashed by their type only,
+     * as hashing (and comparing) annotation instances goes through reflection, and are only compared by value
+     * when they have any.
+     */
+    private static class DispatchKey {
+
+        private static final Object NODE_SEPARATOR = new Object();
+
+        private final Type type;
+        private final List<Object> annotations = new ArrayList<>();
+        private final Object filterKey;
+        private final int hash;
+
+        DispatchKey(AnnotatedElement element, AnnotatedType type, Object filterKey) {
+            this.type = type.getType();
+            this.filterKey = filterKey;
+            collectAnnotations(type);
+            if (element != null) {
+                for (Annotation annotation : element.getAnnotations()) {
+                    if (!IRRELEVANT_ANNOTATIONS.contains(annotation.annotationType())) {
+                        annotations.add(annotation);
+                    }
+                }
+            }
+            int hash = 31 * this.type.hashCode() + filterKey.hashCode();
+            for (Object annotation : annotations) {
+                hash = 31 * hash + (annotation == NODE_SEPARATOR ? 1 : ((Annotation) annotation).annotationType().hashCode());
+            }
+            this.hash = hash;
+        }
+
+        private void collectAnnotations(AnnotatedType type) {
+            Collections.addAll(annotations, type.getAnnotations());
+            annotations.add(NODE_SEPARATOR);
+            if (type instanceof AnnotatedParameterizedType) {
+                for (AnnotatedType argument : ((AnnotatedParameterizedType) type).getAnnotatedActualTypeArguments()) {
+                    collectAnnotations(argument);
+                }
+            } else if (type instanceof AnnotatedArrayType) {
+                collectAnnotations(((AnnotatedArrayType) type).getAnnotatedGenericComponentType());
+            } else if (type instanceof AnnotatedWildcardType) {
+                for (AnnotatedType bound : ((AnnotatedWildcardType) type).getAnnotatedUpperBounds()) {
+                    collectAnnotations(bound);
+                }
+                for (AnnotatedType bound : ((AnnotatedWildcardType) type).getAnnotatedLowerBounds()) {
+                    collectAnnotations(bound);
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DispatchKey)) return false;
+            DispatchKey that = (DispatchKey) o;
+            if (hash != that.hash || annotations.size() != that.annotations.size()
+                    || !type.equals(that.type) || !filterKey.equals(that.filterKey)) {
+                return false;
+            }
+            for (int i = 0; i < annotations.size(); i++) {
+                if (!sameAnnotation(annotations.get(i), that.annotations.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean sameAnnotation(Object one, Object other) {
+            if (one == other) {
+                return true;
+            }
+            if (one == NODE_SEPARATOR || other == NODE_SEPARATOR) {
+                return false;
+            }
+            Class<? extends Annotation> annotationType = ((Annotation) one).annotationType();
+            return annotationType == ((Annotation) other).annotationType()
+                    && (annotationType.getDeclaredMethods().length == 0 || one.equals(other));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
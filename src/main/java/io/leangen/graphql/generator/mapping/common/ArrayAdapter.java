@@ -33,6 +33,11 @@ public class ArrayAdapter extends AbstractTypeSubstitutingMapper implements Dele
 
     @Override
     public Object convertOutput(Object original, AnnotatedType type, ResolutionEnvironment env) {
+        //Primitive elements can only be null-free leaves, so unless a converter applies to them, no per-element work is needed
+        if (original.getClass().getComponentType().isPrimitive()
+                && !env.hasOutputConverter(env.resolver.getTypedElement(), getElementType(type))) {
+            return PrimitiveArrays.asList(original);
+        }
         return IntStream.range(0, Array.getLength(original))
                 .mapToObj(i -> env.convertOutput(Array.get(original, i), env.resolver.getTypedElement(), getElementType(type)))
                 .toArray();
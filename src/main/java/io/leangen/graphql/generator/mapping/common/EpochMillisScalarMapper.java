@@ -0,0 +1,48 @@
+package io.leangen.graphql.generator.mapping.common;
+
+import graphql.schema.GraphQLScalarType;
+import io.leangen.graphql.generator.BuildContext;
+import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
+import io.leangen.graphql.util.Scalars;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+
+/**
+ * Maps {@link java.time.Instant}, {@link java.util.Date}, {@link java.time.LocalDateTime},
+ * {@link java.time.ZonedDateTime} and {@link java.time.OffsetDateTime} to scalars represented as milliseconds
+ * since the epoch, instead of ISO-8601 strings. Cheaper to produce and to consume in large (e.g. time-series)
+ * results, at the cost of sub-millisecond precision and the time-zone.
+ * <p>Not registered by default. Register it via
+ * {@link io.leangen.graphql.GraphQLSchemaGenerator#withTypeMappers(io.leangen.graphql.generator.mapping.TypeMapper...)}
+ * so that it takes precedence over {@link ScalarMapper}.</p>
+ *
+ * @see Scalars#epochMillisScalar(Class, String, String, Scalars.ThrowingFunction, Scalars.ThrowingFunction)
+ */
+public class EpochMillisScalarMapper extends CachingMapper<GraphQLScalarType, GraphQLScalarType> {
+
+    @Override
+    public GraphQLScalarType toGraphQLType(String typeName, AnnotatedType javaType, TypeMappingEnvironment env) {
+        return Scalars.toEpochMillisScalarType(javaType.getType());
+    }
+
+    @Override
+    public GraphQLScalarType toGraphQLInputType(String typeName, AnnotatedType javaType, TypeMappingEnvironment env) {
+        return toGraphQLType(typeName, javaType, env);
+    }
+
+    @Override
+    public boolean supports(AnnotatedElement element, AnnotatedType type) {
+        return Scalars.isEpochMillisScalar(type.getType());
+    }
+
+    @Override
+    protected String getTypeName(AnnotatedType type, BuildContext buildContext) {
+        return Scalars.toEpochMillisScalarType(type.getType()).getName();
+    }
+
+    @Override
+    protected String getInputTypeName(AnnotatedType type, BuildContext buildContext) {
+        return getTypeName(type, buildContext);
+    }
+}
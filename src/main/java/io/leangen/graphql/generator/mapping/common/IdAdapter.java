@@ -7,6 +7,8 @@ import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLId;
 import io.leangen.graphql.execution.GlobalEnvironment;
 import io.leangen.graphql.execution.ResolutionEnvironment;
+import io.leangen.graphql.execution.relay.GlobalId;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
 import io.leangen.graphql.generator.mapping.ArgumentInjector;
 import io.leangen.graphql.generator.mapping.ArgumentInjectorParams;
 import io.leangen.graphql.generator.mapping.InputConverter;
@@ -14,11 +16,14 @@ import io.leangen.graphql.generator.mapping.OutputConverter;
 import io.leangen.graphql.generator.mapping.TypeMapper;
 import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
 import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+import io.leangen.graphql.util.ClassUtils;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Parameter;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.leangen.graphql.util.Scalars.RelayId;
 
@@ -29,6 +34,12 @@ import static io.leangen.graphql.util.Scalars.RelayId;
  */
 public class IdAdapter implements TypeMapper, ArgumentInjector, OutputConverter<@GraphQLId Object, String>, InputConverter<@GraphQLId Object, String> {
 
+    private static final AnnotatedType LONG = GenericTypeReflector.annotate(Long.class);
+    private static final AnnotatedType INTEGER = GenericTypeReflector.annotate(Integer.class);
+
+    //Whether the value mapper serializes numbers as plain decimals, so that numeric IDs can be encoded directly
+    private final Map<ValueMapper, Boolean> decimalNumbers = new ConcurrentHashMap<>();
+
     @Override
     public GraphQLOutputType toGraphQLType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
         return javaType.getAnnotation(GraphQLId.class).relayId() ? RelayId : Scalars.GraphQLID;
@@ -41,20 +52,38 @@ public class IdAdapter implements TypeMapper, ArgumentInjector, OutputConverter<
 
     @Override
     public String convertOutput(Object original, AnnotatedType type, ResolutionEnvironment resolutionEnvironment) {
-        final String id = resolutionEnvironment.valueMapper.toString(original, type);
+        ValueMapper valueMapper = resolutionEnvironment.valueMapper;
         if (type.getAnnotation(GraphQLId.class).relayId()) {
-            return resolutionEnvironment.globalEnvironment.relay.toGlobalId(resolutionEnvironment.parentType.getName(), id);
+            GlobalIdCodec codec = resolutionEnvironment.globalEnvironment.globalIdCodec;
+            String typeName = resolutionEnvironment.parentType.getName();
+            if ((original instanceof Long || original instanceof Integer) && hasDecimalNumbers(valueMapper)) {
+                return codec.encode(typeName, ((Number) original).longValue());
+            }
+            return codec.encode(typeName, valueMapper.toString(original, type));
         }
-        return id;
+        return valueMapper.toString(original, type);
     }
 
     @Override
     public Object convertInput(String substitute, AnnotatedType type, GlobalEnvironment environment, ValueMapper valueMapper) {
         String id = substitute;
         if (type.getAnnotation(GraphQLId.class).relayId()) {
+            GlobalId globalId = null;
             try {
-                id = environment.relay.fromGlobalId(id).getId();
+                globalId = environment.globalIdCodec.decode(id);
+                id = globalId.getId();
             } catch (Exception e) {/*no-op*/}
+            if (globalId != null) {
+                Class<?> raw = ClassUtils.getRawType(type.getType());
+                try {
+                    if (raw == Long.class || raw == long.class) {
+                        return globalId.getIdAsLong();
+                    }
+                    if (raw == Integer.class || raw == int.class) {
+                        return Math.toIntExact(globalId.getIdAsLong());
+                    }
+                } catch (NumberFormatException | ArithmeticException e) {/*not canonical, leave it to the value mapper*/}
+            }
         }
         return valueMapper.fromString(id, type);
     }
@@ -68,6 +97,12 @@ public class IdAdapter implements TypeMapper, ArgumentInjector, OutputConverter<
         return convertInput(params.getInput().toString(), params.getType(), env.globalEnvironment, env.valueMapper);
     }
 
+    private boolean hasDecimalNumbers(ValueMapper valueMapper) {
+        return decimalNumbers.computeIfAbsent(valueMapper, mapper ->
+                Long.toString(Long.MIN_VALUE).equals(mapper.toString(Long.MIN_VALUE, LONG))
+                        && Integer.toString(Integer.MAX_VALUE).equals(mapper.toString(Integer.MAX_VALUE, INTEGER)));
+    }
+
     @Override
     public boolean supports(AnnotatedType type) {
         return type.isAnnotationPresent(GraphQLId.class);
@@ -0,0 +1,194 @@
+package io.leangen.graphql.generator.mapping.common;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only {@link List} views over primitive arrays. Unlike copying into an {@code Object[]},
+ * the views allocate nothing up front and only box an element when it is read during serialization
+ * (often not at all, as small values are served from the standard box caches).
+ */
+class PrimitiveArrays {
+
+    static List<?> asList(Object array) {
+        Class<?> component = array.getClass().getComponentType();
+        if (component == int.class) {
+            return new IntList((int[]) array);
+        }
+        if (component == long.class) {
+            return new LongList((long[]) array);
+        }
+        if (component == double.class) {
+            return new DoubleList((double[]) array);
+        }
+        if (component == float.class) {
+            return new FloatList((float[]) array);
+        }
+        if (component == short.class) {
+            return new ShortList((short[]) array);
+        }
+        if (component == byte.class) {
+            return new ByteList((byte[]) array);
+        }
+        if (component == boolean.class) {
+            return new BooleanList((boolean[]) array);
+        }
+        if (component == char.class) {
+            return new CharList((char[]) array);
+        }
+        throw new IllegalArgumentException(array.getClass().getName() + " is not a primitive array");
+    }
+
+    private static class IntList extends AbstractList<Integer> implements RandomAccess {
+
+        private final int[] array;
+
+        IntList(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static class LongList extends AbstractList<Long> implements RandomAccess {
+
+        private final long[] array;
+
+        LongList(long[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Long get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static class DoubleList extends AbstractList<Double> implements RandomAccess {
+
+        private final double[] array;
+
+        DoubleList(double[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Double get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static class FloatList extends AbstractList<Float> implements RandomAccess {
+
+        private final float[] array;
+
+        FloatList(float[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Float get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static class ShortList extends AbstractList<Short> implements RandomAccess {
+
+        private final short[] array;
+
+        ShortList(short[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Short get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static class ByteList extends AbstractList<Byte> implements RandomAccess {
+
+        private final byte[] array;
+
+        ByteList(byte[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Byte get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static class BooleanList extends AbstractList<Boolean> implements RandomAccess {
+
+        private final boolean[] array;
+
+        BooleanList(boolean[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Boolean get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    private static class CharList extends AbstractList<Character> implements RandomAccess {
+
+        private final char[] array;
+
+        CharList(char[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Character get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+}
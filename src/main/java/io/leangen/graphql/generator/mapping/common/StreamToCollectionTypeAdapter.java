@@ -3,6 +3,7 @@ package io.leangen.graphql.generator.mapping.common;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeFactory;
 import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.execution.IncrementalDelivery;
 import io.leangen.graphql.execution.ResolutionEnvironment;
 import io.leangen.graphql.generator.mapping.AbstractSimpleTypeAdapter;
 import io.leangen.graphql.generator.mapping.DelegatingOutputConverter;
@@ -21,7 +22,14 @@ public class StreamToCollectionTypeAdapter<T> extends AbstractSimpleTypeAdapter<
         implements DelegatingOutputConverter<Stream<T>, List<T>> {
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<T> convertOutput(Stream<T> original, AnnotatedType type, ResolutionEnvironment env) {
+        IncrementalDelivery delivery = IncrementalDelivery.forStreamedField(env.dataFetchingEnvironment);
+        if (delivery != null) {
+            AnnotatedType itemType = env.getDerived(type, 0);
+            return (List<T>) delivery.stream(original.iterator(),
+                    item -> env.convertOutput(item, env.resolver.getTypedElement(), itemType), original::close, env.dataFetchingEnvironment);
+        }
         try (Stream<T> stream = original) {
             return stream
                     .map(item -> env.<T, T>convertOutput(item, env.resolver.getTypedElement(), env.getDerived(type, 0)))
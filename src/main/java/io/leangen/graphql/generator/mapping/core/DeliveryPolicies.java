@@ -0,0 +1,341 @@
+package io.leangen.graphql.generator.mapping.core;
+
+import io.leangen.graphql.annotations.GraphQLSubscriptionDelivery;
+import io.leangen.graphql.execution.SubscriptionDeliveryMetrics;
+import io.leangen.graphql.util.ClassUtils;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Operators implementing the subscription delivery policies selected via {@link GraphQLSubscriptionDelivery}.
+ * Each operator requests everything from the upstream and holds the pending events according to its policy
+ * until the downstream requests them.
+ */
+class DeliveryPolicies {
+
+    private static final Object NO_KEY = new Object();
+
+    /**
+     * @param upstream The publisher returned by the resolver
+     * @param delivery The selected delivery policy
+     * @param typeName The name of the type declaring the subscription field, used to record metrics
+     * @param fieldName The name of the subscription field, used to record metrics
+     * @param metrics The metrics to record dropped and conflated events to
+     * @param scheduler Provides the scheduler closing batch windows, only invoked if a batch window is used
+     *
+     * @return The publisher applying the delivery policy
+     */
+    static Publisher<?> apply(Publisher<?> upstream, GraphQLSubscriptionDelivery delivery, String typeName, String fieldName,
+                              SubscriptionDeliveryMetrics metrics, Supplier<ScheduledExecutorService> scheduler) {
+        switch (delivery.value()) {
+            case CONFLATE:
+                return downstream -> upstream.subscribe(new Conflating<>(downstream, delivery, typeName, fieldName, metrics));
+            case BATCH:
+                return downstream -> upstream.subscribe(new Batching<>(downstream, delivery, typeName, fieldName, metrics, scheduler));
+            case DROP_OLDEST:
+                return downstream -> upstream.subscribe(new DroppingOldest<>(downstream, delivery, typeName, fieldName, metrics));
+            default:
+                throw new IllegalArgumentException("Unknown delivery policy " + delivery.value());
+        }
+    }
+
+    private static abstract class DeliverySubscription<T, R> implements Subscriber<T>, Subscription {
+
+        final int bufferSize;
+        final String typeName;
+        final String fieldName;
+        final SubscriptionDeliveryMetrics metrics;
+        private final Subscriber<? super R> downstream;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private volatile boolean failed;
+        private volatile Throwable error;
+
+        DeliverySubscription(Subscriber<? super R> downstream, GraphQLSubscriptionDelivery delivery, String typeName, String fieldName, SubscriptionDeliveryMetrics metrics) {
+            if (delivery.bufferSize() <= 0) {
+                throw new IllegalArgumentException("Buffer size must be positive");
+            }
+            this.downstream = downstream;
+            this.bufferSize = delivery.bufferSize();
+            this.typeName = typeName;
+            this.fieldName = fieldName;
+            this.metrics = metrics;
+        }
+
+        abstract void enqueue(T event);
+
+        abstract R poll();
+
+        abstract boolean isEmpty();
+
+        void flush() {}
+
+        void release() {}
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T event) {
+            if (done) {
+                return;
+            }
+            synchronized (this) {
+                enqueue(event);
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+            onComplete();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                flush();
+            }
+            done = true;
+            release();
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                upstream.cancel();
+                release();
+                error = new IllegalArgumentException("Requested " + n + " events, but the request must be positive (Reactive Streams §3.9)");
+                failed = true;
+                done = true;
+                drain();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstream.cancel();
+                release();
+            }
+        }
+
+        final void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                long demand = requested.get();
+                long emitted = 0;
+                while (!cancelled) {
+                    boolean terminal = done;
+                    R next = null;
+                    boolean empty;
+                    synchronized (this) {
+                        if (emitted != demand && !failed) {
+                            next = poll();
+                        }
+                        empty = isEmpty();
+                    }
+                    if (next == null) {
+                        if (terminal && (empty || failed)) {
+                            cancelled = true;
+                            if (error != null) {
+                                downstream.onError(error);
+                            } else {
+                                downstream.onComplete();
+                            }
+                        }
+                        break;
+                    }
+                    downstream.onNext(next);
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    private static class Conflating<T> extends DeliverySubscription<T, T> {
+
+        private final String conflationKey;
+        private final Map<Object, T> pending = new LinkedHashMap<>();
+
+        Conflating(Subscriber<? super T> downstream, GraphQLSubscriptionDelivery delivery, String typeName, String fieldName, SubscriptionDeliveryMetrics metrics) {
+            super(downstream, delivery, typeName, fieldName, metrics);
+            this.conflationKey = delivery.conflationKey();
+        }
+
+        @Override
+        void enqueue(T event) {
+            Object key = conflationKey.isEmpty() || event == null ? NO_KEY : ClassUtils.getFieldValue(event, conflationKey);
+            //Replacing the value of an existing key keeps its original position
+            if (pending.put(key == null ? NO_KEY : key, event) != null) {
+                metrics.recordConflated(typeName, fieldName);
+            } else if (pending.size() > bufferSize) {
+                Iterator<T> oldest = pending.values().iterator();
+                oldest.next();
+                oldest.remove();
+                metrics.recordDropped(typeName, fieldName, 1);
+            }
+        }
+
+        @Override
+        T poll() {
+            Iterator<T> oldest = pending.values().iterator();
+            if (!oldest.hasNext()) {
+                return null;
+            }
+            T event = oldest.next();
+            oldest.remove();
+            return event;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return pending.isEmpty();
+        }
+    }
+
+    private static class DroppingOldest<T> extends DeliverySubscription<T, T> {
+
+        private final Deque<T> pending = new ArrayDeque<>();
+
+        DroppingOldest(Subscriber<? super T> downstream, GraphQLSubscriptionDelivery delivery, String typeName, String fieldName, SubscriptionDeliveryMetrics metrics) {
+            super(downstream, delivery, typeName, fieldName, metrics);
+        }
+
+        @Override
+        void enqueue(T event) {
+            if (pending.size() == bufferSize) {
+                pending.removeFirst();
+                metrics.recordDropped(typeName, fieldName, 1);
+            }
+            pending.addLast(event);
+        }
+
+        @Override
+        T poll() {
+            return pending.pollFirst();
+        }
+
+        @Override
+        boolean isEmpty() {
+            return pending.isEmpty();
+        }
+    }
+
+    private static class Batching<T> extends DeliverySubscription<T, List<T>> {
+
+        private final int batchSize;
+        private final long batchWindowMillis;
+        private final Supplier<ScheduledExecutorService> scheduler;
+        private final Deque<List<T>> pending = new ArrayDeque<>();
+        private List<T> current;
+        private ScheduledFuture<?> timer;
+
+        Batching(Subscriber<? super List<T>> downstream, GraphQLSubscriptionDelivery delivery, String typeName, String fieldName,
+                 SubscriptionDeliveryMetrics metrics, Supplier<ScheduledExecutorService> scheduler) {
+            super(downstream, delivery, typeName, fieldName, metrics);
+            if (delivery.batchSize() <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            this.batchSize = delivery.batchSize();
+            this.batchWindowMillis = delivery.batchWindowMillis();
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        void enqueue(T event) {
+            if (current == null) {
+                current = new ArrayList<>(Math.min(batchSize, 16));
+                if (batchWindowMillis > 0) {
+                    List<T> batch = current;
+                    timer = scheduler.get().schedule(() -> onWindowClosed(batch), batchWindowMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            current.add(event);
+            if (current.size() == batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        void flush() {
+            if (current == null) {
+                return;
+            }
+            if (timer != null) {
+                timer.cancel(false);
+                timer = null;
+            }
+            if (pending.size() == bufferSize) {
+                metrics.recordDropped(typeName, fieldName, pending.removeFirst().size());
+            }
+            pending.addLast(current);
+            current = null;
+        }
+
+        @Override
+        List<T> poll() {
+            return pending.pollFirst();
+        }
+
+        @Override
+        boolean isEmpty() {
+            return pending.isEmpty();
+        }
+
+        @Override
+        synchronized void release() {
+            if (timer != null) {
+                timer.cancel(false);
+                timer = null;
+            }
+        }
+
+        private void onWindowClosed(List<T> batch) {
+            synchronized (this) {
+                //The batch may have already been delivered for being full
+                if (current != batch) {
+                    return;
+                }
+                timer = null;
+                flush();
+            }
+            drain();
+        }
+    }
+}
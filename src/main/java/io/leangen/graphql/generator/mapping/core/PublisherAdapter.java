@@ -1,16 +1,23 @@
 package io.leangen.graphql.generator.mapping.core;
 
 import graphql.ExceptionWhileDataFetching;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
 import graphql.execution.DataFetcherResult;
 import graphql.execution.ExecutionStepInfo;
 import graphql.language.OperationDefinition;
+import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLOutputType;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeFactory;
+import io.leangen.graphql.annotations.GraphQLSubscriptionDelivery;
+import io.leangen.graphql.execution.IncrementalDelivery;
 import io.leangen.graphql.execution.ResolutionEnvironment;
+import io.leangen.graphql.execution.SubscriptionDeliveryMetrics;
+import io.leangen.graphql.execution.SubscriptionHub;
 import io.leangen.graphql.generator.BuildContext;
 import io.leangen.graphql.generator.OperationMapper;
 import io.leangen.graphql.generator.mapping.OutputConverter;
@@ -26,15 +33,32 @@ import org.reactivestreams.Subscription;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class PublisherAdapter<T> extends AbstractTypeSubstitutingMapper<Object> implements SchemaTransformer, OutputConverter<Publisher<T>, Object> {
 
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    //Guards against huge upfront allocations when a large limit is requested
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+    //How long the thread of the default delivery scheduler is kept alive when idle
+    private static final long SCHEDULER_KEEP_ALIVE_SECONDS = 10;
+
     private final Executor executor;
+    private final PublisherCollectionConfig config;
+    private final SubscriptionHub subscriptionHub;
+    private final SubscriptionDeliveryMetrics deliveryMetrics;
+    private final ScheduledExecutorService deliveryScheduler;
+    private volatile ScheduledExecutorService defaultDeliveryScheduler;
 
     public PublisherAdapter() {
         this(Runnable::run); //Run on the caller thread
@@ -42,7 +66,57 @@ public class PublisherAdapter<T> extends AbstractTypeSubstitutingMapper<Object>
 
     @SuppressWarnings("WeakerAccess")
     public PublisherAdapter(Executor executor) {
+        this(executor, PublisherCollectionConfig.UNBOUNDED);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public PublisherAdapter(PublisherCollectionConfig config) {
+        this(Runnable::run, config);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public PublisherAdapter(Executor executor, PublisherCollectionConfig config) {
+        this(executor, config, null);
+    }
+
+    /**
+     * @param executor The executor on which Publishers returned from non-subscription operations are collected
+     * @param config Limits applied when collecting Publishers returned from non-subscription operations
+     * @param subscriptionHub If not {@code null}, used to share upstream Publishers between equal subscriptions
+     */
+    @SuppressWarnings("WeakerAccess")
+    public PublisherAdapter(Executor executor, PublisherCollectionConfig config, SubscriptionHub subscriptionHub) {
+        this(executor, config, subscriptionHub, new SubscriptionDeliveryMetrics());
+    }
+
+    /**
+     * @param executor The executor on which Publishers returned from non-subscription operations are collected
+     * @param config Limits applied when collecting Publishers returned from non-subscription operations
+     * @param subscriptionHub If not {@code null}, used to share upstream Publishers between equal subscriptions
+     * @param deliveryMetrics Records the events dropped or conflated by the policies selected via {@link GraphQLSubscriptionDelivery}
+     */
+    @SuppressWarnings("WeakerAccess")
+    public PublisherAdapter(Executor executor, PublisherCollectionConfig config, SubscriptionHub subscriptionHub, SubscriptionDeliveryMetrics deliveryMetrics) {
+        this(executor, config, subscriptionHub, deliveryMetrics, null);
+    }
+
+    /**
+     * @param executor The executor on which Publishers returned from non-subscription operations are collected
+     * @param config Limits applied when collecting Publishers returned from non-subscription operations
+     * @param subscriptionHub If not {@code null}, used to share upstream Publishers between equal subscriptions
+     * @param deliveryMetrics Records the events dropped or conflated by the policies selected via {@link GraphQLSubscriptionDelivery}
+     * @param deliveryScheduler Closes the batch windows of subscriptions delivered in batches. Its lifecycle is
+     *                          managed by the caller. If {@code null}, a scheduler is created on first use, and its
+     *                          only thread terminates when idle, so it never needs to be shut down.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public PublisherAdapter(Executor executor, PublisherCollectionConfig config, SubscriptionHub subscriptionHub,
+                            SubscriptionDeliveryMetrics deliveryMetrics, ScheduledExecutorService deliveryScheduler) {
         this.executor = executor;
+        this.config = config;
+        this.subscriptionHub = subscriptionHub;
+        this.deliveryMetrics = deliveryMetrics;
+        this.deliveryScheduler = deliveryScheduler;
     }
 
     @Override
@@ -58,8 +132,12 @@ public class PublisherAdapter<T> extends AbstractTypeSubstitutingMapper<Object>
 
     @Override
     public GraphQLFieldDefinition transformField(GraphQLFieldDefinition field, Operation operation, OperationMapper operationMapper, BuildContext buildContext) {
-        //Publisher returned from a subscription must be mapped as singular result (i.e. not a list)
+        //Publisher returned from a subscription must be mapped as singular result (i.e. not a list), unless batched
         if (operation.getOperationType() == OperationDefinition.Operation.SUBSCRIPTION) {
+            GraphQLSubscriptionDelivery delivery = operation.getTypedElement().getAnnotation(GraphQLSubscriptionDelivery.class);
+            if (delivery != null && delivery.value() == GraphQLSubscriptionDelivery.Policy.BATCH) {
+                return field;
+            }
             return field.transform(builder -> builder.type(unwrapList(field.getType())));
         }
         //In other operations, a Publisher is effectively equivalent to a list
@@ -70,7 +148,14 @@ public class PublisherAdapter<T> extends AbstractTypeSubstitutingMapper<Object>
     public Object convertOutput(Publisher<T> original, AnnotatedType type, ResolutionEnvironment resolutionEnvironment) {
         //Subscriptions are expected to return a Publisher directly, so no conversion needed
         if (resolutionEnvironment.dataFetchingEnvironment.getParentType() == resolutionEnvironment.dataFetchingEnvironment.getGraphQLSchema().getSubscriptionType()) {
-            return original;
+            Publisher<T> publisher = subscriptionHub != null ? subscriptionHub.share(original, resolutionEnvironment) : original;
+            GraphQLSubscriptionDelivery delivery = resolutionEnvironment.resolver.getTypedElement().getAnnotation(GraphQLSubscriptionDelivery.class);
+            if (delivery != null) {
+                String typeName = resolutionEnvironment.parentType.getName();
+                String fieldName = resolutionEnvironment.dataFetchingEnvironment.getFieldDefinition().getName();
+                return DeliveryPolicies.apply(publisher, delivery, typeName, fieldName, deliveryMetrics, this::getDeliveryScheduler);
+            }
+            return publisher;
         }
         //Otherwise, convert the Publisher into a CompletableFuture
         return convertOutputForNonSubscription(original, type, resolutionEnvironment);
@@ -78,7 +163,33 @@ public class PublisherAdapter<T> extends AbstractTypeSubstitutingMapper<Object>
 
     @SuppressWarnings("WeakerAccess")
     protected Object convertOutputForNonSubscription(Publisher<T> original, AnnotatedType type, ResolutionEnvironment resolutionEnvironment) {
-        return collect(original, resolutionEnvironment.dataFetchingEnvironment.getExecutionStepInfo());
+        IncrementalDelivery delivery = IncrementalDelivery.forStreamedField(resolutionEnvironment.dataFetchingEnvironment);
+        if (delivery != null) {
+            return delivery.stream(original, item -> item, executor, resolutionEnvironment.dataFetchingEnvironment);
+        }
+        return collect(original, resolutionEnvironment.dataFetchingEnvironment);
+    }
+
+    private ScheduledExecutorService getDeliveryScheduler() {
+        if (deliveryScheduler != null) {
+            return deliveryScheduler;
+        }
+        if (defaultDeliveryScheduler == null) {
+            synchronized (this) {
+                if (defaultDeliveryScheduler == null) {
+                    ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                        Thread thread = new Thread(runnable, "graphql-spqr-subscription-batching");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    scheduler.setKeepAliveTime(SCHEDULER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+                    scheduler.allowCoreThreadTimeOut(true);
+                    scheduler.setRemoveOnCancelPolicy(true);
+                    defaultDeliveryScheduler = scheduler;
+                }
+            }
+        }
+        return defaultDeliveryScheduler;
     }
 
     @Override
@@ -86,40 +197,114 @@ public class PublisherAdapter<T> extends AbstractTypeSubstitutingMapper<Object>
         return ClassUtils.isSuperClass(Publisher.class, type);
     }
 
-    private <R> CompletableFuture<DataFetcherResult<List<R>>> collect(Publisher<R> publisher, ExecutionStepInfo step) {
+    private <R> CompletableFuture<DataFetcherResult<List<R>>> collect(Publisher<R> publisher, DataFetchingEnvironment env) {
         CompletableFuture<DataFetcherResult<List<R>>> promise = new CompletableFuture<>();
+        ExecutionStepInfo step = env.getExecutionStepInfo();
+        long first = pagingArgument(env, "first");
+        //Only a limit imposed by the configuration (and not by the client) can truncate the result
+        boolean capped = first > config.maxSize;
+        long limit = capped ? config.maxSize : first;
+        long tail = Math.min(pagingArgument(env, "last"), limit);
+
+        if (limit == 0 || tail == 0) {
+            promise.complete(DataFetcherResult.<List<R>>newResult().data(Collections.emptyList()).build());
+            return promise;
+        }
 
         executor.execute(() -> publisher.subscribe(new Subscriber<R>() {
 
-            private List<R> buffer = new ArrayList<>();
+            //Only the last 'tail' elements are kept, but up to 'limit' are consumed
+            private final Deque<R> buffer = new ArrayDeque<>(initialCapacity(Math.min(tail, config.batchSize)));
+            //When truncation is reported, one extra element is needed to tell whether the upstream overflowed
+            private final long demandLimit = capped && config.reportTruncation ? limit + 1 : limit;
+            private Subscription subscription;
+            private long received;
+            private long outstanding;
+            private boolean done;
 
             @Override
             public void onSubscribe(Subscription subscription) {
-                subscription.request(Long.MAX_VALUE);
+                this.subscription = subscription;
+                requestMore();
             }
 
             @Override
             public void onNext(R result) {
-                buffer.add(result);
+                if (done) {
+                    return;
+                }
+                received++;
+                outstanding--;
+                if (received > limit) { //The extra element signaling overflow
+                    done = true;
+                    subscription.cancel();
+                    complete(truncationError());
+                    return;
+                }
+                if (buffer.size() == tail) {
+                    buffer.removeFirst();
+                }
+                buffer.addLast(result);
+                if (received == demandLimit) {
+                    done = true;
+                    subscription.cancel();
+                    complete(null);
+                } else if (outstanding == 0) {
+                    requestMore();
+                }
             }
 
             @Override
             public void onError(Throwable error) {
-                ExceptionWhileDataFetching wrapped = new ExceptionWhileDataFetching(step.getPath(), error, step.getField().getSingleField().getSourceLocation());
-                promise.complete(DataFetcherResult.<List<R>>newResult()
-                        .data(buffer)
-                        .error(wrapped)
-                        .build());
+                if (done) {
+                    return;
+                }
+                done = true;
+                complete(new ExceptionWhileDataFetching(step.getPath(), error, step.getField().getSingleField().getSourceLocation()));
             }
 
             @Override
             public void onComplete() {
-                promise.complete(DataFetcherResult.<List<R>>newResult().data(buffer).build());
+                if (done) {
+                    return;
+                }
+                done = true;
+                complete(null);
+            }
+
+            private void requestMore() {
+                outstanding = Math.min(config.batchSize, demandLimit - received);
+                subscription.request(outstanding);
+            }
+
+            private void complete(GraphQLError error) {
+                DataFetcherResult.Builder<List<R>> result = DataFetcherResult.<List<R>>newResult().data(new ArrayList<>(buffer));
+                if (error != null) {
+                    result.error(error);
+                }
+                promise.complete(result.build());
+            }
+
+            private GraphQLError truncationError() {
+                return GraphqlErrorBuilder.newError()
+                        .message("Result truncated to the maximum allowed size of %d elements", config.maxSize)
+                        .path(step.getPath())
+                        .location(step.getField().getSingleField().getSourceLocation())
+                        .build();
             }
         }));
         return promise;
     }
 
+    private long pagingArgument(DataFetchingEnvironment env, String name) {
+        Object value = config.respectPagingArguments ? env.getArgument(name) : null;
+        return value instanceof Number ? Math.max(((Number) value).longValue(), 0) : Long.MAX_VALUE;
+    }
+
+    private static int initialCapacity(long expectedSize) {
+        return expectedSize == Long.MAX_VALUE ? DEFAULT_INITIAL_CAPACITY : (int) Math.min(expectedSize, MAX_INITIAL_CAPACITY);
+    }
+
     private GraphQLOutputType unwrapList(GraphQLOutputType type) {
         if (type instanceof GraphQLList) {
             return (GraphQLOutputType) ((GraphQLList) type).getWrappedType();
@@ -0,0 +1,44 @@
+package io.leangen.graphql.generator.mapping.core;
+
+/**
+ * Controls how {@link PublisherAdapter} collects the elements of a {@link org.reactivestreams.Publisher}
+ * returned from a non-subscription operation.
+ */
+public class PublisherCollectionConfig {
+
+    /**
+     * The number of elements requested from the upstream at a time. {@link Long#MAX_VALUE} requests everything at once.
+     */
+    public final long batchSize;
+    /**
+     * The maximum number of elements collected, regardless of the paging arguments. {@link Long#MAX_VALUE} means no limit.
+     */
+    public final long maxSize;
+    /**
+     * Whether the {@code first} and {@code last} arguments of the field (if present) should further limit the collected elements.
+     */
+    public final boolean respectPagingArguments;
+    /**
+     * Whether an error should be reported together with the partial data when {@link #maxSize} was exceeded.
+     */
+    public final boolean reportTruncation;
+
+    public static final PublisherCollectionConfig UNBOUNDED = new PublisherCollectionConfig(Long.MAX_VALUE, Long.MAX_VALUE, false, false);
+
+    public PublisherCollectionConfig(long batchSize, long maxSize, boolean respectPagingArguments, boolean reportTruncation) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative");
+        }
+        this.batchSize = batchSize;
+        this.maxSize = maxSize;
+        this.respectPagingArguments = respectPagingArguments;
+        this.reportTruncation = reportTruncation;
+    }
+
+    public static PublisherCollectionConfig bounded(long batchSize, long maxSize) {
+        return new PublisherCollectionConfig(batchSize, maxSize, true, true);
+    }
+}
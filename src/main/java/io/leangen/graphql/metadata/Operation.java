@@ -28,6 +28,7 @@ public class Operation {
     private final List<OperationArgument> arguments;
     private final OperationDefinition.Operation operationType;
     private final boolean batched;
+    private Operation unbatched;
 
     public Operation(String name, AnnotatedType javaType, Type contextType, List<OperationArgument> arguments,
                      List<Resolver> resolvers, OperationDefinition.Operation operationType, boolean batched) {
@@ -50,7 +51,14 @@ public class Operation {
     }
     
     public Operation unbatch() {
-        return batched ? new UnbatchedOperation(this) : this;
+        if (!batched) {
+            return this;
+        }
+        //Benign race: at worst, equivalent instances get created concurrently
+        if (unbatched == null) {
+            unbatched = new UnbatchedOperation(this);
+        }
+        return unbatched;
     }
     
     private Map<String, Resolver> collectResolversByFingerprint(List<Resolver> resolvers) {
@@ -75,6 +83,10 @@ public class Operation {
         return contextType != null && GenericTypeReflector.isSuperType(contextType, type);
     }
 
+    public Type getContextType() {
+        return contextType;
+    }
+
     public boolean isRoot() {
         return this.contextType == null;
     }
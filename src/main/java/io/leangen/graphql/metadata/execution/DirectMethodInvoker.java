@@ -0,0 +1,37 @@
+package io.leangen.graphql.metadata.execution;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * Invokes the resolver method through a direct call (e.g. a generated lambda) instead of reflection.
+ * The wrapped {@link Method} is still used for all the metadata.
+ */
+public class DirectMethodInvoker extends MethodInvoker {
+
+    private final Invocation invocation;
+    private final Supplier<Object> targetSupplier;
+
+    public DirectMethodInvoker(Invocation invocation, Supplier<Object> targetSupplier, Method resolverMethod, AnnotatedType enclosingType) {
+        super(resolverMethod, enclosingType);
+        this.invocation = invocation;
+        this.targetSupplier = targetSupplier;
+    }
+
+    @Override
+    public Object execute(Object target, Object[] args) throws InvocationTargetException {
+        try {
+            return invocation.invoke(targetSupplier == null ? target : targetSupplier.get(), args);
+        } catch (Throwable e) {
+            //Same as reflective invocation, so the original exception gets unwrapped the same way
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Invocation {
+        Object invoke(Object target, Object[] args) throws Throwable;
+    }
+}
@@ -36,6 +36,10 @@ public abstract class AbstractResolverBuilder implements ResolverBuilder {
         return this;
     }
 
+    public ResolverArgumentBuilder getResolverArgumentBuilder() {
+        return argumentBuilder;
+    }
+
     public AbstractResolverBuilder withPropertyElementReducer(BinaryOperator<TypedElement> propertyElementReducer) {
         this.propertyElementReducer = propertyElementReducer;
         return this;
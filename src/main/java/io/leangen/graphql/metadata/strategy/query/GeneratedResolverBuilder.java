@@ -0,0 +1,157 @@
+package io.leangen.graphql.metadata.strategy.query;
+
+import graphql.language.OperationDefinition;
+import io.leangen.graphql.metadata.OperationArgument;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.metadata.TypedElement;
+import io.leangen.graphql.metadata.execution.DirectMethodInvoker;
+import io.leangen.graphql.metadata.execution.Executable;
+import io.leangen.graphql.metadata.execution.FieldAccessor;
+import io.leangen.graphql.metadata.messages.MessageBundle;
+import io.leangen.graphql.util.ClassUtils;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The base class of the resolver builders generated at compile time by
+ * {@link io.leangen.graphql.processing.ResolverBuilderProcessor}. Produces the same resolvers
+ * {@link AnnotatedResolverBuilder} would, except the operation names, descriptions etc. are precomputed,
+ * the members are looked up directly instead of scanning the whole class, and methods are invoked via direct calls.
+ */
+public abstract class GeneratedResolverBuilder extends AbstractResolverBuilder {
+
+    private final Class<?> serviceType;
+    private final List<Binding> bindings;
+
+    protected GeneratedResolverBuilder(Class<?> serviceType, Binding... bindings) {
+        this.serviceType = serviceType;
+        this.bindings = Arrays.asList(bindings);
+        this.argumentBuilder = new AnnotatedArgumentBuilder();
+    }
+
+    @Override
+    public Collection<Resolver> buildQueryResolvers(ResolverBuilderParams params) {
+        return buildResolvers(params, OperationDefinition.Operation.QUERY);
+    }
+
+    @Override
+    public Collection<Resolver> buildMutationResolvers(ResolverBuilderParams params) {
+        return buildResolvers(params, OperationDefinition.Operation.MUTATION);
+    }
+
+    @Override
+    public Collection<Resolver> buildSubscriptionResolvers(ResolverBuilderParams params) {
+        return buildResolvers(params, OperationDefinition.Operation.SUBSCRIPTION);
+    }
+
+    @Override
+    public boolean supports(AnnotatedType type) {
+        return serviceType.equals(ClassUtils.getRawType(type.getType()));
+    }
+
+    private Collection<Resolver> buildResolvers(ResolverBuilderParams params, OperationDefinition.Operation operation) {
+        List<Binding> applicable = bindings.stream()
+                .filter(binding -> binding.operation == operation)
+                .collect(Collectors.toList());
+        if (applicable.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Class<?> beanClass = ClassUtils.getRawType(params.getBeanType().getType());
+        return applicable.stream()
+                .map(binding -> binding.toResolver(beanClass, params, this))
+                .filter(resolver -> params.getInclusionStrategy().includeOperation(members(resolver), params.getBeanType()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<AnnotatedElement> members(Resolver resolver) {
+        AnnotatedElement invoked = resolver.getExecutable().getDelegate();
+        List<AnnotatedElement> elements = resolver.getTypedElement().getElements();
+        return elements.contains(invoked) ? elements : Arrays.asList(elements.get(0), invoked);
+    }
+
+    protected static Binding method(OperationDefinition.Operation operation, String name, String description, String deprecationReason,
+                                    String complexity, boolean batched, String methodName, Class<?>[] parameterTypes,
+                                    DirectMethodInvoker.Invocation invocation) {
+        return new Binding(operation, name, description, deprecationReason, complexity, batched, methodName, parameterTypes, invocation, null);
+    }
+
+    protected static Binding property(String name, String description, String deprecationReason, String complexity, boolean batched,
+                                      String fieldName, String getterName, DirectMethodInvoker.Invocation invocation) {
+        return new Binding(OperationDefinition.Operation.QUERY, name, description, deprecationReason, complexity, batched, getterName, new Class<?>[0], invocation, fieldName);
+    }
+
+    protected static Binding field(String name, String description, String deprecationReason, String complexity, boolean batched, String fieldName) {
+        return new Binding(OperationDefinition.Operation.QUERY, name, description, deprecationReason, complexity, batched, null, null, null, fieldName);
+    }
+
+    protected static final class Binding {
+
+        private final OperationDefinition.Operation operation;
+        private final String name;
+        private final String description;
+        private final String deprecationReason;
+        private final String complexity;
+        private final boolean batched;
+        private final String methodName;
+        private final Class<?>[] parameterTypes;
+        private final DirectMethodInvoker.Invocation invocation;
+        private final String fieldName;
+
+        private Binding(OperationDefinition.Operation operation, String name, String description, String deprecationReason,
+                        String complexity, boolean batched, String methodName, Class<?>[] parameterTypes,
+                        DirectMethodInvoker.Invocation invocation, String fieldName) {
+            this.operation = operation;
+            this.name = name;
+            this.description = description;
+            this.deprecationReason = deprecationReason;
+            this.complexity = complexity;
+            this.batched = batched;
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+            this.invocation = invocation;
+            this.fieldName = fieldName;
+        }
+
+        private Resolver toResolver(Class<?> beanClass, ResolverBuilderParams params, GeneratedResolverBuilder builder) {
+            MessageBundle messageBundle = params.getEnvironment().messageBundle;
+            Method method = methodName == null ? null : ClassUtils.findMethod(beanClass, methodName, parameterTypes)
+                    .orElseThrow(() -> new IllegalStateException("Method " + methodName + " not found in " + beanClass.getName()
+                            + ". The generated resolver builder is out of date."));
+            Field field = fieldName == null ? null : ClassUtils.findField(beanClass, fieldName)
+                    .orElseThrow(() -> new IllegalStateException("Field " + fieldName + " not found in " + beanClass.getName()
+                            + ". The generated resolver builder is out of date."));
+
+            TypedElement element = field != null
+                    ? new TypedElement(builder.getFieldType(field, params), field)
+                    : new TypedElement(builder.getReturnType(method, params), method);
+            Executable<?> executable = method != null
+                    ? new DirectMethodInvoker(invocation, params.getQuerySourceBeanSupplier(), method, params.getBeanType())
+                    : new FieldAccessor(field, params.getBeanType());
+            List<OperationArgument> arguments = method == null ? Collections.emptyList()
+                    : builder.argumentBuilder.buildResolverArguments(ArgumentBuilderParams.builder()
+                            .withResolverMethod(method)
+                            .withDeclaringType(params.getBeanType())
+                            .withInclusionStrategy(params.getInclusionStrategy())
+                            .withTypeTransformer(params.getTypeTransformer())
+                            .withEnvironment(params.getEnvironment())
+                            .build());
+            return new Resolver(
+                    messageBundle.interpolate(name),
+                    messageBundle.interpolate(description),
+                    messageBundle.interpolate(deprecationReason),
+                    batched,
+                    executable,
+                    element,
+                    arguments,
+                    complexity);
+        }
+    }
+}
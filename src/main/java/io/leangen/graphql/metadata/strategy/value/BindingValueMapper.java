@@ -0,0 +1,59 @@
+package io.leangen.graphql.metadata.strategy.value;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * A {@link ValueMapper} binding the input of simple input object types via the binders compiled during schema
+ * generation, and delegating everything else (including the field values the binders can not handle)
+ * to the wrapped mapper.
+ *
+ * @see InputBinderRegistry
+ */
+public class BindingValueMapper implements ValueMapper {
+
+    private final ValueMapper delegate;
+    private final InputBinderRegistry binders;
+
+    BindingValueMapper(ValueMapper delegate, InputBinderRegistry binders) {
+        this.delegate = delegate;
+        this.binders = binders;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T fromInput(Object graphQLInput, Type sourceType, AnnotatedType outputType) throws InputParsingException {
+        if (graphQLInput instanceof Map) {
+            InputBinder binder = binders.getBinder(outputType.getType());
+            if (binder != null) {
+                Object bound;
+                try {
+                    bound = binder.bind((Map<?, ?>) graphQLInput, this);
+                } catch (InputParsingException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new InputParsingException(graphQLInput, outputType.getType(), e);
+                }
+                if (bound != InputBinder.UNBOUND) {
+                    return (T) bound;
+                }
+            }
+        }
+        return delegate.fromInput(graphQLInput, sourceType, outputType);
+    }
+
+    @Override
+    public <T> T fromString(String json, AnnotatedType type) throws InputParsingException {
+        return delegate.fromString(json, type);
+    }
+
+    @Override
+    public String toString(Object output, AnnotatedType type) {
+        return delegate.toString(output, type);
+    }
+
+    public ValueMapper getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,242 @@
+package io.leangen.graphql.metadata.strategy.value;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.metadata.InputField;
+import io.leangen.graphql.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binds the coerced value of a simple input object type (a {@link Map} of field values) straight into
+ * a new instance of its Java type, by invoking its constructor and setters (or setting its fields) directly.
+ * The invocations are prepared once, as {@link MethodHandle}s, when the binder is compiled.
+ * <p>Compiled only for types whose binding by the underlying JSON library is fully described by their
+ * {@link InputField}s: concrete, non-generic classes with no library-specific annotations and no fields
+ * subject to {@link io.leangen.graphql.generator.mapping.InputConverter}s. Field values the binder can not
+ * reproduce exactly are delegated to the underlying {@link ValueMapper}, and inputs it can not bind as a whole
+ * (unknown fields, explicit {@code null}s, missing constructor arguments) are left to it entirely.</p>
+ */
+class InputBinder {
+
+    static final Object UNBOUND = new Object();
+
+    private static final String[] LIBRARY_ANNOTATION_PACKAGES = {"com.fasterxml.jackson.", "com.google.gson."};
+    private static final List<Class<?>> SIMPLE_TYPES = Arrays.asList(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final List<Class<?>> LIST_TYPES = Arrays.asList(List.class, Collection.class, ArrayList.class);
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    private final int constructorArity;
+    private final Map<String, Slot> slots;
+
+    private InputBinder(Class<?> type, MethodHandle constructor, int constructorArity, Map<String, Slot> slots) {
+        this.type = type;
+        this.constructor = constructor;
+        this.constructorArity = constructorArity;
+        this.slots = slots;
+    }
+
+    /**
+     * Prepares a binder for the given type
+     *
+     * @param type The input type
+     * @param fields The input fields discovered for the type
+     * @param fieldsOnly Whether the underlying library only ever sets fields directly (like Gson does)
+     *                   instead of preferring constructors and setters (like Jackson does)
+     * @param environment The global environment
+     *
+     * @return The binder, or {@code null} if the type is not simple enough to be bound directly
+     */
+    static InputBinder compile(AnnotatedType type, Collection<InputField> fields, boolean fieldsOnly, GlobalEnvironment environment) {
+        if (!(type.getType() instanceof Class) || fields.isEmpty()) {
+            return null;
+        }
+        Class<?> raw = (Class<?>) type.getType();
+        if (ClassUtils.isAbstract(raw) || raw.isEnum() || raw.isArray() || raw.isPrimitive() || raw.isAnonymousClass() || raw.isLocalClass()
+                || (raw.isMemberClass() && !Modifier.isStatic(raw.getModifiers())) || hasLibraryAnnotations(raw)) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Constructor<?> creator = null;
+            Map<String, Slot> slots = new HashMap<>();
+            for (InputField field : fields) {
+                if (!ClassUtils.getRawType(field.getDeserializableType().getType()).equals(ClassUtils.getRawType(field.getJavaType().getType()))
+                        || environment.getInputConverters().stream().anyMatch(converter -> converter.supports(field.getJavaType()))) {
+                    return null;
+                }
+                List<AnnotatedElement> elements = field.getTypedElement().getElements();
+                if (elements.stream().anyMatch(InputBinder::hasLibraryAnnotations)) {
+                    return null;
+                }
+                Slot slot = null;
+                if (!fieldsOnly) {
+                    Parameter parameter = find(elements, Parameter.class);
+                    if (parameter != null) {
+                        if (creator != null && !creator.equals(parameter.getDeclaringExecutable())) {
+                            return null;
+                        }
+                        creator = (Constructor<?>) parameter.getDeclaringExecutable();
+                        slot = new Slot(field.getJavaType(), Arrays.asList(creator.getParameters()).indexOf(parameter), null);
+                    } else {
+                        Method setter = elements.stream()
+                                .filter(element -> element instanceof Method && ((Method) element).getParameterCount() == 1)
+                                .map(element -> (Method) element)
+                                .findFirst().orElse(null);
+                        if (setter != null) {
+                            setter.setAccessible(true);
+                            slot = new Slot(field.getJavaType(), -1, lookup.unreflect(setter).asType(SETTER));
+                        }
+                    }
+                }
+                if (slot == null) {
+                    Field javaField = find(elements, Field.class);
+                    if (javaField == null || Modifier.isFinal(javaField.getModifiers()) || Modifier.isStatic(javaField.getModifiers())) {
+                        return null;
+                    }
+                    javaField.setAccessible(true);
+                    slot = new Slot(field.getJavaType(), -1, lookup.unreflectSetter(javaField).asType(SETTER));
+                }
+                slots.put(field.getName(), slot);
+            }
+            if (creator == null) {
+                creator = raw.getDeclaredConstructor();
+            } else if (slots.values().stream().filter(slot -> slot.argumentIndex >= 0).count() != creator.getParameterCount()) {
+                return null;
+            }
+            creator.setAccessible(true);
+            MethodHandle constructor = lookup.unreflectConstructor(creator)
+                    .asSpreader(Object[].class, creator.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new InputBinder(raw, constructor, creator.getParameterCount(), slots);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            //No accessible constructor, or the members can not be made accessible
+            return null;
+        }
+    }
+
+    /**
+     * Binds the given input
+     *
+     * @param input The coerced input object
+     * @param valueMapper Used for the field values the binder can not bind itself
+     *
+     * @return The bound instance, or {@link #UNBOUND} if the input has to be bound by the underlying value mapper
+     *
+     * @throws Throwable Any exception thrown by the invoked constructor or setters
+     */
+    Object bind(Map<?, ?> input, BindingValueMapper valueMapper) throws Throwable {
+        Object[] arguments = new Object[constructorArity];
+        List<Object> values = new ArrayList<>(input.size());
+        List<Slot> mutators = new ArrayList<>(input.size());
+        int argumentCount = 0;
+        for (Map.Entry<?, ?> entry : input.entrySet()) {
+            Slot slot = slots.get(entry.getKey());
+            if (slot == null || entry.getValue() == null) {
+                return UNBOUND;
+            }
+            Object value = slot.convert(entry.getValue(), valueMapper);
+            if (slot.argumentIndex >= 0) {
+                arguments[slot.argumentIndex] = value;
+                argumentCount++;
+            } else {
+                mutators.add(slot);
+                values.add(value);
+            }
+        }
+        if (argumentCount != constructorArity) {
+            return UNBOUND;
+        }
+        Object instance = constructor.invokeExact(arguments);
+        for (int i = 0; i < mutators.size(); i++) {
+            mutators.get(i).setter.invokeExact(instance, values.get(i));
+        }
+        return instance;
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    private static boolean hasLibraryAnnotations(AnnotatedElement element) {
+        for (Annotation annotation : element.getAnnotations()) {
+            String name = annotation.annotationType().getName();
+            for (String prefix : LIBRARY_ANNOTATION_PACKAGES) {
+                if (name.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static <T> T find(List<AnnotatedElement> elements, Class<T> kind) {
+        return elements.stream().filter(kind::isInstance).map(kind::cast).findFirst().orElse(null);
+    }
+
+    private static Class<?> simpleType(AnnotatedType type) {
+        if (!(type.getType() instanceof Class)) {
+            return null;
+        }
+        Class<?> raw = (Class<?>) GenericTypeReflector.box(type.getType());
+        return SIMPLE_TYPES.contains(raw) || raw.isEnum() ? raw : null;
+    }
+
+    private static class Slot {
+
+        private final AnnotatedType javaType;
+        private final int argumentIndex;
+        private final MethodHandle setter;
+        private final Class<?> simpleType;
+        private final Class<?> elementType;
+        private final boolean primitive;
+
+        Slot(AnnotatedType javaType, int argumentIndex, MethodHandle setter) {
+            this.javaType = javaType;
+            this.argumentIndex = argumentIndex;
+            this.setter = setter;
+            this.simpleType = simpleType(javaType);
+            this.elementType = javaType instanceof AnnotatedParameterizedType
+                    && LIST_TYPES.contains(ClassUtils.getRawType(javaType.getType()))
+                    ? simpleType(((AnnotatedParameterizedType) javaType).getAnnotatedActualTypeArguments()[0])
+                    : null;
+            this.primitive = javaType.getType() instanceof Class && ((Class<?>) javaType.getType()).isPrimitive();
+        }
+
+        Object convert(Object value, BindingValueMapper valueMapper) {
+            if (simpleType != null && value.getClass() == simpleType) {
+                return value;
+            }
+            if (elementType != null && value instanceof List && ((List<?>) value).stream()
+                    .allMatch(element -> element == null || element.getClass() == elementType)) {
+                return new ArrayList<>((List<?>) value);
+            }
+            if (!primitive && value instanceof Map) {
+                return valueMapper.fromInput(value, value.getClass(), javaType);
+            }
+            return valueMapper.getDelegate().fromInput(value, value.getClass(), javaType);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.leangen.graphql.metadata.strategy.value;
+
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.metadata.InputField;
+import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapper;
+import io.leangen.graphql.metadata.strategy.value.jackson.JacksonValueMapper;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the direct input binders compiled during schema generation, one for each simple input object type.
+ * The input fields of each type are captured as they get discovered, by wrapping the {@link InputFieldBuilder}s
+ * via {@link #recording(InputFieldBuilder)}, and the binders are used by the value mappers wrapped via
+ * {@link #decorate(ValueMapper)}.
+ *
+ * @see io.leangen.graphql.GraphQLSchemaGenerator#withDirectInputBinding()
+ */
+public class InputBinderRegistry {
+
+    private final GlobalEnvironment environment;
+    private final boolean fieldsOnly;
+    private final Map<Type, InputBinder> binders = new ConcurrentHashMap<>();
+
+    /**
+     * @param environment The global environment
+     * @param valueMapper The default value mapper, determining how the underlying library binds the input
+     */
+    public InputBinderRegistry(GlobalEnvironment environment, ValueMapper valueMapper) {
+        this.environment = environment;
+        this.fieldsOnly = valueMapper instanceof GsonValueMapper;
+    }
+
+    /**
+     * Wraps the given builder so the fields it discovers get captured for binder compilation
+     *
+     * @param builder The builder to wrap
+     *
+     * @return The wrapped builder
+     */
+    public InputFieldBuilder recording(InputFieldBuilder builder) {
+        return new InputFieldBuilder() {
+            @Override
+            public Set<InputField> getInputFields(InputFieldBuilderParams params) {
+                Set<InputField> fields = builder.getInputFields(params);
+                if (params.getConcreteSubTypes().isEmpty()) {
+                    register(params.getType(), fields);
+                }
+                return fields;
+            }
+
+            @Override
+            public boolean supports(AnnotatedType type) {
+                return builder.supports(type);
+            }
+        };
+    }
+
+    /**
+     * Wraps the given value mapper so that it uses the binders where possible. Only value mappers of the
+     * built-in Jackson or Gson integration (whichever the default value mapper belongs to) are wrapped,
+     * as the binders only reproduce their behavior.
+     *
+     * @param valueMapper The value mapper to wrap
+     *
+     * @return The wrapped value mapper, or the original one if it is not supported
+     */
+    public ValueMapper decorate(ValueMapper valueMapper) {
+        if (fieldsOnly ? valueMapper instanceof GsonValueMapper : valueMapper instanceof JacksonValueMapper) {
+            return new BindingValueMapper(valueMapper, this);
+        }
+        return valueMapper;
+    }
+
+    void register(AnnotatedType type, Set<InputField> fields) {
+        if (!binders.containsKey(type.getType())) {
+            InputBinder binder = InputBinder.compile(type, fields, fieldsOnly, environment);
+            if (binder != null) {
+                binders.putIfAbsent(type.getType(), binder);
+            }
+        }
+    }
+
+    InputBinder getBinder(Type type) {
+        return binders.get(type);
+    }
+
+    /**
+     * @return The number of types bound directly
+     */
+    public int size() {
+        return binders.size();
+    }
+}
@@ -0,0 +1,126 @@
+package io.leangen.graphql.metadata.strategy.value.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonWriter;
+import graphql.ExecutionResult;
+import io.leangen.graphql.execution.ExecutionResultWriter;
+import io.leangen.graphql.execution.RawJson;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Streams {@link ExecutionResult}s through a Gson {@link JsonWriter}. The maps, lists and scalar values
+ * produced by graphql-java are written directly, as are the {@link JsonElement}s produced by the JSON scalars,
+ * primitive arrays and the pre-serialized {@link RawJson} values (which are spliced in without being parsed,
+ * and binary ones without being decoded).
+ * Any other value (e.g. a POJO returned via the {@code Object} scalar) is written by the {@link Gson} instance.
+ */
+public class GsonExecutionResultWriter implements ExecutionResultWriter {
+
+    private final Gson gson;
+
+    public GsonExecutionResultWriter() {
+        this(new Gson());
+    }
+
+    public GsonExecutionResultWriter(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public void write(ExecutionResult result, OutputStream out) throws IOException {
+        //Flushing the writer only pushes the buffered text into the stream, so binary raw values can follow it directly
+        OutputStream text = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() {
+                /*no-op*/
+            }
+        };
+        JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(text, StandardCharsets.UTF_8)));
+        writer.setSerializeNulls(true);
+        writeValue(result.toSpecification(), writer, out);
+        writer.flush();
+        out.flush();
+    }
+
+    private void writeValue(Object value, JsonWriter writer, OutputStream out) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+        } else if (value instanceof RawJson) {
+            writeRaw((RawJson) value, writer, out);
+        } else if (value instanceof JsonElement) {
+            gson.toJson((JsonElement) value, writer);
+        } else if (value instanceof String) {
+            writer.value((String) value);
+        } else if (value instanceof Boolean) {
+            writer.value((boolean) (Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writer.value(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else if (value instanceof Map) {
+            writer.beginObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.name(String.valueOf(entry.getKey()));
+                writeValue(entry.getValue(), writer, out);
+            }
+            writer.endObject();
+        } else if (value instanceof Iterable) { //Checked after the JSON trees, as those are iterable too
+            writer.beginArray();
+            for (Object element : (Iterable<?>) value) {
+                writeValue(element, writer, out);
+            }
+            writer.endArray();
+        } else if (value.getClass().isArray()) {
+            writer.beginArray();
+            writeArrayElements(value, writer, out);
+            writer.endArray();
+        } else {
+            gson.toJson(value, value.getClass(), writer);
+        }
+    }
+
+    private void writeArrayElements(Object array, JsonWriter writer, OutputStream out) throws IOException {
+        if (array instanceof int[]) {
+            for (int element : (int[]) array) {
+                writer.value(element);
+            }
+        } else if (array instanceof long[]) {
+            for (long element : (long[]) array) {
+                writer.value(element);
+            }
+        } else if (array instanceof double[]) {
+            for (double element : (double[]) array) {
+                writer.value(element);
+            }
+        } else {
+            for (int i = 0; i < Array.getLength(array); i++) {
+                writeValue(Array.get(array, i), writer, out);
+            }
+        }
+    }
+
+    private void writeRaw(RawJson json, JsonWriter writer, OutputStream out) throws IOException {
+        if (json.getContent() instanceof CharSequence) {
+            writer.jsonValue(json.getContent().toString());
+        } else {
+            //Writes the separator (if any) before the value, then the value itself straight to the stream
+            writer.jsonValue("");
+            writer.flush();
+            json.writeTo(out);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import com.google.gson.FieldNamingStrategy;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.graphql.annotations.GraphQLInputField;
 import io.leangen.graphql.execution.GlobalEnvironment;
@@ -20,7 +23,10 @@ import io.leangen.graphql.metadata.strategy.value.InputParsingException;
 import io.leangen.graphql.metadata.strategy.value.ValueMapper;
 import io.leangen.graphql.util.ClassUtils;
 import io.leangen.graphql.util.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
@@ -35,18 +41,35 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class GsonValueMapper implements ValueMapper, InputFieldBuilder {
 
     private final Gson gson;
     private final InputFieldInfoGenerator inputInfoGen = new InputFieldInfoGenerator();
+    private final Map<Type, TypeAdapter<?>> adapters = new ConcurrentHashMap<>();
+    private final boolean directBinding;
     private static final Gson NO_CONVERTERS = new Gson();
 
+    private static final Logger log = LoggerFactory.getLogger(GsonValueMapper.class);
+
     GsonValueMapper(Gson gson) {
         this.gson = gson;
+        this.directBinding = ObjectTreeReader.MapAdapterFactory.isUsedBy(gson);
+        if (!directBinding) {
+            log.debug("Map adapters of {} can not read from an ObjectTreeReader. Input will be bound via JsonElement trees.", gson);
+        }
     }
 
+    /**
+     * Binds the coerced input directly, via an {@link ObjectTreeReader}, if it is a tree of JSON-compatible values
+     * and {@link Map}s are read by the adapters registered by {@link ObjectTreeReader.MapAdapterFactory} (a custom
+     * adapter taking precedence would need to read keys in a way only Gson's own readers support).
+     * Otherwise, the input is first copied into a {@link JsonElement} tree. Either way, the result is the same.
+     *
+     * {@inheritDoc}
+     */
     @Override
     @SuppressWarnings("unchecked")
     public <T> T fromInput(Object graphQLInput, Type sourceType, AnnotatedType outputType) throws InputParsingException {
@@ -54,9 +77,15 @@ public class GsonValueMapper implements ValueMapper, InputFieldBuilder {
             return (T) graphQLInput;
         }
         try {
+            if (directBinding && ObjectTreeReader.supports(graphQLInput)) {
+                JsonReader reader = new ObjectTreeReader(graphQLInput);
+                reader.setLenient(true);
+                return this.<T>adapterFor(outputType.getType()).read(reader);
+            }
             JsonElement jsonElement = NO_CONVERTERS.toJsonTree(graphQLInput, sourceType);
             return gson.fromJson(jsonElement, outputType.getType());
-        } catch (JsonSyntaxException e) {
+        } catch (IOException | IllegalStateException | JsonSyntaxException e) {
+            //Gson#fromJson reports the first two as JsonSyntaxException when reading from a JsonElement tree
             throw new InputParsingException(graphQLInput, outputType.getType(), e);
         }
     }
@@ -74,6 +103,11 @@ public class GsonValueMapper implements ValueMapper, InputFieldBuilder {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> TypeAdapter<T> adapterFor(Type type) {
+        return (TypeAdapter<T>) adapters.computeIfAbsent(type, t -> gson.getAdapter(TypeToken.get(t)));
+    }
+
     @Override
     public String toString(Object output, AnnotatedType type) {
         if (output == null || output instanceof String) {
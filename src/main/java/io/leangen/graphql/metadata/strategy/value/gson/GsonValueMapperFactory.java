@@ -53,7 +53,8 @@ public class GsonValueMapperFactory implements ValueMapperFactory, ScalarDeseria
         GsonBuilder gsonBuilder = (prototype != null ? prototype.newBuilder() : new GsonBuilder())
                 .serializeNulls()
                 .setFieldNamingStrategy(fieldNamingStrategy != null ? fieldNamingStrategy : new GsonFieldNamingStrategy(environment.messageBundle))
-                .registerTypeAdapterFactory(new GsonJava8TypeAdapterFactory());
+                .registerTypeAdapterFactory(new GsonJava8TypeAdapterFactory())
+                .registerTypeAdapterFactory(new ObjectTreeReader.MapAdapterFactory());
         return configurers.stream().reduce(gsonBuilder, (builder, config) ->
                         config.configure(new ConfigurerParams(builder, concreteSubTypes, this.typeInfoGenerator, environment)), (b1, b2) -> b2);
     }
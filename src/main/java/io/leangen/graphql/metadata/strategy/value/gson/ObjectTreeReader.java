@@ -0,0 +1,408 @@
+package io.leangen.graphql.metadata.strategy.value.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Reads a tree of {@link Map}s, {@link Collection}s and JSON-compatible scalars (as produced by graphql-java when
+ * coercing input values) as if it was JSON, so {@link com.google.gson.TypeAdapter}s can bind it directly instead of
+ * it first being copied into a {@link com.google.gson.JsonElement} tree.
+ * <p>Behaves the same as {@link com.google.gson.internal.bind.JsonTreeReader} reading the tree produced by
+ * {@link com.google.gson.Gson#toJsonTree(Object)}, including the omission of map entries with {@code null} values.</p>
+ * <p>Gson's map adapters can only read keys from its own readers, so maps are bound from a {@link JsonElement}
+ * subtree instead, by the adapters produced by {@link MapAdapterFactory}.</p>
+ */
+class ObjectTreeReader extends JsonReader {
+
+    private static final Reader UNREADABLE_READER = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+    private static final Gson TREE_BUILDER = new Gson();
+    private static final Object NULL = new Object();
+    private static final Object SENTINEL_CLOSED = new Object();
+
+    /*
+     * The nesting stack. Each container (Map or Collection) is followed by its iterator,
+     * and each consumed name by its value.
+     */
+    private Object[] stack = new Object[32];
+    private int stackSize = 0;
+    private String[] pathNames = new String[32];
+    private int[] pathIndices = new int[32];
+
+    ObjectTreeReader(Object root) {
+        super(UNREADABLE_READER);
+        push(root);
+    }
+
+    /**
+     * Checks whether the given value can be read by this reader
+     *
+     * @param value The value to check
+     * @return {@code true} if the value is a tree of {@link Map}s with string keys, {@link Collection}s, strings,
+     * booleans and standard numbers, ending in {@code null}s. The root itself must not be {@code null}.
+     */
+    static boolean supports(Object value) {
+        return value != null && isJsonCompatible(value);
+    }
+
+    private static boolean isJsonCompatible(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || isNumber(value)) {
+            return true;
+        }
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!(entry.getKey() instanceof String) || !isJsonCompatible(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                if (!isJsonCompatible(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isNumber(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof BigDecimal
+                || value instanceof BigInteger || value instanceof Float || value instanceof Short || value instanceof Byte;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        Collection<?> array = (Collection<?>) peekStack();
+        push(array.iterator());
+        pathIndices[stackSize - 1] = 0;
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        popStack(); // empty iterator
+        popStack(); // array
+        if (stackSize > 0) {
+            pathIndices[stackSize - 1]++;
+        }
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        Map<?, ?> object = (Map<?, ?>) peekStack();
+        push(object.entrySet().stream().filter(entry -> entry.getValue() != null).iterator());
+        pathNames[stackSize - 1] = null;
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        popStack(); // empty iterator
+        popStack(); // object
+        if (stackSize > 0) {
+            pathIndices[stackSize - 1]++;
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (stackSize == 0) {
+            return JsonToken.END_DOCUMENT;
+        }
+        Object o = peekStack();
+        if (o instanceof Iterator) {
+            boolean isObject = stack[stackSize - 2] instanceof Map;
+            Iterator<?> iterator = (Iterator<?>) o;
+            if (iterator.hasNext()) {
+                if (isObject) {
+                    return JsonToken.NAME;
+                }
+                Object element = iterator.next();
+                push(element == null ? NULL : element);
+                return peek();
+            }
+            return isObject ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        }
+        if (o instanceof Map) {
+            return JsonToken.BEGIN_OBJECT;
+        }
+        if (o instanceof Collection) {
+            return JsonToken.BEGIN_ARRAY;
+        }
+        if (o instanceof String) {
+            return JsonToken.STRING;
+        }
+        if (o instanceof Boolean) {
+            return JsonToken.BOOLEAN;
+        }
+        if (o instanceof Number) {
+            return JsonToken.NUMBER;
+        }
+        if (o == NULL) {
+            return JsonToken.NULL;
+        }
+        if (o == SENTINEL_CLOSED) {
+            throw new IllegalStateException("JsonReader is closed");
+        }
+        throw new AssertionError();
+    }
+
+    private Object peekStack() {
+        return stack[stackSize - 1];
+    }
+
+    private Object popStack() {
+        Object result = stack[--stackSize];
+        stack[stackSize] = null;
+        return result;
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        if (peek() != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + peek() + locationString());
+        }
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        Iterator<?> iterator = (Iterator<?>) peekStack();
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>) iterator.next();
+        String result = (String) entry.getKey();
+        pathNames[stackSize - 1] = result;
+        push(entry.getValue());
+        return result;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected " + JsonToken.STRING + " but was " + token + locationString());
+        }
+        String result = popStack().toString();
+        incrementPathIndex();
+        return result;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        boolean result = (Boolean) popStack();
+        incrementPathIndex();
+        return result;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        popStack();
+        incrementPathIndex();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        Object value = peekNumeric(JsonToken.NUMBER);
+        double result = value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble((String) value);
+        if (!isLenient() && (Double.isNaN(result) || Double.isInfinite(result))) {
+            throw new NumberFormatException("JSON forbids NaN and infinities: " + result);
+        }
+        popStack();
+        incrementPathIndex();
+        return result;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        Object value = peekNumeric(JsonToken.NUMBER);
+        long result = value instanceof Number ? ((Number) value).longValue() : Long.parseLong((String) value);
+        popStack();
+        incrementPathIndex();
+        return result;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        Object value = peekNumeric(JsonToken.NUMBER);
+        int result = value instanceof Number ? ((Number) value).intValue() : Integer.parseInt((String) value);
+        popStack();
+        incrementPathIndex();
+        return result;
+    }
+
+    /**
+     * Consumes the next value as a {@link JsonElement} tree
+     *
+     * @return The consumed value, as produced by {@link Gson#toJsonTree(Object)}
+     * @throws IOException If the next token is not a value
+     */
+    JsonElement nextJsonTree() throws IOException {
+        JsonToken token = peek();
+        if (token == JsonToken.NAME || token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY || token == JsonToken.END_DOCUMENT) {
+            throw new IllegalStateException("Expected a value but was " + token + locationString());
+        }
+        Object value = popStack();
+        incrementPathIndex();
+        return value == NULL ? JsonNull.INSTANCE : TREE_BUILDER.toJsonTree(value);
+    }
+
+    private Object peekNumeric(JsonToken expected) throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token + locationString());
+        }
+        return peekStack();
+    }
+
+    private void incrementPathIndex() {
+        if (stackSize > 0) {
+            pathIndices[stackSize - 1]++;
+        }
+    }
+
+    @Override
+    public void close() {
+        stack = new Object[] {SENTINEL_CLOSED};
+        stackSize = 1;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        if (peek() == JsonToken.NAME) {
+            nextName();
+            pathNames[stackSize - 2] = "null";
+        } else {
+            popStack();
+            if (stackSize > 0) {
+                pathNames[stackSize - 1] = "null";
+            }
+        }
+        incrementPathIndex();
+    }
+
+    private void push(Object newTop) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stackSize * 2);
+            pathIndices = Arrays.copyOf(pathIndices, stackSize * 2);
+            pathNames = Arrays.copyOf(pathNames, stackSize * 2);
+        }
+        stack[stackSize++] = newTop;
+    }
+
+    @Override
+    public String getPath() {
+        StringBuilder result = new StringBuilder().append('$');
+        for (int i = 0; i < stackSize; i++) {
+            if (stack[i] instanceof Collection) {
+                if (i + 1 < stackSize && stack[i + 1] instanceof Iterator) {
+                    result.append('[').append(pathIndices[++i]).append(']');
+                }
+            } else if (stack[i] instanceof Map) {
+                if (i + 1 < stackSize && stack[i + 1] instanceof Iterator) {
+                    result.append('.');
+                    if (pathNames[++i] != null) {
+                        result.append(pathNames[i]);
+                    }
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    private String locationString() {
+        return " at path " + getPath();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + locationString();
+    }
+
+    /**
+     * Produces map adapters that bind from a {@link JsonElement} tree when reading from an {@link ObjectTreeReader},
+     * and otherwise just delegate to the adapters Gson would normally use
+     */
+    static class MapAdapterFactory implements TypeAdapterFactory {
+
+        private static final TypeToken<Map<Object, Object>> MAP = new TypeToken<Map<Object, Object>>() {};
+
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (!Map.class.isAssignableFrom(type.getRawType())) {
+                return null;
+            }
+            return new MapAdapter<>(gson.getDelegateAdapter(this, type));
+        }
+
+        /**
+         * Checks whether the given {@link Gson} instance reads maps using the adapters produced by this factory.
+         * It does not if another factory, registered later, or a type adapter for {@link Map} takes precedence.
+         * Such adapters may read the keys in a way only Gson's own readers support, so they can't be used
+         * with an {@link ObjectTreeReader}.
+         *
+         * @param gson The instance to check
+         * @return {@code true} if maps are read by the adapters produced by this factory
+         */
+        static boolean isUsedBy(Gson gson) {
+            return gson.getAdapter(MAP) instanceof MapAdapter;
+        }
+    }
+
+    private static class MapAdapter<T> extends TypeAdapter<T> {
+
+        private final TypeAdapter<T> delegate;
+
+        MapAdapter(TypeAdapter<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            delegate.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (in instanceof ObjectTreeReader) {
+                return delegate.fromJsonTree(((ObjectTreeReader) in).nextJsonTree());
+            }
+            return delegate.read(in);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.leangen.graphql.metadata.strategy.value.jackson;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import graphql.ExecutionResult;
+import io.leangen.graphql.execution.ExecutionResultWriter;
+import io.leangen.graphql.execution.RawJson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * Streams {@link ExecutionResult}s through a Jackson {@link JsonGenerator}. The maps, lists and scalar values
+ * produced by graphql-java are written directly, as are the {@link JsonNode}s produced by the JSON scalars,
+ * primitive arrays and the pre-serialized {@link RawJson} values (which are spliced in without being parsed,
+ * and binary ones without being decoded).
+ * Any other value (e.g. a POJO returned via the {@code Object} scalar) is written by the {@link ObjectMapper}.
+ * The output is flushed once, when the whole result has been written.
+ */
+public class JacksonExecutionResultWriter implements ExecutionResultWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+
+    public JacksonExecutionResultWriter() {
+        this(new ObjectMapper());
+    }
+
+    public JacksonExecutionResultWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        //The mapper would otherwise flush the output after every value it writes
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(ExecutionResult result, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            //Closing the generator then only flushes the output, once the whole result is written
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeValue(result.toSpecification(), generator);
+        }
+    }
+
+    private void writeValue(Object value, JsonGenerator generator) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof RawJson) {
+            RawJsonModule.writeRaw((RawJson) value, generator);
+        } else if (value instanceof JsonNode) {
+            valueWriter.writeValue(generator, value);
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof Float) {
+            generator.writeNumber((Float) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            generator.writeNumber((BigInteger) value);
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                writeValue(entry.getValue(), generator);
+            }
+            generator.writeEndObject();
+        } else if (value instanceof Iterable) { //Checked after the JSON trees, as those are iterable too
+            generator.writeStartArray();
+            for (Object element : (Iterable<?>) value) {
+                writeValue(element, generator);
+            }
+            generator.writeEndArray();
+        } else if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+            writePrimitiveArray(value, generator);
+        } else if (value instanceof Object[]) {
+            generator.writeStartArray();
+            for (Object element : (Object[]) value) {
+                writeValue(element, generator);
+            }
+            generator.writeEndArray();
+        } else {
+            valueWriter.writeValue(generator, value);
+        }
+    }
+
+    private void writePrimitiveArray(Object array, JsonGenerator generator) throws IOException {
+        if (array instanceof int[]) {
+            generator.writeArray((int[]) array, 0, ((int[]) array).length);
+        } else if (array instanceof long[]) {
+            generator.writeArray((long[]) array, 0, ((long[]) array).length);
+        } else if (array instanceof double[]) {
+            generator.writeArray((double[]) array, 0, ((double[]) array).length);
+        } else {
+            //The rest are left to the ObjectMapper (e.g. byte[] is written as Base64)
+            valueWriter.writeValue(generator, array);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package io.leangen.graphql.metadata.strategy.value.jackson;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
 import com.fasterxml.jackson.databind.introspect.AnnotatedField;
@@ -44,28 +46,47 @@ import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
 
-    private final ObjectMapper objectMapper;
+    private final Supplier<ObjectMapper> objectMapper;
     private final InputFieldInfoGenerator inputInfoGen = new InputFieldInfoGenerator();
 
+    private volatile ReaderCache readers;
     private boolean mapDeserializableType = false;
 
     private static final Logger log = LoggerFactory.getLogger(JacksonValueMapper.class);
 
     JacksonValueMapper(ObjectMapper objectMapper) {
+        this(() -> objectMapper);
+    }
+
+    /**
+     * @param objectMapper Provides the current {@link ObjectMapper}. Only ever replaced by one
+     *                     accepting (at least) everything the previous one did.
+     */
+    JacksonValueMapper(Supplier<ObjectMapper> objectMapper) {
         this.objectMapper = objectMapper;
     }
 
     @Override
     public <T> T fromInput(Object graphQLInput, Type sourceType, AnnotatedType outputType) {
+        ObjectMapper objectMapper = this.objectMapper.get();
+        ObjectReader reader = readerFor(objectMapper, outputType.getType());
         try {
-            return objectMapper.convertValue(graphQLInput, objectMapper.getTypeFactory().constructType(outputType.getType()));
-        } catch (IllegalArgumentException e) {
+            if (ObjectTreeParser.supports(graphQLInput)) {
+                try (JsonParser parser = new ObjectTreeParser(graphQLInput, objectMapper)) {
+                    return reader.readValue(parser);
+                }
+            }
+            return objectMapper.convertValue(graphQLInput, reader.getValueType());
+        } catch (IOException | IllegalArgumentException e) {
             throw new InputParsingException(graphQLInput, outputType.getType(), e);
         }
     }
@@ -77,19 +98,28 @@ public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
             return (T) json;
         }
         try {
-            return objectMapper.readValue(json, objectMapper.getTypeFactory().constructType(type.getType()));
+            return readerFor(this.objectMapper.get(), type.getType()).readValue(json);
         } catch (IOException e) {
             throw new InputParsingException(json, type.getType(), e);
         }
     }
 
+    private ObjectReader readerFor(ObjectMapper objectMapper, Type type) {
+        ReaderCache cache = this.readers;
+        if (cache == null || cache.objectMapper != objectMapper) {
+            cache = new ReaderCache(objectMapper);
+            this.readers = cache;
+        }
+        return cache.readers.computeIfAbsent(type, t -> objectMapper.readerFor(objectMapper.getTypeFactory().constructType(t)));
+    }
+
     @Override
     public String toString(Object output, AnnotatedType type) {
         if (output == null || output instanceof String) {
             return (String) output;
         }
         try {
-            return objectMapper.writeValueAsString(output);
+            return objectMapper.get().writeValueAsString(output);
         } catch (JsonProcessingException e) {
             throw new UncheckedIOException(e);
         }
@@ -97,6 +127,7 @@ public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
 
     @Override
     public Set<InputField> getInputFields(InputFieldBuilderParams params) {
+        ObjectMapper objectMapper = this.objectMapper.get();
         JavaType javaType = objectMapper.getTypeFactory().constructType(params.getType().getType());
         BeanDescription originalDesc = objectMapper.getDeserializationConfig().introspect(javaType);
         BeanDescription desc = originalDesc;
@@ -114,7 +145,7 @@ public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
 
     private InputField toInputField(AnnotatedType type, BeanPropertyDefinition prop, GlobalEnvironment environment) {
         ElementFactory elementFactory = new ElementFactory(type, environment.typeTransformer);
-        return toInputField(elementFactory.fromProperty(prop), prop, objectMapper, environment);
+        return toInputField(elementFactory.fromProperty(prop), prop, objectMapper.get(), environment);
     }
 
     private InputField toInputField(TypedElement element, BeanPropertyDefinition prop, ObjectMapper objectMapper, GlobalEnvironment environment) {
@@ -177,6 +208,7 @@ public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
     }
 
     private BeanDescription findDelegate(BeanDescription beanDesc) {
+        ObjectMapper objectMapper = this.objectMapper.get();
         AnnotationIntrospector introspector = objectMapper.getDeserializationConfig().getAnnotationIntrospector();
         for (AnnotatedMethod ctor : beanDesc.getFactoryMethods()) {
             JsonCreator.Mode creatorMode = introspector.findCreatorAnnotation(objectMapper.getDeserializationConfig(), ctor);
@@ -200,6 +232,7 @@ public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
     }
 
     private boolean isPropertyDeserializable(BeanPropertyDefinition prop, Class<?> type) {
+        ObjectMapper objectMapper = this.objectMapper.get();
         JavaType javaType = objectMapper.getTypeFactory().constructType(type);
         BeanDescription desc = objectMapper.getDeserializationConfig().introspect(javaType);
         return desc.findProperties().stream()
@@ -216,6 +249,19 @@ public class JacksonValueMapper implements ValueMapper, InputFieldBuilder {
         return true;
     }
 
+    /**
+     * Readers (with their resolved {@link JavaType}s) for the types deserialized so far by a specific {@link ObjectMapper}
+     */
+    private static class ReaderCache {
+
+        private final ObjectMapper objectMapper;
+        private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+        ReaderCache(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+    }
+
     private static class ElementFactory {
 
         private final AnnotatedType type;
@@ -21,12 +21,25 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
+ * Produces {@link JacksonValueMapper}s, each backed by an {@link ObjectMapper} configured to deserialize the given
+ * abstract types into their concrete subtypes.
+ * <p>Value mappers are memoized by the (order-insensitive) subtype registrations they need, so operations with equal
+ * abstract inputs share the mapper and its deserializer cache. The memoized mappers are kept in the environment they
+ * were created for (see {@link GlobalEnvironment#getComponentCache(Object, java.util.function.Function)}), so a factory
+ * reused by many generators doesn't keep their environments reachable. Optionally (see {@link Builder#withSharedObjectMapper()}),
+ * all registrations can be merged into a single, shared {@link ObjectMapper}. The number of mappers actually
+ * created can be inspected via {@link #getReport()}.</p>
+ *
  * @author Bojan Tomic (kaqqao)
  */
 public class JacksonValueMapperFactory implements ValueMapperFactory, ScalarDeserializationStrategy {
@@ -34,26 +47,64 @@ public class JacksonValueMapperFactory implements ValueMapperFactory, ScalarDese
     private final ObjectMapper prototype;
     private final List<Configurer> configurers;
     private final TypeInfoGenerator typeInfoGenerator;
+    private final boolean sharedObjectMapper;
+    private final Object cacheKey = new Object();
+    private final AtomicInteger valueMappersRequested = new AtomicInteger();
+    private final AtomicInteger objectMappersCreated = new AtomicInteger();
+    private final AtomicInteger mergeConflicts = new AtomicInteger();
 
     private static final Configurer IMPLICIT_MODULES = new ImplicitModuleConfigurer();
 
     public JacksonValueMapperFactory() {
-        this(null, new DefaultTypeInfoGenerator(), defaultConfigurers());
+        this(null, new DefaultTypeInfoGenerator(), defaultConfigurers(), false);
     }
 
-    private JacksonValueMapperFactory(ObjectMapper prototype, TypeInfoGenerator typeInfoGenerator, List<Configurer> configurers) {
+    private JacksonValueMapperFactory(ObjectMapper prototype, TypeInfoGenerator typeInfoGenerator, List<Configurer> configurers, boolean sharedObjectMapper) {
         this.prototype = prototype;
         this.configurers = Objects.requireNonNull(configurers);
         this.typeInfoGenerator = Objects.requireNonNull(typeInfoGenerator);
+        this.sharedObjectMapper = sharedObjectMapper;
     }
 
+    /**
+     * Returns a value mapper able to deserialize the given abstract types. Mappers are memoized per environment
+     * and subtype registrations, so the returned instance may be shared.
+     *
+     * {@inheritDoc}
+     */
     @Override
     public JacksonValueMapper getValueMapper(Map<Class, List<Class<?>>> concreteSubTypes, GlobalEnvironment environment) {
-        return new JacksonValueMapper(initBuilder(concreteSubTypes, environment));
+        valueMappersRequested.incrementAndGet();
+        EnvironmentCache cache = environment.getComponentCache(cacheKey, EnvironmentCache::new);
+        //Mappers without any registrations are kept separate, as they're also used to discover input fields
+        if (sharedObjectMapper && concreteSubTypes.values().stream().anyMatch(subTypes -> !subTypes.isEmpty())) {
+            JacksonValueMapper shared = cache.sharedObjectMapper.getValueMapper(concreteSubTypes);
+            if (shared != null) {
+                return shared;
+            }
+            mergeConflicts.incrementAndGet();
+        }
+        return cache.valueMappers.computeIfAbsent(canonical(concreteSubTypes),
+                k -> new JacksonValueMapper(initBuilder(concreteSubTypes, environment)));
+    }
+
+    /**
+     * @return How many value mappers were requested and how many {@link ObjectMapper}s had to be created for them
+     */
+    public Report getReport() {
+        return new Report(valueMappersRequested.get(), objectMappersCreated.get(), mergeConflicts.get());
+    }
+
+    private static Map<Class, Set<Class<?>>> canonical(Map<Class, List<Class<?>>> concreteSubTypes) {
+        Map<Class, Set<Class<?>>> canonical = new HashMap<>();
+        concreteSubTypes.forEach((abstractType, subTypes) -> canonical.put(abstractType, new HashSet<>(subTypes)));
+        return canonical;
     }
 
     private ObjectMapper initBuilder(Map<Class, List<Class<?>>> concreteSubTypes, GlobalEnvironment environment) {
-        ObjectMapper objectMapper = prototype != null ? prototype.copy() : new ObjectMapper();
+        objectMappersCreated.incrementAndGet();
+        ObjectMapper objectMapper = (prototype != null ? prototype.copy() : new ObjectMapper())
+                .registerModule(new RawJsonModule());
         return this.configurers.stream().reduce(objectMapper, (mapper, configurer) ->
                 configurer.configure(new ConfigurerParams(mapper, concreteSubTypes, this.typeInfoGenerator, environment)), (b1, b2) -> b2);
     }
@@ -67,6 +118,72 @@ public class JacksonValueMapperFactory implements ValueMapperFactory, ScalarDese
         return new Builder();
     }
 
+    /**
+     * The value mappers memoized for a single environment
+     */
+    private class EnvironmentCache {
+
+        private final Map<Map<Class, Set<Class<?>>>, JacksonValueMapper> valueMappers = new ConcurrentHashMap<>();
+        private final SharedObjectMapper sharedObjectMapper;
+
+        EnvironmentCache(GlobalEnvironment environment) {
+            this.sharedObjectMapper = new SharedObjectMapper(environment);
+        }
+    }
+
+    /**
+     * Accumulates the subtype registrations of all the value mappers requested for the same environment into a single
+     * {@link ObjectMapper}. Whenever a request brings new abstract types, the mapper is replaced by one covering all
+     * the registrations so far, and all the value mappers issued earlier switch to it. Requests conflicting with
+     * the accumulated registrations (different subtypes for the same abstract type, or one type name used for different
+     * subtypes) are not merged.
+     */
+    private class SharedObjectMapper {
+
+        private final GlobalEnvironment environment;
+        private final Map<Class, List<Class<?>>> subTypes = new HashMap<>();
+        private final Map<String, Class<?>> typeNames = new HashMap<>();
+        private volatile ObjectMapper objectMapper;
+        private final JacksonValueMapper valueMapper = new JacksonValueMapper(() -> objectMapper);
+
+        SharedObjectMapper(GlobalEnvironment environment) {
+            this.environment = environment;
+        }
+
+        synchronized JacksonValueMapper getValueMapper(Map<Class, List<Class<?>>> concreteSubTypes) {
+            Map<Class, List<Class<?>>> added = new HashMap<>();
+            Map<String, Class<?>> addedNames = new HashMap<>();
+            for (Map.Entry<Class, List<Class<?>>> entry : concreteSubTypes.entrySet()) {
+                List<Class<?>> known = subTypes.get(entry.getKey());
+                if (known != null) {
+                    if (!new HashSet<>(known).equals(new HashSet<>(entry.getValue()))) {
+                        return null;
+                    }
+                    continue;
+                }
+                if (entry.getValue().size() > 1) {
+                    for (Class<?> subType : entry.getValue()) {
+                        String name = typeInfoGenerator.generateTypeName(GenericTypeReflector.annotate(subType), environment.messageBundle);
+                        Class<?> existing = typeNames.get(name);
+                        if (existing == null) {
+                            existing = addedNames.putIfAbsent(name, subType);
+                        }
+                        if (existing != null && !existing.equals(subType)) {
+                            return null;
+                        }
+                    }
+                }
+                added.put(entry.getKey(), entry.getValue());
+            }
+            if (objectMapper == null || !added.isEmpty()) {
+                subTypes.putAll(added);
+                typeNames.putAll(addedNames);
+                objectMapper = initBuilder(new HashMap<>(subTypes), environment);
+            }
+            return valueMapper;
+        }
+    }
+
     public static class ImplicitModuleConfigurer implements Configurer {
 
         @Override
@@ -189,6 +306,7 @@ public class JacksonValueMapperFactory implements ValueMapperFactory, ScalarDese
         private List<Configurer> configurers = defaultConfigurers();
         private TypeInfoGenerator typeInfoGenerator = new DefaultTypeInfoGenerator();
         private ObjectMapper prototype;
+        private boolean sharedObjectMapper;
 
         public Builder withConfigurers(Configurer... configurer) {
             Collections.addAll(this.configurers, configurer);
@@ -210,8 +328,56 @@ public class JacksonValueMapperFactory implements ValueMapperFactory, ScalarDese
             return this;
         }
 
+        /**
+         * Merges the subtype registrations needed by all operations into a single {@link ObjectMapper} (per environment)
+         * instead of configuring a separate one for each distinct combination of abstract input types.
+         * Only registrations that don't conflict with each other are merged.
+         * Custom {@link Configurer}s must not assume the concrete subtypes they see are needed by a single operation.
+         *
+         * @return This builder, to allow method chaining
+         */
+        public Builder withSharedObjectMapper() {
+            this.sharedObjectMapper = true;
+            return this;
+        }
+
         public JacksonValueMapperFactory build() {
-            return new JacksonValueMapperFactory(prototype, typeInfoGenerator, configurers);
+            return new JacksonValueMapperFactory(prototype, typeInfoGenerator, configurers, sharedObjectMapper);
+        }
+    }
+
+    public static class Report {
+
+        private final int valueMappersRequested;
+        private final int objectMappersCreated;
+        private final int mergeConflicts;
+
+        private Report(int valueMappersRequested, int objectMappersCreated, int mergeConflicts) {
+            this.valueMappersRequested = valueMappersRequested;
+            this.objectMappersCreated = objectMappersCreated;
+            this.mergeConflicts = mergeConflicts;
+        }
+
+        public int getValueMappersRequested() {
+            return valueMappersRequested;
+        }
+
+        public int getObjectMappersCreated() {
+            return objectMappersCreated;
+        }
+
+        /**
+         * @return The number of requests that could not be served by the shared {@link ObjectMapper}
+         * (always 0 if it is not enabled)
+         */
+        public int getMergeConflicts() {
+            return mergeConflicts;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d value mappers requested, %d object mappers created, %d merge conflicts",
+                    valueMappersRequested, objectMappersCreated, mergeConflicts);
         }
     }
 
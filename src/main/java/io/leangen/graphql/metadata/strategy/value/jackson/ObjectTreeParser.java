@@ -0,0 +1,427 @@
+package io.leangen.graphql.metadata.strategy.value.jackson;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.base.ParserMinimalBase;
+import com.fasterxml.jackson.core.json.JsonReadContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Exposes a tree of {@link Map}s, {@link Collection}s and JSON-compatible scalars (as produced by graphql-java when
+ * coercing input values) as a stream of JSON tokens, so it can be bound directly, without first being copied into
+ * a {@link com.fasterxml.jackson.databind.util.TokenBuffer} as {@link com.fasterxml.jackson.databind.ObjectMapper#convertValue(Object, Class)} does.
+ */
+class ObjectTreeParser extends ParserMinimalBase {
+
+    private final Object root;
+    private final Deque<Iterator<?>> containers = new ArrayDeque<>();
+    private ObjectCodec codec;
+    private JsonReadContext context = JsonReadContext.createRootContext(null);
+    private Object value;
+    private Object fieldValue;
+    private boolean started;
+    private boolean closed;
+
+    ObjectTreeParser(Object root, ObjectCodec codec) {
+        this.root = root;
+        this.codec = codec;
+    }
+
+    /**
+     * Checks whether the given value can be represented by this parser
+     *
+     * @param value The value to check
+     * @return {@code true} if the value is a tree of {@link Map}s with string keys, {@link Collection}s, strings,
+     * booleans and standard numbers, ending in {@code null}s. The root itself must not be {@code null}.
+     */
+    static boolean supports(Object value) {
+        return value != null && isJsonCompatible(value);
+    }
+
+    private static boolean isJsonCompatible(Object value) {
+        if (value == null) {
+            return true;
+        }
+        switch (kind(value)) {
+            case OBJECT:
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    if (!(entry.getKey() instanceof String) || !isJsonCompatible(entry.getValue())) {
+                        return false;
+                    }
+                }
+                return true;
+            case ARRAY:
+                for (Object element : (Collection<?>) value) {
+                    if (!isJsonCompatible(element)) {
+                        return false;
+                    }
+                }
+                return true;
+            case OTHER:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static Kind kind(Object value) {
+        return KINDS.get(value.getClass());
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        if (closed) {
+            return null;
+        }
+        if (!started) {
+            started = true;
+            return _currToken = start(root);
+        }
+        Iterator<?> current = containers.peek();
+        if (current == null) {
+            return _currToken = null;
+        }
+        if (context.inObject()) {
+            if (_currToken == JsonToken.FIELD_NAME) {
+                return _currToken = start(fieldValue);
+            }
+            if (current.hasNext()) {
+                Map.Entry<?, ?> field = (Map.Entry<?, ?>) current.next();
+                context.setCurrentName((String) field.getKey());
+                fieldValue = field.getValue();
+                value = null;
+                return _currToken = JsonToken.FIELD_NAME;
+            }
+            end();
+            return _currToken = JsonToken.END_OBJECT;
+        }
+        if (current.hasNext()) {
+            return _currToken = start(current.next());
+        }
+        end();
+        return _currToken = JsonToken.END_ARRAY;
+    }
+
+    private JsonToken start(Object value) {
+        this.value = value;
+        if (value == null) {
+            return JsonToken.VALUE_NULL;
+        }
+        Kind kind = kind(value);
+        switch (kind) {
+            case OBJECT:
+                containers.push(((Map<?, ?>) value).entrySet().iterator());
+                context = context.createChildObjectContext(-1, -1);
+                return JsonToken.START_OBJECT;
+            case ARRAY:
+                containers.push(((Collection<?>) value).iterator());
+                context = context.createChildArrayContext(-1, -1);
+                return JsonToken.START_ARRAY;
+            case BOOLEAN:
+                return (Boolean) value ? JsonToken.VALUE_TRUE : JsonToken.VALUE_FALSE;
+            default:
+                return kind.token;
+        }
+    }
+
+    private void end() {
+        containers.pop();
+        context = context.clearAndGetParent();
+        value = null;
+    }
+
+    @Override
+    protected void _handleEOF() {
+        /*no-op*/
+    }
+
+    @Override
+    public String getCurrentName() {
+        if (_currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY) {
+            JsonReadContext parent = context.getParent();
+            return parent == null ? null : parent.getCurrentName();
+        }
+        return context.getCurrentName();
+    }
+
+    @Override
+    public void overrideCurrentName(String name) {
+        try {
+            context.setCurrentName(name);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        containers.clear();
+        _currToken = null;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public JsonStreamContext getParsingContext() {
+        return context;
+    }
+
+    @Override
+    public String getText() {
+        if (_currToken == null) {
+            return null;
+        }
+        switch (_currToken) {
+            case FIELD_NAME:
+                return context.getCurrentName();
+            case VALUE_STRING:
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+            case VALUE_EMBEDDED_OBJECT:
+                return String.valueOf(value);
+            default:
+                return _currToken.asString();
+        }
+    }
+
+    @Override
+    public char[] getTextCharacters() {
+        String text = getText();
+        return text == null ? null : text.toCharArray();
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+        return false;
+    }
+
+    @Override
+    public int getTextLength() {
+        String text = getText();
+        return text == null ? 0 : text.length();
+    }
+
+    @Override
+    public int getTextOffset() {
+        return 0;
+    }
+
+    @Override
+    public byte[] getBinaryValue(Base64Variant variant) throws IOException {
+        if (_currToken == JsonToken.VALUE_STRING) {
+            try {
+                return variant.decode((String) value);
+            } catch (IllegalArgumentException e) {
+                throw _constructError("Failed to decode VALUE_STRING as base64 (" + variant + "): " + e.getMessage(), e);
+            }
+        }
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        throw _constructError("Current token (" + _currToken + ") not VALUE_STRING, can not access as binary");
+    }
+
+    @Override
+    public Object getEmbeddedObject() {
+        return _currToken == JsonToken.VALUE_EMBEDDED_OBJECT ? value : null;
+    }
+
+    @Override
+    public ObjectCodec getCodec() {
+        return codec;
+    }
+
+    @Override
+    public void setCodec(ObjectCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public Number getNumberValue() throws IOException {
+        if (_currToken != JsonToken.VALUE_NUMBER_INT && _currToken != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw _constructError("Current token (" + _currToken + ") not numeric, can not use numeric value accessors");
+        }
+        return (Number) value;
+    }
+
+    @Override
+    public NumberType getNumberType() throws IOException {
+        return kind(getNumberValue()).numberType;
+    }
+
+    @Override
+    public int getIntValue() throws IOException {
+        Number number = getNumberValue();
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.intValue();
+        }
+        if (_currToken == JsonToken.VALUE_NUMBER_INT) {
+            long longValue = getLongValue();
+            if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
+                reportOverflowInt(getText());
+            }
+            return (int) longValue;
+        }
+        double doubleValue = number.doubleValue();
+        if (doubleValue < Integer.MIN_VALUE || doubleValue > Integer.MAX_VALUE) {
+            reportOverflowInt(getText());
+        }
+        return number.intValue();
+    }
+
+    @Override
+    public long getLongValue() throws IOException {
+        Number number = getNumberValue();
+        if (number instanceof BigInteger) {
+            if (((BigInteger) number).bitLength() > 63) {
+                reportOverflowLong(getText());
+            }
+        } else if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+            double doubleValue = number.doubleValue();
+            if (doubleValue < Long.MIN_VALUE || doubleValue > Long.MAX_VALUE) {
+                reportOverflowLong(getText());
+            }
+        }
+        return number.longValue();
+    }
+
+    @Override
+    public BigInteger getBigIntegerValue() throws IOException {
+        Number number = getNumberValue();
+        if (number instanceof BigInteger) {
+            return (BigInteger) number;
+        }
+        if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).toBigInteger();
+        }
+        if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+            return BigDecimal.valueOf(number.doubleValue()).toBigInteger();
+        }
+        return BigInteger.valueOf(number.longValue());
+    }
+
+    @Override
+    public float getFloatValue() throws IOException {
+        return getNumberValue().floatValue();
+    }
+
+    @Override
+    public double getDoubleValue() throws IOException {
+        return getNumberValue().doubleValue();
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() throws IOException {
+        Number number = getNumberValue();
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (_currToken == JsonToken.VALUE_NUMBER_FLOAT) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    @Override
+    public JsonLocation getTokenLocation() {
+        return JsonLocation.NA;
+    }
+
+    @Override
+    public JsonLocation getCurrentLocation() {
+        return JsonLocation.NA;
+    }
+
+    /**
+     * The role of each class found in a tree, determined once per class. Checking every value against both
+     * {@link Map} and {@link Collection} would keep evicting the single type check the JVM caches per class,
+     * turning each check into a scan of the class's interfaces.
+     */
+    private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            return Kind.of(type);
+        }
+    };
+
+    private enum Kind {
+
+        OBJECT(JsonToken.START_OBJECT, null),
+        ARRAY(JsonToken.START_ARRAY, null),
+        STRING(JsonToken.VALUE_STRING, null),
+        BOOLEAN(null, null),
+        INT(JsonToken.VALUE_NUMBER_INT, NumberType.INT),
+        LONG(JsonToken.VALUE_NUMBER_INT, NumberType.LONG),
+        BIG_INTEGER(JsonToken.VALUE_NUMBER_INT, NumberType.BIG_INTEGER),
+        DOUBLE(JsonToken.VALUE_NUMBER_FLOAT, NumberType.DOUBLE),
+        FLOAT(JsonToken.VALUE_NUMBER_FLOAT, NumberType.FLOAT),
+        BIG_DECIMAL(JsonToken.VALUE_NUMBER_FLOAT, NumberType.BIG_DECIMAL),
+        OTHER(JsonToken.VALUE_EMBEDDED_OBJECT, null);
+
+        private final JsonToken token;
+        private final NumberType numberType;
+
+        Kind(JsonToken token, NumberType numberType) {
+            this.token = token;
+            this.numberType = numberType;
+        }
+
+        static Kind of(Class<?> type) {
+            if (Map.class.isAssignableFrom(type)) {
+                return OBJECT;
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                return ARRAY;
+            }
+            if (type == String.class) {
+                return STRING;
+            }
+            if (type == Boolean.class) {
+                return BOOLEAN;
+            }
+            if (type == Integer.class || type == Short.class || type == Byte.class) {
+                return INT;
+            }
+            if (type == Long.class) {
+                return LONG;
+            }
+            if (BigInteger.class.isAssignableFrom(type)) {
+                return BIG_INTEGER;
+            }
+            if (type == Double.class) {
+                return DOUBLE;
+            }
+            if (type == Float.class) {
+                return FLOAT;
+            }
+            if (BigDecimal.class.isAssignableFrom(type)) {
+                return BIG_DECIMAL;
+            }
+            return OTHER;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package io.leangen.graphql.metadata.strategy.value.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.leangen.graphql.execution.RawJson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Makes Jackson splice {@link RawJson} values into its output as-is, and read them back from JSON text or from
+ * the tokens it produced itself (e.g. when converting argument values).
+ * Registered with all the {@link com.fasterxml.jackson.databind.ObjectMapper}s created by {@link JacksonValueMapperFactory}.
+ * <p>Binary content is copied straight into the output of byte-based generators, without being decoded.</p>
+ */
+public class RawJsonModule extends SimpleModule {
+
+    public RawJsonModule() {
+        super("graphql-spqr-raw-json");
+        addSerializer(RawJson.class, new Serializer());
+        addDeserializer(RawJson.class, new Deserializer());
+    }
+
+    /**
+     * Writes the content of the given value as a raw JSON value
+     *
+     * @param json The value to write
+     * @param generator The generator to write to
+     *
+     * @throws IOException If writing fails
+     */
+    static void writeRaw(RawJson json, JsonGenerator generator) throws IOException {
+        if (generator instanceof TokenBuffer) {
+            //Buffers would otherwise store the content decoded as text
+            generator.writeEmbeddedObject(new RawValue(new RawContent(json)));
+        } else {
+            generator.writeRawValue(new RawContent(json));
+        }
+    }
+
+    private static class Serializer extends StdSerializer<RawJson> {
+
+        Serializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public void serialize(RawJson value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            writeRaw(value, generator);
+        }
+    }
+
+    private static class Deserializer extends StdDeserializer<RawJson> {
+
+        Deserializer() {
+            super(RawJson.class);
+        }
+
+        @Override
+        public RawJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
+                Object embedded = p.getEmbeddedObject();
+                if (embedded instanceof RawJson) {
+                    return (RawJson) embedded;
+                }
+                if (embedded instanceof RawValue) {
+                    Object raw = ((RawValue) embedded).rawValue();
+                    if (raw instanceof RawContent) {
+                        return ((RawContent) raw).json;
+                    }
+                    if (raw instanceof CharSequence) {
+                        return RawJson.of((CharSequence) raw);
+                    }
+                }
+            }
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                return RawJson.of(p.getText());
+            }
+            return (RawJson) ctxt.handleUnexpectedToken(RawJson.class, p);
+        }
+    }
+
+    /**
+     * Exposes the content to the generators as UTF-8 bytes where possible. Only character-based generators
+     * (and the quoting methods, which raw values never use) need it decoded as text.
+     */
+    private static class RawContent implements SerializableString {
+
+        private final RawJson json;
+        private SerializedString text;
+
+        RawContent(RawJson json) {
+            this.json = json;
+        }
+
+        private SerializedString text() {
+            if (text == null) {
+                text = new SerializedString(json.toString());
+            }
+            return text;
+        }
+
+        private int byteLength() {
+            Object content = json.getContent();
+            if (content instanceof byte[]) {
+                return ((byte[]) content).length;
+            }
+            if (content instanceof ByteBuffer) {
+                return ((ByteBuffer) content).remaining();
+            }
+            return -1;
+        }
+
+        @Override
+        public String getValue() {
+            return text().getValue();
+        }
+
+        @Override
+        public int charLength() {
+            return text().charLength();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return text().asQuotedChars();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            Object content = json.getContent();
+            if (content instanceof byte[]) {
+                return (byte[]) content;
+            }
+            if (content instanceof ByteBuffer) {
+                ByteBuffer buffer = (ByteBuffer) content;
+                if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+                    return buffer.array();
+                }
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.duplicate().get(bytes);
+                return bytes;
+            }
+            return content.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return text().asQuotedUTF8();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return text().appendQuotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return text().appendQuoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            int length = byteLength();
+            if (length < 0 || offset + length > buffer.length) {
+                return -1;
+            }
+            Object content = json.getContent();
+            if (content instanceof byte[]) {
+                System.arraycopy(content, 0, buffer, offset, length);
+            } else {
+                ((ByteBuffer) content).duplicate().get(buffer, offset, length);
+            }
+            return length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            return text().appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return text().writeQuotedUTF8(out);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            return json.writeTo(out);
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+            return text().putQuotedUTF8(buffer);
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            byte[] bytes = asUnquotedUTF8();
+            if (bytes.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(bytes);
+            return bytes.length;
+        }
+
+        @Override
+        public String toString() {
+            return getValue();
+        }
+    }
+}
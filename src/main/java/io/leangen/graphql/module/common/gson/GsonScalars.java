@@ -17,6 +17,7 @@ import graphql.language.Value;
 import graphql.schema.Coercing;
 import graphql.schema.CoercingParseLiteralException;
 import graphql.schema.GraphQLScalarType;
+import io.leangen.graphql.util.ConstantLiteralCache;
 
 import java.lang.reflect.Type;
 import java.util.Collections;
@@ -32,6 +33,10 @@ import static io.leangen.graphql.util.Scalars.valueParsingException;
 @SuppressWarnings("WeakerAccess")
 public class GsonScalars {
 
+    //Gson trees can not be made immutable, so constant literals are converted once and then copied for each use
+    private static final ConstantLiteralCache<JsonElement> CONSTANT_LITERALS = new ConstantLiteralCache<>(
+            GsonScalars::parseJsonValue, JsonElement::deepCopy);
+
     public static final GraphQLScalarType JsonAnyNode = GraphQLScalarType.newScalar()
             .name("JSON")
             .description("JSON object")
@@ -52,7 +57,7 @@ public class GsonScalars {
 
                 @Override
                 public Object parseLiteral(Object input) {
-                    return parseJsonValue(((Value) input));
+                    return parseLiteralValue(((Value) input));
                 }
             }).build();
 
@@ -73,7 +78,7 @@ public class GsonScalars {
 
                 @Override
                 public Object parseLiteral(Object input) {
-                    return parseJsonValue(literalOrException(input, ObjectValue.class));
+                    return parseLiteralValue(literalOrException(input, ObjectValue.class));
                 }
             }).build();
 
@@ -129,6 +134,10 @@ public class GsonScalars {
                 }
             }).build();
 
+    private static JsonElement parseLiteralValue(Value value) {
+        return CONSTANT_LITERALS.get(value, GsonScalars::parseJsonValue);
+    }
+
     private static JsonElement parseJsonValue(Value value) {
         if (value instanceof BooleanValue) {
             return new JsonPrimitive(((BooleanValue) value).isValue());
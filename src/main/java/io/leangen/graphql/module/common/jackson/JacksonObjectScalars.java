@@ -20,11 +20,17 @@ import graphql.schema.Coercing;
 import graphql.schema.CoercingParseLiteralException;
 import graphql.schema.GraphQLScalarType;
 
+import io.leangen.graphql.util.ConstantLiteralCache;
+
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static io.leangen.graphql.util.Scalars.literalOrException;
 
@@ -33,6 +39,25 @@ public class JacksonObjectScalars {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    //Constant literals are converted into immutable trees, so they can be shared between executions
+    private static final ConstantLiteralCache<JsonNode> CONSTANT_LITERALS = new ConstantLiteralCache<>(
+            value -> parseJsonValue(value, Collections.emptyMap(), true));
+
+    /*Resolved once per class: the serializer of the scalar mapped to the class itself or its nearest mapped superclass.
+    Abstract mapped types (like NumericNode) are skipped, as their scalars only accept a specific node type.*/
+    private static final ClassValue<Function<Object, Object>> SERIALIZERS = new ClassValue<Function<Object, Object>>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                GraphQLScalarType scalar = Modifier.isAbstract(current.getModifiers()) ? null : JacksonScalars.toGraphQLScalarType(current);
+                if (scalar != null) {
+                    return scalar.getCoercing()::serialize;
+                }
+            }
+            return Function.identity();
+        }
+    };
+
     public static final GraphQLScalarType JsonObjectNode = GraphQLScalarType.newScalar()
             .name("JsonObject")
             .description("JSON object")
@@ -55,7 +80,7 @@ public class JacksonObjectScalars {
 
                 @Override
                 public Object parseLiteral(Object input, Map<String, Object> variables) {
-                    return parseJsonValue(literalOrException(input, ObjectValue.class), variables);
+                    return parseLiteralValue(literalOrException(input, ObjectValue.class), variables);
                 }
             }).build();
 
@@ -66,8 +91,7 @@ public class JacksonObjectScalars {
 
                 @Override
                 public Object serialize(Object dataFetcherResult) {
-                    GraphQLScalarType scalar = JacksonScalars.toGraphQLScalarType(dataFetcherResult.getClass());
-                    return scalar != null ? scalar.getCoercing().serialize(dataFetcherResult) : dataFetcherResult;
+                    return SERIALIZERS.get(dataFetcherResult.getClass()).apply(dataFetcherResult);
                 }
 
                 @Override
@@ -82,11 +106,15 @@ public class JacksonObjectScalars {
 
                 @Override
                 public Object parseLiteral(Object input, Map<String, Object> variables) {
-                    return parseJsonValue(((Value) input), variables);
+                    return parseLiteralValue(((Value) input), variables);
                 }
             }).build();
 
-    private static JsonNode parseJsonValue(Value value, Map<String, Object> variables) {
+    private static JsonNode parseLiteralValue(Value value, Map<String, Object> variables) {
+        return CONSTANT_LITERALS.get(value, literal -> parseJsonValue(literal, variables, false));
+    }
+
+    private static JsonNode parseJsonValue(Value value, Map<String, Object> variables, boolean immutable) {
         if (value instanceof BooleanValue) {
             return JsonNodeFactory.instance.booleanNode(((BooleanValue) value).isValue());
         }
@@ -107,18 +135,18 @@ public class JacksonObjectScalars {
         }
         if (value instanceof ArrayValue) {
             List<Value> values = ((ArrayValue) value).getValues();
-            ArrayNode jsonArray = JsonNodeFactory.instance.arrayNode(values.size());
-            values.forEach(v -> jsonArray.add(parseJsonValue(v, variables)));
-            return jsonArray;
+            List<JsonNode> elements = new ArrayList<>(values.size());
+            values.forEach(v -> elements.add(parseJsonValue(v, variables, immutable)));
+            return new ArrayNode(JsonNodeFactory.instance, immutable ? Collections.unmodifiableList(elements) : elements);
         }
         if (value instanceof VariableReference) {
             return OBJECT_MAPPER.convertValue(variables.get(((VariableReference) value).getName()), JsonNode.class);
         }
         if (value instanceof ObjectValue) {
-            final ObjectNode result = JsonNodeFactory.instance.objectNode();
+            final Map<String, JsonNode> fields = new LinkedHashMap<>();
             ((ObjectValue) value).getObjectFields().forEach(objectField ->
-                    result.set(objectField.getName(), parseJsonValue(objectField.getValue(), variables)));
-            return result;
+                    fields.put(objectField.getName(), parseJsonValue(objectField.getValue(), variables, immutable)));
+            return new ObjectNode(JsonNodeFactory.instance, immutable ? Collections.unmodifiableMap(fields) : fields);
         }
         //Should never happen
         throw new CoercingParseLiteralException("Unknown scalar AST type: " + value.getClass().getName());
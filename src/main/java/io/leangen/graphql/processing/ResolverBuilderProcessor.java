@@ -0,0 +1,276 @@
+package io.leangen.graphql.processing;
+
+import graphql.execution.batched.Batched;
+import io.leangen.graphql.annotations.GraphQLComplexity;
+import io.leangen.graphql.annotations.GraphQLMutation;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.GraphQLSubscription;
+import io.leangen.graphql.util.ReservedStrings;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.beans.Introspector;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a {@link io.leangen.graphql.metadata.strategy.query.GeneratedResolverBuilder} for each class declaring
+ * members annotated with {@link GraphQLQuery}, {@link GraphQLMutation} or {@link GraphQLSubscription}.
+ * The generated builder for {@code com.example.BookService} is {@code com.example.BookService_ResolverBuilder},
+ * and it produces the same resolvers as {@link io.leangen.graphql.metadata.strategy.query.AnnotatedResolverBuilder}
+ * would for that class. It is meant to be attached to the operation source explicitly, e.g.
+ * {@code generator.withOperationsFromSingleton(bookService, new BookService_ResolverBuilder())}.
+ * <p>The processor is not registered automatically. To use it, add it to the compiler's annotation processors
+ * (e.g. via {@code -processor io.leangen.graphql.processing.ResolverBuilderProcessor}).</p>
+ */
+@SupportedAnnotationTypes({
+        "io.leangen.graphql.annotations.GraphQLQuery",
+        "io.leangen.graphql.annotations.GraphQLMutation",
+        "io.leangen.graphql.annotations.GraphQLSubscription"
+})
+public class ResolverBuilderProcessor extends AbstractProcessor {
+
+    public static final String SUFFIX = "_ResolverBuilder";
+
+    private static final String OPERATION = "graphql.language.OperationDefinition.Operation.";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> services = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element enclosing = element.getEnclosingElement();
+                if (enclosing instanceof TypeElement) {
+                    services.add((TypeElement) enclosing);
+                }
+            }
+        }
+        for (TypeElement service : services) {
+            if (service.getModifiers().contains(Modifier.PRIVATE)
+                    || service.getNestingKind() == NestingKind.LOCAL || service.getNestingKind() == NestingKind.ANONYMOUS) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "No resolver builder generated, as the class is not accessible from its package", service);
+                continue;
+            }
+            try {
+                generate(service);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to generate the resolver builder: " + e.getMessage(), service);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement service) throws IOException {
+        List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(service);
+        List<ExecutableElement> methods = ElementFilter.methodsIn(members).stream()
+                .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+                .collect(Collectors.toList());
+        List<String> bindings = new ArrayList<>();
+
+        for (ExecutableElement method : methods) {
+            GraphQLQuery query = method.getAnnotation(GraphQLQuery.class);
+            if (query != null) {
+                if (findPropertyField(method, members).map(field -> field.getAnnotation(GraphQLQuery.class) != null).orElse(false)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Ambiguous mapping of " + method.getSimpleName()
+                            + ", as both the getter and the field are annotated", method);
+                    continue;
+                }
+                bindings.add(methodBinding(service, method, "QUERY", query.name(), query.description(), query.deprecationReason(),
+                        method.getAnnotation(Batched.class) != null));
+            }
+            GraphQLMutation mutation = method.getAnnotation(GraphQLMutation.class);
+            if (mutation != null) {
+                bindings.add(methodBinding(service, method, "MUTATION", mutation.name(), mutation.description(), mutation.deprecationReason(), false));
+            }
+            GraphQLSubscription subscription = method.getAnnotation(GraphQLSubscription.class);
+            if (subscription != null) {
+                bindings.add(methodBinding(service, method, "SUBSCRIPTION", subscription.name(), subscription.description(), subscription.deprecationReason(), false));
+            }
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            GraphQLQuery query = field.getAnnotation(GraphQLQuery.class);
+            if (query == null) {
+                continue;
+            }
+            Optional<ExecutableElement> getter = methods.stream()
+                    .filter(method -> findPropertyField(method, members).map(field::equals).orElse(false))
+                    .findFirst();
+            String name = literal(coalesce(query.name(), field.getSimpleName().toString()));
+            String common = String.join(", ", name, literal(query.description()), literal(ReservedStrings.decode(query.deprecationReason())),
+                    complexity(field), String.valueOf(field.getAnnotation(Batched.class) != null), literal(field.getSimpleName().toString()));
+            if (getter.isPresent()) {
+                if (getter.get().getAnnotation(GraphQLQuery.class) == null) {
+                    bindings.add("property(" + common + ", " + literal(getter.get().getSimpleName().toString()) + ",\n"
+                            + "                        " + invocation(service, getter.get()) + ")");
+                }
+            } else if (field.getModifiers().contains(Modifier.PUBLIC)) {
+                bindings.add("field(" + common + ")");
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "Ignored, as the field is neither public nor has a matching public getter", field);
+            }
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(service).getQualifiedName().toString();
+        String builderName = binaryName(service).replace('.', '_').replace('$', '_') + SUFFIX;
+        String serviceName = service.getQualifiedName().toString();
+        try (Writer writer = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? builderName : packageName + "." + builderName, service).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("/**\n"
+                    + " * Generated by {@code " + getClass().getName() + "} from {@link " + serviceName + "}. Do not edit.\n"
+                    + " */\n"
+                    + "public class " + builderName + " extends io.leangen.graphql.metadata.strategy.query.GeneratedResolverBuilder {\n\n"
+                    + "    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n"
+                    + "    public " + builderName + "() {\n"
+                    + "        super(" + serviceName + ".class");
+            for (String binding : bindings) {
+                writer.write(",\n                " + binding);
+            }
+            writer.write(");\n    }\n}\n");
+        }
+    }
+
+    private String methodBinding(TypeElement service, ExecutableElement method, String operation, String name, String description,
+                                 String deprecationReason, boolean batched) {
+        String parameterTypes = method.getParameters().stream()
+                .map(parameter -> sourceName(parameter.asType()) + ".class")
+                .collect(Collectors.joining(", ", "new Class<?>[] {", "}"));
+        return "method(" + OPERATION + operation + ", "
+                + literal(coalesce(name, propertyName(method.getSimpleName().toString()))) + ", "
+                + literal(description) + ", "
+                + literal(ReservedStrings.decode(deprecationReason)) + ", "
+                + complexity(method) + ", "
+                + batched + ", "
+                + literal(method.getSimpleName().toString()) + ", "
+                + parameterTypes + ",\n"
+                + "                        " + invocation(service, method) + ")";
+    }
+
+    private String invocation(TypeElement service, ExecutableElement method) {
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            arguments.add("(" + sourceName(method.getParameters().get(i).asType()) + ") args[" + i + "]");
+        }
+        String target = method.getModifiers().contains(Modifier.STATIC)
+                ? service.getQualifiedName().toString()
+                : "((" + service.getQualifiedName() + ") target)";
+        String call = target + "." + method.getSimpleName() + "(" + String.join(", ", arguments) + ")";
+        return method.getReturnType().getKind() == TypeKind.VOID
+                ? "(target, args) -> {" + call + "; return null;}"
+                : "(target, args) -> " + call;
+    }
+
+    /**
+     * Finds the field backing the given getter the same way {@link io.leangen.graphql.util.ClassUtils#getProperties(Class)} does
+     */
+    private Optional<VariableElement> findPropertyField(ExecutableElement getter, List<? extends Element> members) {
+        String name = getter.getSimpleName().toString();
+        TypeKind returnKind = getter.getReturnType().getKind();
+        boolean isGetter = getter.getParameters().isEmpty() && returnKind != TypeKind.VOID
+                && !processingEnv.getTypeUtils().isSameType(getter.getReturnType(), type("java.lang.Void")) && name.startsWith("get")
+                || (returnKind == TypeKind.BOOLEAN || processingEnv.getTypeUtils().isSameType(getter.getReturnType(), type("java.lang.Boolean")))
+                && name.startsWith("is");
+        if (!isGetter || getter.getModifiers().contains(Modifier.ABSTRACT)) {
+            return Optional.empty();
+        }
+        String fieldName = propertyName(name);
+        return ElementFilter.fieldsIn(members).stream()
+                .filter(field -> field.getSimpleName().contentEquals(fieldName))
+                .filter(field -> !field.getModifiers().contains(Modifier.PUBLIC))
+                .filter(field -> processingEnv.getTypeUtils().isSameType(
+                        processingEnv.getTypeUtils().erasure(field.asType()), processingEnv.getTypeUtils().erasure(getter.getReturnType())))
+                .findFirst();
+    }
+
+    private TypeMirror type(String className) {
+        return processingEnv.getElementUtils().getTypeElement(className).asType();
+    }
+
+    private String sourceName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+            case ARRAY:
+                return sourceName(((ArrayType) erased).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return erased.getKind().name().toLowerCase(Locale.ROOT);
+            default:
+                return "java.lang.Object";
+        }
+    }
+
+    private String complexity(Element element) {
+        GraphQLComplexity complexity = element.getAnnotation(GraphQLComplexity.class);
+        return complexity == null ? "null" : literal(complexity.value());
+    }
+
+    private String literal(String value) {
+        return value == null ? "null" : processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private static String binaryName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing.getKind() != ElementKind.PACKAGE; enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    private static String coalesce(String value, String fallback) {
+        return value == null || value.isEmpty() ? fallback : value;
+    }
+
+    /**
+     * Same as {@link io.leangen.graphql.util.ClassUtils#getFieldNameFromGetter(java.lang.reflect.Method)}
+     */
+    private static String propertyName(String methodName) {
+        String name = methodName;
+        if (name.startsWith("get") && name.length() > 3 && Character.isUpperCase(name.charAt(3))) {
+            name = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2 && Character.isUpperCase(name.charAt(2))) {
+            name = name.substring(2);
+        }
+        return Introspector.decapitalize(name);
+    }
+}
@@ -4,15 +4,18 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 import io.leangen.geantyref.GenericTypeReflector;
-import io.leangen.graphql.annotations.GraphQLIgnore;
+import io.leangen.graphql.generator.GenerationProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.AnnotatedType;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -22,22 +25,56 @@ import java.util.stream.Stream;
  * Enables discovery of classes that extend or implement a given class.
  * Instances maintain a cache of search results and should be reused for better performance.
  * The cache is thread-safe but allows for multiple search requests to go through if they arrive at exactly the same time.
+ * If a {@link SubtypeIndex} is available, searches filtered using only the predefined {@link #CONCRETE}, {@link #PUBLIC}
+ * and {@link #NON_IGNORED} filters are served from the index whenever it covers the requested packages.
+ * The searches are reported as {@link GenerationProfiler.Phase#CLASS_SCAN} to the {@link GenerationProfiler}
+ * set via {@link #withProfiler(GenerationProfiler)}, if any.
  * This class operates in best-effort manner and only logs (never rethrows) any exceptions that occur during the search or class loading.
  */
 public class ClassFinder {
 
-    public final static Predicate<ClassInfo> CONCRETE = info -> !info.isAbstract() && !info.isInterface();
+    public final static Predicate<ClassInfo> CONCRETE = new FlagFilter(EnumSet.of(SubtypeIndex.Flag.CONCRETE));
 
-    public final static Predicate<ClassInfo> NON_IGNORED = info ->
-            info.getAnnotations().directOnly().stream().noneMatch(ann -> ann.getName().equals(GraphQLIgnore.class.getName()));
+    public final static Predicate<ClassInfo> NON_IGNORED = new FlagFilter(EnumSet.of(SubtypeIndex.Flag.NON_IGNORED));
 
-    public final static Predicate<ClassInfo> PUBLIC = ClassInfo::isPublic;
+    public final static Predicate<ClassInfo> PUBLIC = new FlagFilter(EnumSet.of(SubtypeIndex.Flag.PUBLIC));
 
-    public final static Predicate<ClassInfo> ALL = info -> true;
+    public final static Predicate<ClassInfo> ALL = new FlagFilter(EnumSet.noneOf(SubtypeIndex.Flag.class));
 
     public static final Logger log = LoggerFactory.getLogger(ClassFinder.class);
 
     private final Map<String, ScanResult> cache = new ConcurrentHashMap<>();
+    private GenerationProfiler profiler = GenerationProfiler.NONE;
+    private SubtypeIndex index;
+    private boolean indexLoaded;
+
+    /**
+     * Creates a finder that consults the {@link SubtypeIndex} found on the classpath (if any) before scanning.
+     */
+    public ClassFinder() {
+    }
+
+    /**
+     * Creates a finder that consults the given index before scanning.
+     *
+     * @param index The index to consult, or {@code null} to always scan
+     */
+    public ClassFinder(SubtypeIndex index) {
+        this.index = index;
+        this.indexLoaded = true;
+    }
+
+    /**
+     * Reports the searches to the given profiler
+     *
+     * @param profiler The profiler to report the searches to
+     *
+     * @return This {@link ClassFinder} instance, to allow method chaining
+     */
+    public ClassFinder withProfiler(GenerationProfiler profiler) {
+        this.profiler = Objects.requireNonNull(profiler);
+        return this;
+    }
 
     /**
      * Searches for the implementations/subtypes of the given {@link AnnotatedType}. Only the matching classes are loaded.
@@ -64,18 +101,33 @@ public class ClassFinder {
      * @return A collection of classes discovered that implementation/extend {@code superType}
      */
     public List<Class<?>> findImplementations(Class superType, Predicate<ClassInfo> filter, String... packages) {
+        return profiler.profile(GenerationProfiler.Phase.CLASS_SCAN, superType, ClassFinder.class,
+                () -> find(superType, filter, packages));
+    }
+
+    private List<Class<?>> find(Class<?> superType, Predicate<ClassInfo> filter, String... packages) {
         String[] scanPackages = Utils.emptyIfNull(packages);
-        String cacheKey = Arrays.stream(scanPackages).sorted().collect(Collectors.joining());
-        ScanResult scanResults = cache.computeIfAbsent(cacheKey, k -> new ClassGraph()
-                .whitelistPackages(packages)
-                .enableAllInfo()
-                .initializeLoadedClasses()
-                .scan());
+        Predicate<ClassInfo> classFilter = filter == null ? ALL : filter;
         try {
+            // Filters made up of the predefined flags only can be served from the index, or a scan without the member info
+            boolean flagsOnly = classFilter instanceof FlagFilter;
+            if (flagsOnly) {
+                SubtypeIndex subtypeIndex = getIndex();
+                if (subtypeIndex != null && subtypeIndex.covers(scanPackages)) {
+                    return subtypeIndex.getSubTypes(superType.getName(), scanPackages).stream()
+                            .filter(entry -> entry.hasFlags(((FlagFilter) classFilter).flags))
+                            .flatMap(entry -> loadClass(entry.getClassName(), superType, null))
+                            .collect(Collectors.toList());
+                }
+            }
+            String cacheKey = Arrays.stream(scanPackages).sorted().collect(Collectors.joining()) + (flagsOnly ? "" : "*");
+            ScanResult scanResults = cache.computeIfAbsent(cacheKey, k -> flagsOnly
+                    ? new ClassGraph().whitelistPackages(scanPackages).enableClassInfo().enableAnnotationInfo().ignoreClassVisibility().scan()
+                    : new ClassGraph().whitelistPackages(scanPackages).enableAllInfo().initializeLoadedClasses().scan());
             return scanResults.getAllClasses().stream()
                     .filter(impl -> superType.isInterface() ? impl.implementsInterface(superType.getName()) : impl.extendsSuperclass(superType.getName()))
-                    .filter(filter == null ? info -> true : filter)
-                    .flatMap(info -> loadClass(info, superType))
+                    .filter(classFilter)
+                    .flatMap(info -> loadClass(info.getName(), superType, info))
                     .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("Failed to auto discover the subtypes of " + superType.getName()
@@ -84,6 +136,19 @@ public class ClassFinder {
         }
     }
 
+    private synchronized SubtypeIndex getIndex() {
+        if (!indexLoaded) {
+            indexLoaded = true;
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            try {
+                index = SubtypeIndex.load(classLoader != null ? classLoader : ClassFinder.class.getClassLoader());
+            } catch (Exception e) {
+                log.warn("Subtype index could not be loaded and will be ignored", e);
+            }
+        }
+        return index;
+    }
+
     private static Stream<AnnotatedType> getExactSubType(AnnotatedType superType, Class<?> subClass, boolean allowMissingGenerics) {
         AnnotatedType subType = GenericTypeReflector.getExactSubType(superType, subClass);
         if (subType == null || (!allowMissingGenerics && ClassUtils.isMissingTypeParameters(subType.getType()))) {
@@ -95,18 +160,19 @@ public class ClassFinder {
         return Stream.of(subType);
     }
 
-    private static Stream<Class<?>> loadClass(ClassInfo classInfo, Class superType) {
+    private static Stream<Class<?>> loadClass(String className, Class superType, ClassInfo classInfo) {
         try {
-            return Stream.of(Class.forName(classInfo.getName(), true, superType.getClassLoader()));
+            return Stream.of(Class.forName(className, true, superType.getClassLoader()));
         } catch (ClassNotFoundException e) {
             log.warn(String.format("Auto discovered class %s could not be loaded using the same loader that loaded %s." +
                     " Trying other loaders... For details see %s",
-                    classInfo.getName(), superType.getName(), Urls.Errors.IMPLEMENTATION_CLASS_LOADING_FAILED));
+                    className, superType.getName(), Urls.Errors.IMPLEMENTATION_CLASS_LOADING_FAILED));
         }
         try {
-            return Stream.of(classInfo.loadClass());
+            return Stream.of(classInfo != null ? classInfo.loadClass()
+                    : Class.forName(className, true, Thread.currentThread().getContextClassLoader()));
         } catch (Exception e) {
-            log.error("Auto discovered type " + classInfo.getName() + " failed to load and will be ignored", e);
+            log.error("Auto discovered type " + className + " failed to load and will be ignored", e);
             return Stream.empty();
         }
     }
@@ -119,4 +185,33 @@ public class ClassFinder {
             log.warn(ScanResult.class.getName() + " did not close cleanly", e);
         }
     }
+
+    /**
+     * A filter composed of {@link SubtypeIndex.Flag}s only. Unlike arbitrary predicates, these can be
+     * evaluated against a {@link SubtypeIndex} without loading or scanning the classes.
+     */
+    private static class FlagFilter implements Predicate<ClassInfo> {
+
+        private final Set<SubtypeIndex.Flag> flags;
+
+        FlagFilter(Set<SubtypeIndex.Flag> flags) {
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean test(ClassInfo info) {
+            return flags.stream().allMatch(flag -> flag.test(info));
+        }
+
+        @Override
+        public Predicate<ClassInfo> and(Predicate<? super ClassInfo> other) {
+            if (other instanceof FlagFilter) {
+                Set<SubtypeIndex.Flag> combined = EnumSet.noneOf(SubtypeIndex.Flag.class);
+                combined.addAll(this.flags);
+                combined.addAll(((FlagFilter) other).flags);
+                return new FlagFilter(combined);
+            }
+            return Predicate.super.and(other);
+        }
+    }
 }
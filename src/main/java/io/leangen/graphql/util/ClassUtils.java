@@ -75,9 +75,13 @@ public class ClassUtils {
      *
      * @param type       The class to scan
      * @param annotation The annotation to look for
-     * @return All annotated methods
+     * @return All annotated methods, as an unmodifiable set memoized per class
      */
     public static Set<Method> getAnnotatedMethods(final Class<?> type, final Class<? extends Annotation> annotation) {
+        return ReflectionCache.getAnnotatedMethods(type, annotation, () -> findAnnotatedMethods(type, annotation));
+    }
+
+    private static Set<Method> findAnnotatedMethods(final Class<?> type, final Class<? extends Annotation> annotation) {
         Set<Method> methods = new HashSet<>();
         collectPublicAbstractMethods(type, methods);
         Collections.addAll(methods, type.getMethods());
@@ -91,15 +95,19 @@ public class ClassUtils {
      *
      * @param type       The class to scan
      * @param annotation The annotation to look for
-     * @return All annotated fields
+     * @return All annotated fields, as an unmodifiable set memoized per class
      */
     public static Set<Field> getAnnotatedFields(final Class<?> type, final Class<? extends Annotation> annotation) {
-        return stream(type.getFields())
+        return ReflectionCache.getAnnotatedFields(type, annotation, () -> stream(type.getFields())
                 .filter(element -> element.isAnnotationPresent(annotation))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toSet()));
     }
 
     public static Set<Property> getProperties(final Class<?> type) {
+        return ReflectionCache.getProperties(type, () -> findProperties(type));
+    }
+
+    private static Set<Property> findProperties(final Class<?> type) {
         return stream(type.getMethods())
                 .filter(ClassUtils::isGetter)
                 .map(getter -> findFieldByGetter(getter)
@@ -133,6 +141,10 @@ public class ClassUtils {
      * @return The resolved annotated return type
      */
     public static AnnotatedType getReturnType(Method method, AnnotatedType declaringType) {
+        return ReflectionCache.getResolvedType(method, declaringType, () -> resolveReturnType(method, declaringType));
+    }
+
+    private static AnnotatedType resolveReturnType(Method method, AnnotatedType declaringType) {
         AnnotatedType exactDeclaringType = GenericTypeReflector.getExactSuperType(capture(declaringType), method.getDeclaringClass());
         if (isMissingTypeParameters(exactDeclaringType.getType())) {
             return method.getAnnotatedReturnType();
@@ -148,6 +160,10 @@ public class ClassUtils {
      * @return The resolved annotated field type
      */
     public static AnnotatedType getFieldType(Field field, AnnotatedType declaringType) {
+        return ReflectionCache.getResolvedType(field, declaringType, () -> resolveFieldType(field, declaringType));
+    }
+
+    private static AnnotatedType resolveFieldType(Field field, AnnotatedType declaringType) {
         AnnotatedType exactDeclaringType = GenericTypeReflector.getExactSuperType(capture(declaringType), field.getDeclaringClass());
         if (isMissingTypeParameters(exactDeclaringType.getType())) {
             return field.getAnnotatedType();
@@ -310,13 +326,13 @@ public class ClassUtils {
     }
 
     public static Optional<Method> findGetter(Class<?> type, String fieldName) {
-        return Utils.or(
-                findMethod(type, "get" + Utils.capitalize(fieldName)),
-                findMethod(type, "is" + Utils.capitalize(fieldName)));
+        return ReflectionCache.findGetter(type, fieldName, name -> Utils.or(
+                findMethod(type, "get" + Utils.capitalize(name)),
+                findMethod(type, "is" + Utils.capitalize(name))));
     }
 
     public static Optional<Method> findSetter(Class<?> type, String fieldName, Class<?> fieldType) {
-        return findMethod(type, "set" + Utils.capitalize(fieldName), fieldType);
+        return ReflectionCache.findSetter(type, fieldName, fieldType, () -> findMethod(type, "set" + Utils.capitalize(fieldName), fieldType));
     }
 
     public static Optional<Field> findFieldByGetter(Method getter) {
@@ -0,0 +1,88 @@
+package io.leangen.graphql.util;
+
+import graphql.language.ArrayValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Remembers the result of converting constant object and array literals (those not referencing any variables),
+ * so that a literal is only converted once per parsed document. Combined with a
+ * {@link graphql.execution.preparsed.PreparsedDocumentProvider} (e.g. for persisted queries), the same document,
+ * and thus the same literal instances, are used for every execution.
+ * <p>Literals are held weakly and compared by identity (AST nodes do not override {@code equals}),
+ * so entries disappear together with the documents they belong to. The converted values are shared between
+ * executions and must therefore be immutable, or protected by the given {@code share} function.</p>
+ *
+ * @param <T> The type of the converted values
+ */
+public class ConstantLiteralCache<T> {
+
+    private final Map<Value, T> cache = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Function<Value, T> constantConverter;
+    private final Function<T, T> share;
+
+    /**
+     * @param constantConverter Converts a constant literal into a value that can be cached
+     * @param share Prepares a cached value to be handed out, e.g. by copying it if it is not immutable
+     */
+    public ConstantLiteralCache(Function<Value, T> constantConverter, Function<T, T> share) {
+        this.constantConverter = constantConverter;
+        this.share = share;
+    }
+
+    public ConstantLiteralCache(Function<Value, T> constantConverter) {
+        this(constantConverter, Function.identity());
+    }
+
+    /**
+     * Returns the cached conversion of the given literal if it is a constant object or array value,
+     * or converts it using the given converter otherwise
+     *
+     * @param literal The literal to convert
+     * @param converter Converts literals that are not cached
+     *
+     * @return The converted literal
+     */
+    public T get(Value literal, Function<Value, T> converter) {
+        if (!(literal instanceof ObjectValue || literal instanceof ArrayValue)) {
+            return converter.apply(literal);
+        }
+        T converted = cache.get(literal);
+        if (converted == null) {
+            if (!isConstant(literal)) {
+                return converter.apply(literal);
+            }
+            converted = constantConverter.apply(literal);
+            cache.put(literal, converted);
+        }
+        return share.apply(converted);
+    }
+
+    public static boolean isConstant(Value value) {
+        if (value instanceof VariableReference) {
+            return false;
+        }
+        if (value instanceof ArrayValue) {
+            for (Value element : ((ArrayValue) value).getValues()) {
+                if (!isConstant(element)) {
+                    return false;
+                }
+            }
+        }
+        if (value instanceof ObjectValue) {
+            for (ObjectField field : ((ObjectValue) value).getObjectFields()) {
+                if (!isConstant(field.getValue())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
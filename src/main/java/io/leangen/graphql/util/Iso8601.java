@@ -0,0 +1,359 @@
+package io.leangen.graphql.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Hand-written formatting and parsing of the common ISO-8601 shapes used by the temporal scalars.
+ * <p>Every method produces exactly the same result as the corresponding {@code toString} or {@code parse} method
+ * of the {@code java.time} type. Only values and strings in the common shape (a 4-digit year, an offset given as
+ * {@code Z} or {@code ±HH:MM}, no region ID etc.) are handled directly, anything else is delegated
+ * to the {@code java.time} formatters.</p>
+ */
+public final class Iso8601 {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    //Seconds from the epoch to 0000-01-01T00:00:00Z and 10000-01-01T00:00:00Z
+    private static final long MIN_FAST_SECOND = -62_167_219_200L;
+    private static final long MAX_FAST_SECOND = 253_402_300_800L;
+    private static final int[] NANO_SCALE = {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+    private Iso8601() {
+    }
+
+    public static String format(Instant instant) {
+        return formatInstant(instant.getEpochSecond(), instant.getNano(), instant);
+    }
+
+    /**
+     * Formats the instant represented by the given epoch milliseconds, same as
+     * {@code Instant.ofEpochMilli(epochMilli).toString()} but without allocating the {@link Instant}
+     *
+     * @param epochMilli Milliseconds since the epoch
+     *
+     * @return The ISO-8601 representation of the instant
+     */
+    public static String formatEpochMilli(long epochMilli) {
+        return formatInstant(Math.floorDiv(epochMilli, 1000), (int) Math.floorMod(epochMilli, 1000) * 1_000_000, null);
+    }
+
+    public static String format(LocalDate date) {
+        if (!isFastYear(date.getYear())) {
+            return date.toString();
+        }
+        char[] buf = new char[10];
+        return new String(buf, 0, appendDate(buf, 0, date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+    }
+
+    public static String format(LocalTime time) {
+        char[] buf = new char[18];
+        return new String(buf, 0, appendTime(buf, 0, time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), false));
+    }
+
+    public static String format(LocalDateTime dateTime) {
+        if (!isFastYear(dateTime.getYear())) {
+            return dateTime.toString();
+        }
+        char[] buf = new char[29];
+        return new String(buf, 0, appendDateTime(buf, 0, dateTime));
+    }
+
+    public static String format(OffsetDateTime dateTime) {
+        if (!isFastYear(dateTime.getYear())) {
+            return dateTime.toString();
+        }
+        String offset = dateTime.getOffset().getId();
+        char[] buf = new char[29 + offset.length()];
+        int pos = appendDateTime(buf, 0, dateTime.toLocalDateTime());
+        offset.getChars(0, offset.length(), buf, pos);
+        return new String(buf, 0, pos + offset.length());
+    }
+
+    public static String format(ZonedDateTime dateTime) {
+        if (!isFastYear(dateTime.getYear()) || dateTime.getZone() != dateTime.getOffset()) {
+            return dateTime.toString();
+        }
+        return format(dateTime.toOffsetDateTime());
+    }
+
+    public static String format(OffsetTime time) {
+        String offset = time.getOffset().getId();
+        char[] buf = new char[18 + offset.length()];
+        int pos = appendTime(buf, 0, time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), false);
+        offset.getChars(0, offset.length(), buf, pos);
+        return new String(buf, 0, pos + offset.length());
+    }
+
+    public static Instant parseInstant(String text) {
+        if (text.length() >= 20 && text.charAt(text.length() - 1) == 'Z') {
+            long date = parseDate(text, 0);
+            if (date >= 0 && text.charAt(10) == 'T') {
+                long time = parseTime(text, 11, text.length() - 1, true);
+                if (time >= 0) {
+                    long epochDay = LocalDate.of(year(date), month(date), day(date)).toEpochDay();
+                    return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + time / 1_000_000_000, time % 1_000_000_000);
+                }
+            }
+        }
+        return Instant.parse(text);
+    }
+
+    public static LocalDate parseLocalDate(String text) {
+        long date = text.length() == 10 ? parseDate(text, 0) : -1;
+        if (date >= 0) {
+            return LocalDate.of(year(date), month(date), day(date));
+        }
+        return LocalDate.parse(text);
+    }
+
+    public static LocalTime parseLocalTime(String text) {
+        long time = parseTime(text, 0, text.length(), false);
+        if (time >= 0) {
+            return LocalTime.ofNanoOfDay(time);
+        }
+        return LocalTime.parse(text);
+    }
+
+    public static LocalDateTime parseLocalDateTime(String text) {
+        LocalDateTime dateTime = parseDateTime(text, text.length());
+        return dateTime != null ? dateTime : LocalDateTime.parse(text);
+    }
+
+    public static OffsetDateTime parseOffsetDateTime(String text) {
+        int offsetStart = offsetStart(text, 16);
+        if (offsetStart > 0) {
+            LocalDateTime dateTime = parseDateTime(text, offsetStart);
+            ZoneOffset offset = parseOffset(text, offsetStart);
+            if (dateTime != null && offset != null) {
+                return OffsetDateTime.of(dateTime, offset);
+            }
+        }
+        return OffsetDateTime.parse(text);
+    }
+
+    public static ZonedDateTime parseZonedDateTime(String text) {
+        int offsetStart = offsetStart(text, 16);
+        if (offsetStart > 0) {
+            LocalDateTime dateTime = parseDateTime(text, offsetStart);
+            ZoneOffset offset = parseOffset(text, offsetStart);
+            if (dateTime != null && offset != null) {
+                return ZonedDateTime.of(dateTime, offset);
+            }
+        }
+        return ZonedDateTime.parse(text);
+    }
+
+    public static OffsetTime parseOffsetTime(String text) {
+        int offsetStart = offsetStart(text, 5);
+        if (offsetStart > 0) {
+            long time = parseTime(text, 0, offsetStart, false);
+            ZoneOffset offset = parseOffset(text, offsetStart);
+            if (time >= 0 && offset != null) {
+                return OffsetTime.of(LocalTime.ofNanoOfDay(time), offset);
+            }
+        }
+        return OffsetTime.parse(text);
+    }
+
+    private static String formatInstant(long epochSecond, int nano, Instant instant) {
+        if (epochSecond < MIN_FAST_SECOND || epochSecond >= MAX_FAST_SECOND) {
+            return (instant != null ? instant : Instant.ofEpochSecond(epochSecond, nano)).toString();
+        }
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        char[] buf = new char[30];
+        int pos = appendDate(buf, 0, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        buf[pos++] = 'T';
+        pos = appendTime(buf, pos, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nano, true);
+        buf[pos++] = 'Z';
+        return new String(buf, 0, pos);
+    }
+
+    private static int appendDateTime(char[] buf, int pos, LocalDateTime dateTime) {
+        pos = appendDate(buf, pos, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        buf[pos++] = 'T';
+        return appendTime(buf, pos, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), false);
+    }
+
+    private static int appendDate(char[] buf, int pos, int year, int month, int day) {
+        pos = appendDigits(buf, pos, year, 4);
+        buf[pos++] = '-';
+        pos = appendDigits(buf, pos, month, 2);
+        buf[pos++] = '-';
+        return appendDigits(buf, pos, day, 2);
+    }
+
+    /**
+     * Seconds are omitted when both they and the nanos are zero, unless {@code alwaysSeconds} is set
+     * (as is the case for instants). Nanos are written in groups of 3 digits, as many as needed.
+     */
+    private static int appendTime(char[] buf, int pos, int hour, int minute, int second, int nano, boolean alwaysSeconds) {
+        pos = appendDigits(buf, pos, hour, 2);
+        buf[pos++] = ':';
+        pos = appendDigits(buf, pos, minute, 2);
+        if (alwaysSeconds || second > 0 || nano > 0) {
+            buf[pos++] = ':';
+            pos = appendDigits(buf, pos, second, 2);
+            if (nano > 0) {
+                buf[pos++] = '.';
+                if (nano % 1_000_000 == 0) {
+                    pos = appendDigits(buf, pos, nano / 1_000_000, 3);
+                } else if (nano % 1_000 == 0) {
+                    pos = appendDigits(buf, pos, nano / 1_000, 6);
+                } else {
+                    pos = appendDigits(buf, pos, nano, 9);
+                }
+            }
+        }
+        return pos;
+    }
+
+    private static int appendDigits(char[] buf, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+
+    private static boolean isFastYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd} at the given position
+     *
+     * @return The fields packed as {@code year * 10000 + month * 100 + day}, or -1 if the text is not in this shape
+     */
+    private static long parseDate(String text, int pos) {
+        if (text.length() < pos + 10 || text.charAt(pos + 4) != '-' || text.charAt(pos + 7) != '-') {
+            return -1;
+        }
+        int year = digits(text, pos, 4);
+        int month = digits(text, pos + 5, 2);
+        int day = digits(text, pos + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return -1;
+        }
+        return year * 10000L + month * 100 + day;
+    }
+
+    private static int year(long date) {
+        return (int) (date / 10000);
+    }
+
+    private static int month(long date) {
+        return (int) (date / 100 % 100);
+    }
+
+    private static int day(long date) {
+        return (int) (date % 100);
+    }
+
+    /**
+     * Parses {@code HH:mm[:ss[.SSSSSSSSS]]} spanning exactly the given range
+     *
+     * @return The nano of day, or -1 if the text is not in this shape or the values are out of the regular range
+     * (leap seconds and the end-of-day 24:00 are left to the fallback)
+     */
+    private static long parseTime(String text, int start, int end, boolean requireSeconds) {
+        int length = end - start;
+        if (length < 5 || text.charAt(start + 2) != ':' || (length > 5 && (length < 8 || text.charAt(start + 5) != ':'))) {
+            return -1;
+        }
+        if (requireSeconds && length < 8) {
+            return -1;
+        }
+        int hour = digits(text, start, 2);
+        int minute = digits(text, start + 3, 2);
+        int second = length > 5 ? digits(text, start + 6, 2) : 0;
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        int nano = 0;
+        if (length > 8) {
+            int fractionDigits = length - 9;
+            if (text.charAt(start + 8) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                return -1;
+            }
+            int fraction = digits(text, start + 9, fractionDigits);
+            if (fraction < 0) {
+                return -1;
+            }
+            nano = fraction * NANO_SCALE[fractionDigits];
+        }
+        return (hour * 3600L + minute * 60 + second) * 1_000_000_000L + nano;
+    }
+
+    private static LocalDateTime parseDateTime(String text, int end) {
+        if (end < 16 || text.charAt(10) != 'T') {
+            return null;
+        }
+        long date = parseDate(text, 0);
+        long time = date >= 0 ? parseTime(text, 11, end, false) : -1;
+        if (time < 0) {
+            return null;
+        }
+        return LocalDateTime.of(LocalDate.of(year(date), month(date), day(date)), LocalTime.ofNanoOfDay(time));
+    }
+
+    /**
+     * @return The position where a {@code Z} or {@code ±HH:MM} offset starts, or -1 if the text does not end in one
+     */
+    private static int offsetStart(String text, int minStart) {
+        int length = text.length();
+        if (length > minStart && text.charAt(length - 1) == 'Z') {
+            return length - 1;
+        }
+        if (length >= minStart + 6) {
+            char sign = text.charAt(length - 6);
+            if ((sign == '+' || sign == '-') && text.charAt(length - 3) == ':') {
+                return length - 6;
+            }
+        }
+        return -1;
+    }
+
+    private static ZoneOffset parseOffset(String text, int start) {
+        if (text.charAt(start) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        int hours = digits(text, start + 1, 2);
+        int minutes = digits(text, start + 4, 2);
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return null;
+        }
+        int sign = text.charAt(start) == '-' ? -1 : 1;
+        //-00:00 is an unusual way of writing UTC, leave it to the fallback
+        if (sign < 0 && hours == 0 && minutes == 0) {
+            return null;
+        }
+        try {
+            return ZoneOffset.ofHoursMinutes(sign * hours, sign * minutes);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The value of the given number of ASCII digits, or -1 if any of the characters is not a digit
+     */
+    private static int digits(String text, int pos, int count) {
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,171 @@
+package io.leangen.graphql.util;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.metadata.strategy.value.Property;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedTypeVariable;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.TypeVariable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the reflective lookups done by {@link ClassUtils}. The metadata is attached to the inspected classes
+ * themselves (via {@link ClassValue}), so it is shared by all schema generators in the JVM, yet never keeps a class
+ * (or its class loader) from being unloaded: everything cached on a class only references classes visible from its
+ * own loader. Resolved member types are kept in a small LRU map, as the number of distinct parameterizations
+ * of a class is not bounded.
+ */
+final class ReflectionCache {
+
+    static final int MAX_RESOLVED_TYPES_PER_CLASS = 64;
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata();
+        }
+    };
+
+    private ReflectionCache() {
+    }
+
+    static Set<Method> getAnnotatedMethods(Class<?> type, Class<? extends Annotation> annotation, Supplier<Set<Method>> lookup) {
+        return METADATA.get(type).annotatedMethods.computeIfAbsent(annotation, ann -> Collections.unmodifiableSet(lookup.get()));
+    }
+
+    static Set<Field> getAnnotatedFields(Class<?> type, Class<? extends Annotation> annotation, Supplier<Set<Field>> lookup) {
+        return METADATA.get(type).annotatedFields.computeIfAbsent(annotation, ann -> Collections.unmodifiableSet(lookup.get()));
+    }
+
+    static Set<Property> getProperties(Class<?> type, Supplier<Set<Property>> lookup) {
+        ClassMetadata metadata = METADATA.get(type);
+        Set<Property> properties = metadata.properties;
+        if (properties == null) {
+            properties = Collections.unmodifiableSet(lookup.get());
+            metadata.properties = properties;
+        }
+        return properties;
+    }
+
+    static Optional<Method> findGetter(Class<?> type, String fieldName, Function<String, Optional<Method>> lookup) {
+        return METADATA.get(type).getters.computeIfAbsent(fieldName, lookup);
+    }
+
+    static Optional<Method> findSetter(Class<?> type, String fieldName, Class<?> fieldType, Supplier<Optional<Method>> lookup) {
+        return METADATA.get(type).setters.computeIfAbsent(Arrays.asList(fieldName, fieldType), key -> lookup.get());
+    }
+
+    /**
+     * Memoizes the type of the given member, as resolved against the given declaring type.
+     * The result may reference any class the member or the declaring type (including its type arguments and
+     * annotations) references, so it is kept with the one of those classes whose loader can see all the others.
+     * E.g. resolving {@code List<TenantType>} is kept with {@code TenantType}, not {@code List}, and resolving
+     * the members inherited from a shared base class is kept with the subclass. If no such class exists
+     * (the classes come from unrelated loaders), the result is not cached.
+     */
+    static AnnotatedType getResolvedType(Member member, AnnotatedType declaringType, Supplier<AnnotatedType> resolver) {
+        Set<Class<?>> components = new HashSet<>();
+        components.add(member.getDeclaringClass());
+        collectComponents(declaringType, components);
+        Class<?> owner = findOwner(components);
+        if (owner == null) {
+            return resolver.get();
+        }
+        Map<List<Object>, AnnotatedType> resolvedTypes = METADATA.get(owner).resolvedTypes;
+        //Reflection-produced AnnotatedTypes only have identity equality, canonical ones compare structurally
+        List<Object> key = Arrays.asList(member, GenericTypeReflector.toCanonical(declaringType));
+        AnnotatedType resolved;
+        synchronized (resolvedTypes) {
+            resolved = resolvedTypes.get(key);
+        }
+        if (resolved == null) {
+            resolved = resolver.get();
+            synchronized (resolvedTypes) {
+                resolvedTypes.put(key, resolved);
+            }
+        }
+        return resolved;
+    }
+
+    private static void collectComponents(AnnotatedType type, Set<Class<?>> components) {
+        for (Annotation annotation : type.getAnnotations()) {
+            components.add(annotation.annotationType());
+        }
+        if (type instanceof AnnotatedParameterizedType) {
+            components.add(ClassUtils.getRawType(type.getType()));
+            for (AnnotatedType argument : ((AnnotatedParameterizedType) type).getAnnotatedActualTypeArguments()) {
+                collectComponents(argument, components);
+            }
+        } else if (type instanceof AnnotatedArrayType) {
+            collectComponents(((AnnotatedArrayType) type).getAnnotatedGenericComponentType(), components);
+        } else if (type instanceof AnnotatedWildcardType) {
+            for (AnnotatedType bound : ((AnnotatedWildcardType) type).getAnnotatedUpperBounds()) {
+                collectComponents(bound, components);
+            }
+            for (AnnotatedType bound : ((AnnotatedWildcardType) type).getAnnotatedLowerBounds()) {
+                collectComponents(bound, components);
+            }
+        } else if (type instanceof AnnotatedTypeVariable) {
+            GenericDeclaration declaration = ((TypeVariable<?>) type.getType()).getGenericDeclaration();
+            components.add(declaration instanceof Class ? (Class<?>) declaration : ((Member) declaration).getDeclaringClass());
+        } else if (type.getType() instanceof Class) {
+            components.add((Class<?>) type.getType());
+        }
+    }
+
+    private static Class<?> findOwner(Set<Class<?>> components) {
+        for (Class<?> candidate : components) {
+            ClassLoader loader = candidate.getClassLoader();
+            if (components.stream().allMatch(component -> isVisibleFrom(component.getClassLoader(), loader))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    //Whether the classes of the given loader are visible from the other loader, i.e. whether it is the same or its ancestor
+    private static boolean isVisibleFrom(ClassLoader loader, ClassLoader from) {
+        if (loader == null) {
+            return true;
+        }
+        for (ClassLoader current = from; current != null; current = current.getParent()) {
+            if (current == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ClassMetadata {
+
+        private final Map<Class<? extends Annotation>, Set<Method>> annotatedMethods = new ConcurrentHashMap<>();
+        private final Map<Class<? extends Annotation>, Set<Field>> annotatedFields = new ConcurrentHashMap<>();
+        private final Map<String, Optional<Method>> getters = new ConcurrentHashMap<>();
+        private final Map<List<Object>, Optional<Method>> setters = new ConcurrentHashMap<>();
+        private final Map<List<Object>, AnnotatedType> resolvedTypes = new LinkedHashMap<List<Object>, AnnotatedType>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, AnnotatedType> eldest) {
+                return size() > MAX_RESOLVED_TYPES_PER_CLASS;
+            }
+        };
+        private volatile Set<Property> properties;
+    }
+}
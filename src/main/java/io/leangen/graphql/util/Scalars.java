@@ -19,6 +19,7 @@ import graphql.schema.GraphQLDirective;
 import graphql.schema.GraphQLNonNull;
 import graphql.schema.GraphQLScalarType;
 import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.execution.RawJson;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -27,6 +28,7 @@ import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.Duration;
@@ -216,6 +218,42 @@ public class Scalars {
                 }
             }).build();
 
+    public static final GraphQLScalarType GraphQLRawJson = GraphQLScalarType.newScalar()
+            .name("RawJSON")
+            .description("Pre-serialized JSON value. Input is accepted as JSON text")
+            .coercing(new Coercing<RawJson, RawJson>() {
+                @Override
+                public RawJson serialize(Object dataFetcherResult) {
+                    if (dataFetcherResult instanceof RawJson) {
+                        return (RawJson) dataFetcherResult;
+                    } else if (dataFetcherResult instanceof byte[]) {
+                        return RawJson.of((byte[]) dataFetcherResult);
+                    } else if (dataFetcherResult instanceof ByteBuffer) {
+                        return RawJson.of((ByteBuffer) dataFetcherResult);
+                    } else if (dataFetcherResult instanceof CharSequence) {
+                        return RawJson.of((CharSequence) dataFetcherResult);
+                    } else {
+                        throw serializationException(dataFetcherResult, RawJson.class, byte[].class, ByteBuffer.class, CharSequence.class);
+                    }
+                }
+
+                @Override
+                public RawJson parseValue(Object input) {
+                    if (input instanceof String) {
+                        return RawJson.of((String) input);
+                    }
+                    if (input instanceof RawJson) {
+                        return (RawJson) input;
+                    }
+                    throw valueParsingException(input, String.class, RawJson.class);
+                }
+
+                @Override
+                public RawJson parseLiteral(Object input) {
+                    return RawJson.of(literalOrException(input, StringValue.class).getValue());
+                }
+            }).build();
+
     public static final GraphQLScalarType GraphQLClass = GraphQLScalarType.newScalar()
             .name("Class")
             .description("A fully qualified class name")
@@ -276,40 +314,40 @@ public class Scalars {
             }).build();
 
     public static final GraphQLScalarType GraphQLDate = temporalScalar(Date.class,"Date", "an instant in time",
-            s -> new Date(Instant.parse(s).toEpochMilli()), i -> new Date(i.toEpochMilli()), Scalars::dateToString);
+            s -> new Date(Iso8601.parseInstant(s).toEpochMilli()), i -> new Date(i.toEpochMilli()), Scalars::dateToString);
 
     public static final GraphQLScalarType GraphQLSqlDate = temporalScalar(java.sql.Date.class,"SqlDate", "a SQL compliant local date",
-            s -> java.sql.Date.valueOf(LocalDate.parse(s)), i -> java.sql.Date.valueOf(i.atZone(ZoneOffset.UTC).toLocalDate()), d -> d.toLocalDate().toString());
+            s -> java.sql.Date.valueOf(Iso8601.parseLocalDate(s)), i -> java.sql.Date.valueOf(i.atZone(ZoneOffset.UTC).toLocalDate()), d -> Iso8601.format(d.toLocalDate()));
 
     public static final GraphQLScalarType GraphQLSqlTime = temporalScalar(Time.class,"SqlTime", "a SQL compliant local time",
-            s -> Time.valueOf(LocalTime.parse(s)), i -> Time.valueOf(i.atZone(ZoneOffset.UTC).toLocalTime()), t -> t.toLocalTime().toString());
+            s -> Time.valueOf(Iso8601.parseLocalTime(s)), i -> Time.valueOf(i.atZone(ZoneOffset.UTC).toLocalTime()), t -> Iso8601.format(t.toLocalTime()));
 
     public static final GraphQLScalarType GraphQLSqlTimestamp = temporalScalar(Timestamp.class,"SqlTimestamp", "a SQL compliant local date-time",
-            s -> Timestamp.from(Instant.parse(s)), Timestamp::from, t -> t.toInstant().toString());
+            s -> Timestamp.from(Iso8601.parseInstant(s)), Timestamp::from, t -> Iso8601.format(t.toInstant()));
 
     public static final GraphQLScalarType GraphQLCalendar = temporalScalar(Calendar.class,"Calendar", "a date-time with a time-zone",
-            s -> GregorianCalendar.from(ZonedDateTime.parse(s)), i -> GregorianCalendar.from(i.atZone(ZoneOffset.UTC)), c -> c.toInstant().toString());
+            s -> GregorianCalendar.from(Iso8601.parseZonedDateTime(s)), i -> GregorianCalendar.from(i.atZone(ZoneOffset.UTC)), c -> Iso8601.formatEpochMilli(c.getTimeInMillis()));
 
     public static final GraphQLScalarType GraphQLInstant = temporalScalar(Instant.class, "Instant", "an instant in time",
-            Instant::parse, i -> i);
+            Iso8601::parseInstant, i -> i, Iso8601::format);
 
     public static final GraphQLScalarType GraphQLLocalDate = temporalScalar(LocalDate.class, "LocalDate", "a local date",
-            LocalDate::parse, i -> i.atZone(ZoneOffset.UTC).toLocalDate());
+            Iso8601::parseLocalDate, i -> i.atZone(ZoneOffset.UTC).toLocalDate(), Iso8601::format);
 
     public static final GraphQLScalarType GraphQLLocalTime = temporalScalar(LocalTime.class, "LocalTime", "a local time",
-            LocalTime::parse, i -> i.atZone(ZoneOffset.UTC).toLocalTime());
+            Iso8601::parseLocalTime, i -> i.atZone(ZoneOffset.UTC).toLocalTime(), Iso8601::format);
 
     public static final GraphQLScalarType GraphQLLocalDateTime = temporalScalar(LocalDateTime.class, "LocalDateTime", "a local date-time",
-            LocalDateTime::parse, i -> i.atZone(ZoneOffset.UTC).toLocalDateTime());
+            Iso8601::parseLocalDateTime, i -> i.atZone(ZoneOffset.UTC).toLocalDateTime(), Iso8601::format);
 
     public static final GraphQLScalarType GraphQLZonedDateTime = temporalScalar(ZonedDateTime.class, "ZonedDateTime", "a date-time with a time-zone",
-            ZonedDateTime::parse, i -> i.atZone(ZoneOffset.UTC));
+            Iso8601::parseZonedDateTime, i -> i.atZone(ZoneOffset.UTC), Iso8601::format);
 
     public static final GraphQLScalarType GraphQLOffsetTime = temporalScalar(OffsetTime.class, "OffsetTime", "a time with a UTC offset",
-            OffsetTime::parse, i -> OffsetTime.ofInstant(i, ZoneOffset.UTC));
+            Iso8601::parseOffsetTime, i -> OffsetTime.ofInstant(i, ZoneOffset.UTC), Iso8601::format);
 
     public static final GraphQLScalarType GraphQLOffsetDateTime = temporalScalar(OffsetDateTime.class, "OffsetDateTime", "a date-time with a UTC offset",
-            OffsetDateTime::parse, i -> i.atOffset(ZoneOffset.UTC));
+            Iso8601::parseOffsetDateTime, i -> i.atOffset(ZoneOffset.UTC), Iso8601::format);
 
     public static final GraphQLScalarType GraphQLDurationScalar = temporalScalar(Duration.class, "Duration", "an amount of time",
             Duration::parse, instant -> Duration.ofMillis(instant.toEpochMilli()));
@@ -317,9 +355,25 @@ public class Scalars {
     public static final GraphQLScalarType GraphQLPeriodScalar = temporalScalar(Period.class, "Period", "a period of time",
             Period::parse, instant -> { throw new GraphQLException("Period can not be deserialized from a numeric value"); });
 
+    public static final GraphQLScalarType GraphQLInstantEpochMillis = epochMillisScalar(Instant.class, "InstantEpochMillis", "an instant in time",
+            Instant::ofEpochMilli, Instant::toEpochMilli);
+
+    public static final GraphQLScalarType GraphQLDateEpochMillis = epochMillisScalar(Date.class, "DateEpochMillis", "an instant in time",
+            Date::new, Date::getTime);
+
+    public static final GraphQLScalarType GraphQLLocalDateTimeEpochMillis = epochMillisScalar(LocalDateTime.class, "LocalDateTimeEpochMillis", "a local date-time (in UTC)",
+            millis -> LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC),
+            dateTime -> dateTime.toInstant(ZoneOffset.UTC).toEpochMilli());
+
+    public static final GraphQLScalarType GraphQLZonedDateTimeEpochMillis = epochMillisScalar(ZonedDateTime.class, "ZonedDateTimeEpochMillis", "an instant in time",
+            millis -> Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC), dateTime -> dateTime.toInstant().toEpochMilli());
+
+    public static final GraphQLScalarType GraphQLOffsetDateTimeEpochMillis = epochMillisScalar(OffsetDateTime.class, "OffsetDateTimeEpochMillis", "an instant in time",
+            millis -> Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC), dateTime -> dateTime.toInstant().toEpochMilli());
+
     private static String dateToString(Date date) {
         if (Date.class.equals(date.getClass())) {
-            return date.toInstant().toString();
+            return Iso8601.formatEpochMilli(date.getTime());
         } else if (isScalar(date.getClass())) {
             return Scalars.toGraphQLScalarType(date.getClass()).getCoercing().serialize(date).toString();
         } else {
@@ -488,6 +542,69 @@ public class Scalars {
                 }).build();
     }
 
+    /**
+     * Creates a scalar representing a point in time as the number of milliseconds since the epoch, instead of
+     * an ISO-8601 string. Any precision finer than a millisecond, as well as the time-zone, is lost.
+     *
+     * @param type The Java type represented by the scalar
+     * @param name The name of the scalar
+     * @param description The description of the represented value, used in the description of the scalar
+     * @param fromEpochMillis Creates an instance of the Java type from milliseconds since the epoch
+     * @param toEpochMillis Extracts milliseconds since the epoch from an instance of the Java type
+     * @param <T> The Java type represented by the scalar
+     *
+     * @return The epoch milliseconds scalar
+     *
+     * @see io.leangen.graphql.generator.mapping.common.EpochMillisScalarMapper
+     */
+    public static <T> GraphQLScalarType epochMillisScalar(Class<T> type, String name, String description, ThrowingFunction<Long, T> fromEpochMillis, ThrowingFunction<T, Long> toEpochMillis) {
+        return GraphQLScalarType.newScalar()
+                .name(name)
+                .description("Built-in scalar representing " + description + " as milliseconds since the epoch")
+                .coercing(new Coercing<T, Long>() {
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Long serialize(Object dataFetcherResult) {
+                        if (type.isInstance(dataFetcherResult)) {
+                            try {
+                                return toEpochMillis.apply((T) dataFetcherResult);
+                            } catch (Exception e) {
+                                throw new CoercingSerializeException("Value " + dataFetcherResult + " could not be serialized");
+                            }
+                        }
+                        throw serializationException(dataFetcherResult, type);
+                    }
+
+                    @Override
+                    public T parseValue(Object input) {
+                        try {
+                            if (input instanceof Long || input instanceof Integer) {
+                                return fromEpochMillis.apply(((Number) input).longValue());
+                            }
+                            if (input instanceof BigInteger) {
+                                return fromEpochMillis.apply(((BigInteger) input).longValueExact());
+                            }
+                            if (type.isInstance(input)) {
+                                return type.cast(input);
+                            }
+                            throw valueParsingException(input, Long.class);
+                        } catch (Exception e) {
+                            throw new CoercingParseValueException("Value " + input + " could not be parsed into a " + name);
+                        }
+                    }
+
+                    @Override
+                    public T parseLiteral(Object input) {
+                        try {
+                            return fromEpochMillis.apply(literalOrException(input, IntValue.class).getValue().longValueExact());
+                        } catch (Exception e) {
+                            throw new CoercingParseLiteralException("Value " + input + " could not be parsed into a " + name);
+                        }
+                    }
+                }).build();
+    }
+
     public static <T extends Value> T literalOrException(Object input, Class<T> valueType) {
         if (valueType.isInstance(input)) {
             return valueType.cast(input);
@@ -528,6 +645,16 @@ public class Scalars {
         return SCALAR_MAPPING.get(GenericTypeReflector.erase(javaType));
     }
 
+    private static final Map<Type, GraphQLScalarType> EPOCH_MILLIS_SCALAR_MAPPING = getEpochMillisScalarMapping();
+
+    public static boolean isEpochMillisScalar(Type javaType) {
+        return EPOCH_MILLIS_SCALAR_MAPPING.containsKey(javaType);
+    }
+
+    public static GraphQLScalarType toEpochMillisScalarType(Type javaType) {
+        return EPOCH_MILLIS_SCALAR_MAPPING.get(GenericTypeReflector.erase(javaType));
+    }
+
     private static Map<Type, GraphQLScalarType> getScalarMapping() {
         Map<Type, GraphQLScalarType> scalarMapping = new HashMap<>();
         scalarMapping.put(Character.class, GraphQLChar);
@@ -554,6 +681,7 @@ public class Scalars {
         scalarMapping.put(URI.class, GraphQLUri);
         scalarMapping.put(URL.class, GraphQLUrl);
         scalarMapping.put(byte[].class, GraphQLBase64String);
+        scalarMapping.put(RawJson.class, GraphQLRawJson);
         scalarMapping.put(Class.class, GraphQLClass);
         scalarMapping.put(Date.class, GraphQLDate);
         scalarMapping.put(java.sql.Date.class, GraphQLSqlDate);
@@ -573,6 +701,16 @@ public class Scalars {
         return Collections.unmodifiableMap(scalarMapping);
     }
 
+    private static Map<Type, GraphQLScalarType> getEpochMillisScalarMapping() {
+        Map<Type, GraphQLScalarType> scalarMapping = new HashMap<>();
+        scalarMapping.put(Instant.class, GraphQLInstantEpochMillis);
+        scalarMapping.put(Date.class, GraphQLDateEpochMillis);
+        scalarMapping.put(LocalDateTime.class, GraphQLLocalDateTimeEpochMillis);
+        scalarMapping.put(ZonedDateTime.class, GraphQLZonedDateTimeEpochMillis);
+        scalarMapping.put(OffsetDateTime.class, GraphQLOffsetDateTimeEpochMillis);
+        return Collections.unmodifiableMap(scalarMapping);
+    }
+
     @FunctionalInterface
     public interface ThrowingFunction<T, R> {
         R apply(T t) throws Exception;
@@ -0,0 +1,285 @@
+package io.leangen.graphql.util;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import io.leangen.graphql.annotations.GraphQLIgnore;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A precomputed index mapping supertypes to their subtypes, used by {@link ClassFinder} to avoid scanning the
+ * classpath/modulepath at runtime. Each indexed subtype carries the {@link Flag}s it satisfies, so the
+ * {@link ClassFinder#CONCRETE}, {@link ClassFinder#PUBLIC} and {@link ClassFinder#NON_IGNORED} filters can be applied
+ * without loading the class.
+ * <p>The index is meant to be generated at build time, e.g. by invoking {@link #main(String[])} from the build
+ * (via {@code exec-maven-plugin} or similar) after the classes have been compiled:</p>
+ * <pre>java io.leangen.graphql.util.SubtypeIndex target/classes com.example.model</pre>
+ * <p>This writes the index to {@value #LOCATION} in the given output directory.
+ * All the indices found on the classpath are merged when {@link #load(ClassLoader) loaded}.
+ * An index is only consulted for searches limited to the packages it was generated for (or their sub-packages).</p>
+ */
+public class SubtypeIndex {
+
+    public static final String LOCATION = "META-INF/graphql-spqr/subtype.index";
+
+    private static final String HEADER = "# graphql-spqr subtype index";
+    private static final String PACKAGES = "packages";
+    private static final String NO_FLAGS = "-";
+
+    private final Set<String> packages;
+    private final Map<String, List<Entry>> subTypes;
+
+    private SubtypeIndex(Set<String> packages, Map<String, List<Entry>> subTypes) {
+        this.packages = packages;
+        this.subTypes = subTypes;
+    }
+
+    /**
+     * Scans the given packages (or the entire classpath/modulepath if none are given) and indexes all the discovered classes.
+     *
+     * @param packages The packages to scan
+     *
+     * @return The index of all the classes found in the given packages
+     */
+    public static SubtypeIndex scan(String... packages) {
+        String[] scanPackages = Utils.emptyIfNull(packages);
+        Map<String, List<Entry>> subTypes = new HashMap<>();
+        try (ScanResult scanResult = new ClassGraph()
+                .whitelistPackages(scanPackages)
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .scan()) {
+            for (ClassInfo info : scanResult.getAllClasses()) {
+                Entry entry = new Entry(info.getName(), Flag.of(info));
+                Stream.concat(info.getSuperclasses().getNames().stream(), info.getInterfaces().getNames().stream())
+                        .forEach(superType -> subTypes.computeIfAbsent(superType, k -> new ArrayList<>()).add(entry));
+            }
+        }
+        return new SubtypeIndex(new LinkedHashSet<>(Arrays.asList(scanPackages)), subTypes);
+    }
+
+    /**
+     * Loads and merges all the indices found at {@value #LOCATION} using the given class loader.
+     *
+     * @param classLoader The class loader to look up the index resources with
+     *
+     * @return The merged index, or {@code null} if no indices were found
+     *
+     * @throws IOException If an index could not be read
+     */
+    public static SubtypeIndex load(ClassLoader classLoader) throws IOException {
+        Enumeration<URL> resources = classLoader.getResources(LOCATION);
+        SubtypeIndex merged = null;
+        while (resources.hasMoreElements()) {
+            try (InputStream in = resources.nextElement().openStream()) {
+                SubtypeIndex index = readFrom(in);
+                merged = merged == null ? index : merged.merge(index);
+            }
+        }
+        return merged;
+    }
+
+    public static SubtypeIndex readFrom(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (!HEADER.equals(reader.readLine())) {
+            throw new IOException("Not a subtype index");
+        }
+        String packageLine = reader.readLine();
+        if (packageLine == null || !packageLine.startsWith(PACKAGES)) {
+            throw new IOException("Malformed subtype index: missing package list");
+        }
+        String packageList = packageLine.substring(PACKAGES.length()).trim();
+        Set<String> packages = packageList.isEmpty() ? new LinkedHashSet<>() : new LinkedHashSet<>(Arrays.asList(packageList.split(",")));
+        Map<String, List<Entry>> subTypes = new HashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] parts = line.split("\t");
+            if (parts.length != 3) {
+                throw new IOException("Malformed subtype index entry: " + line);
+            }
+            Entry entry = new Entry(parts[0], Flag.parse(parts[1]));
+            for (String superType : parts[2].split(",")) {
+                subTypes.computeIfAbsent(superType, k -> new ArrayList<>()).add(entry);
+            }
+        }
+        return new SubtypeIndex(packages, subTypes);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        Map<Entry, Set<String>> superTypes = new HashMap<>();
+        subTypes.forEach((superType, entries) -> entries.forEach(entry ->
+                superTypes.computeIfAbsent(entry, k -> new LinkedHashSet<>()).add(superType)));
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER + "\n");
+        writer.write(PACKAGES + " " + String.join(",", packages) + "\n");
+        List<Entry> entries = new ArrayList<>(superTypes.keySet());
+        entries.sort((e1, e2) -> e1.className.compareTo(e2.className));
+        for (Entry entry : entries) {
+            writer.write(entry.className + "\t" + Flag.format(entry.flags) + "\t"
+                    + superTypes.get(entry).stream().sorted().collect(Collectors.joining(",")) + "\n");
+        }
+        writer.flush();
+    }
+
+    /**
+     * Checks whether searches limited to the given packages can be served from this index.
+     *
+     * @param packages The packages a search is limited to. An empty array means the entire classpath/modulepath.
+     *
+     * @return {@code true} if this index was generated for all the given packages, {@code false} otherwise
+     */
+    public boolean covers(String... packages) {
+        if (this.packages.isEmpty()) {
+            return true;
+        }
+        return Utils.isArrayNotEmpty(packages) && Arrays.stream(packages).allMatch(pkg -> this.packages.stream()
+                .anyMatch(indexed -> isInPackage(pkg, indexed)));
+    }
+
+    /**
+     * Finds the indexed subtypes of the given type, limited to the given packages.
+     *
+     * @param superTypeName The fully qualified name of the supertype
+     * @param packages The packages to limit the results to. An empty array means no limit.
+     *
+     * @return The indexed subtypes of {@code superTypeName}
+     */
+    public List<Entry> getSubTypes(String superTypeName, String... packages) {
+        List<Entry> entries = subTypes.getOrDefault(superTypeName, Collections.emptyList());
+        if (Utils.isArrayEmpty(packages)) {
+            return entries;
+        }
+        return entries.stream()
+                .filter(entry -> Arrays.stream(packages).anyMatch(pkg -> isInPackage(entry.className, pkg)))
+                .collect(Collectors.toList());
+    }
+
+    private SubtypeIndex merge(SubtypeIndex other) {
+        Set<String> mergedPackages = this.packages.isEmpty() || other.packages.isEmpty() ? new LinkedHashSet<>() : new LinkedHashSet<>(this.packages);
+        if (!mergedPackages.isEmpty()) {
+            mergedPackages.addAll(other.packages);
+        }
+        Map<String, List<Entry>> mergedSubTypes = new HashMap<>();
+        Stream.of(this.subTypes, other.subTypes).forEach(index -> index.forEach((superType, entries) ->
+                mergedSubTypes.computeIfAbsent(superType, k -> new ArrayList<>()).addAll(entries)));
+        mergedSubTypes.replaceAll((superType, entries) -> entries.stream().distinct().collect(Collectors.toList()));
+        return new SubtypeIndex(mergedPackages, mergedSubTypes);
+    }
+
+    private static boolean isInPackage(String name, String pkg) {
+        return pkg.isEmpty() || name.equals(pkg) || name.startsWith(pkg + ".");
+    }
+
+    /**
+     * Generates an index at build time.
+     *
+     * @param args The output directory (e.g. {@code target/classes}), followed by the packages to index
+     *
+     * @throws IOException If the index could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SubtypeIndex <output directory> [package...]");
+            System.exit(1);
+        }
+        File index = new File(args[0], LOCATION);
+        Files.createDirectories(index.getParentFile().toPath());
+        try (OutputStream out = Files.newOutputStream(index.toPath())) {
+            scan(Arrays.copyOfRange(args, 1, args.length)).writeTo(out);
+        }
+    }
+
+    public enum Flag {
+
+        CONCRETE(info -> !info.isAbstract() && !info.isInterface()),
+        PUBLIC(ClassInfo::isPublic),
+        NON_IGNORED(info -> info.getAnnotations().directOnly().stream().noneMatch(ann -> ann.getName().equals(GraphQLIgnore.class.getName())));
+
+        private final Predicate<ClassInfo> condition;
+
+        Flag(Predicate<ClassInfo> condition) {
+            this.condition = condition;
+        }
+
+        public boolean test(ClassInfo info) {
+            return condition.test(info);
+        }
+
+        static Set<Flag> of(ClassInfo info) {
+            return Arrays.stream(values())
+                    .filter(flag -> flag.test(info))
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(Flag.class)));
+        }
+
+        private static Set<Flag> parse(String flags) {
+            Set<Flag> parsed = EnumSet.noneOf(Flag.class);
+            if (!flags.equals(NO_FLAGS)) {
+                Arrays.stream(flags.split(",")).map(Flag::valueOf).forEach(parsed::add);
+            }
+            return parsed;
+        }
+
+        private static String format(Set<Flag> flags) {
+            return flags.isEmpty() ? NO_FLAGS : flags.stream().map(Flag::name).collect(Collectors.joining(","));
+        }
+    }
+
+    public static class Entry {
+
+        private final String className;
+        private final Set<Flag> flags;
+
+        Entry(String className, Set<Flag> flags) {
+            this.className = className;
+            this.flags = flags;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public boolean hasFlags(Set<Flag> flags) {
+            return this.flags.containsAll(flags);
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            return this == that || (that instanceof Entry && ((Entry) that).className.equals(this.className));
+        }
+
+        @Override
+        public int hashCode() {
+            return className.hashCode();
+        }
+    }
+}
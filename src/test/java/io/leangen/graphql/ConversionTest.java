@@ -152,6 +152,26 @@ public class ConversionTest {
         assertNoErrors(result);
     }
 
+    @Test
+    public void testPrimitiveArrayConversion() {
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withValueMapperFactory(valueMapperFactory)
+                .withOperationsFromSingleton(new PrimitiveArrayService())
+                .generate();
+
+        GraphQL api = GraphQL.newGraphQL(schema).build();
+
+        ExecutionResult result = api.execute("{ints, longs, doubles, floats, shorts, booleans, chars}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList(1, 2, 3), result, "ints");
+        assertValueAtPathEquals(Arrays.asList(4L, 5L), result, "longs");
+        assertValueAtPathEquals(Arrays.asList(0.5, 1.5), result, "doubles");
+        assertValueAtPathEquals(Collections.singletonList(2.5), result, "floats");
+        assertValueAtPathEquals(Arrays.asList((short) 6, (short) 7), result, "shorts");
+        assertValueAtPathEquals(Arrays.asList(true, false), result, "booleans");
+        assertValueAtPathEquals(Arrays.asList('x', 'y'), result, "chars");
+    }
+
     @Test
     public void testConverterOptimization() {
         OutputConverter collectionConverter = new CollectionOutputConverter();
@@ -266,6 +286,43 @@ public class ConversionTest {
         }
     }
 
+    public static class PrimitiveArrayService {
+        @GraphQLQuery
+        public int[] ints() {
+            return new int[] {1, 2, 3};
+        }
+
+        @GraphQLQuery
+        public long[] longs() {
+            return new long[] {4, 5};
+        }
+
+        @GraphQLQuery
+        public double[] doubles() {
+            return new double[] {0.5, 1.5};
+        }
+
+        @GraphQLQuery
+        public float[] floats() {
+            return new float[] {2.5f};
+        }
+
+        @GraphQLQuery
+        public short[] shorts() {
+            return new short[] {6, 7};
+        }
+
+        @GraphQLQuery
+        public boolean[] booleans() {
+            return new boolean[] {true, false};
+        }
+
+        @GraphQLQuery
+        public char[] chars() {
+            return new char[] {'x', 'y'};
+        }
+    }
+
     public static class IdService {
         @GraphQLQuery
         public NestedId echo(@GraphQLId(relayId = true) NestedId id) {
@@ -0,0 +1,243 @@
+package io.leangen.graphql;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.annotations.SerializedName;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.metadata.strategy.value.InputBinderRegistry;
+import io.leangen.graphql.metadata.strategy.value.InputFieldBuilder;
+import io.leangen.graphql.metadata.strategy.value.InputFieldBuilderParams;
+import io.leangen.graphql.metadata.strategy.value.InputParsingException;
+import io.leangen.graphql.metadata.strategy.value.ValueMapper;
+import io.leangen.graphql.metadata.strategy.value.ValueMapperFactory;
+import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapperFactory;
+import io.leangen.graphql.metadata.strategy.value.jackson.JacksonValueMapperFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(Parameterized.class)
+public class DirectInputBindingTest {
+
+    private static final GlobalEnvironment ENVIRONMENT = new TestGlobalEnvironment();
+
+    @Parameterized.Parameter
+    public ValueMapperFactory valueMapperFactory;
+
+    @Parameterized.Parameters(name = "{index}: {0}")
+    public static Object[] data() {
+        return new Object[] { new JacksonValueMapperFactory(), new GsonValueMapperFactory() };
+    }
+
+    @Test
+    public void testBinderCompilation() {
+        ValueMapper valueMapper = valueMapperFactory.getValueMapper(Collections.emptyMap(), ENVIRONMENT);
+        InputBinderRegistry registry = new InputBinderRegistry(ENVIRONMENT, valueMapper);
+        InputFieldBuilder recording = registry.recording((InputFieldBuilder) valueMapper);
+
+        recording.getInputFields(params(Book.class));
+        recording.getInputFields(params(Author.class));
+        assertEquals(2, registry.size());
+
+        recording.getInputFields(params(Annotated.class));
+        assertEquals(2, registry.size());
+
+        recording.getInputFields(InputFieldBuilderParams.builder()
+                .withType(GenericTypeReflector.annotate(Book.class))
+                .withEnvironment(ENVIRONMENT)
+                .withConcreteSubTypes(Collections.singletonList(Book.class))
+                .build());
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void testBindingEquivalence() {
+        ValueMapper valueMapper = valueMapperFactory.getValueMapper(Collections.emptyMap(), ENVIRONMENT);
+        InputBinderRegistry registry = new InputBinderRegistry(ENVIRONMENT, valueMapper);
+        InputFieldBuilder recording = registry.recording((InputFieldBuilder) valueMapper);
+        recording.getInputFields(params(Book.class));
+        recording.getInputFields(params(Author.class));
+        ValueMapper binding = registry.decorate(valueMapper);
+        assertNotSame(valueMapper, binding);
+
+        Map<String, Object> author = new LinkedHashMap<>();
+        author.put("name", "Ursula");
+        author.put("born", 1929L);
+
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("title", "The Dispossessed");
+        input.put("pages", 387);
+        input.put("genre", Genre.FICTION);
+        input.put("tags", Arrays.asList("utopia", "anarchism"));
+        input.put("author", author);
+
+        assertBindsAlike(valueMapper, binding, input);
+
+        //explicit nulls and unknown keys are left to the underlying mapper
+        Map<String, Object> withNull = new LinkedHashMap<>(input);
+        withNull.put("title", null);
+        assertBindsAlike(valueMapper, binding, withNull);
+
+        Map<String, Object> withUnknown = new LinkedHashMap<>(input);
+        withUnknown.put("isbn", "0-06-012563-2");
+        assertBindsAlike(valueMapper, binding, withUnknown);
+
+        //values not matching the field type exactly are converted by the underlying mapper
+        Map<String, Object> widened = new LinkedHashMap<>(author);
+        widened.put("born", 1929);
+        Map<String, Object> converted = new LinkedHashMap<>(input);
+        converted.put("author", widened);
+        assertBindsAlike(valueMapper, binding, converted);
+    }
+
+    @Test
+    public void testUnsupportedMapper() {
+        ValueMapper valueMapper = valueMapperFactory.getValueMapper(Collections.emptyMap(), ENVIRONMENT);
+        ValueMapper other = (valueMapperFactory instanceof JacksonValueMapperFactory
+                ? new GsonValueMapperFactory()
+                : new JacksonValueMapperFactory()).getValueMapper(Collections.emptyMap(), ENVIRONMENT);
+        InputBinderRegistry registry = new InputBinderRegistry(ENVIRONMENT, valueMapper);
+        assertSame(other, registry.decorate(other));
+    }
+
+    @Test
+    public void testDirectInputBinding() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withValueMapperFactory(valueMapperFactory)
+                .withDirectInputBinding()
+                .withOperationsFromSingleton(new LibraryService())
+                .generate();
+
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{" +
+                "describe(book: {title: \"The Dispossessed\", pages: 387, genre: FICTION, tags: [\"utopia\"]," +
+                "               author: {name: \"Ursula\", born: 1929}})" +
+                "annotated(input: {renamed: \"value\"})}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("The Dispossessed/387/FICTION/[utopia]/Ursula/1929", result, "describe");
+        assertValueAtPathEquals("value", result, "annotated");
+    }
+
+    private static InputFieldBuilderParams params(Class<?> type) {
+        return InputFieldBuilderParams.builder()
+                .withType(GenericTypeReflector.annotate(type))
+                .withEnvironment(ENVIRONMENT)
+                .build();
+    }
+
+    private static void assertBindsAlike(ValueMapper expected, ValueMapper actual, Map<String, Object> input) {
+        assertEquals(bind(expected, input), bind(actual, input));
+    }
+
+    private static String bind(ValueMapper valueMapper, Map<String, Object> input) {
+        AnnotatedType type = GenericTypeReflector.annotate(Book.class);
+        try {
+            return valueMapper.fromInput(input, Map.class, type).toString();
+        } catch (InputParsingException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    public enum Genre {
+        FICTION, ESSAY
+    }
+
+    public static class Book {
+        private String title = "Untitled";
+        private int pages;
+        private Genre genre;
+        private List<String> tags;
+        private Author author;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        public void setPages(int pages) {
+            this.pages = pages;
+        }
+
+        public Genre getGenre() {
+            return genre;
+        }
+
+        public void setGenre(Genre genre) {
+            this.genre = genre;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Author getAuthor() {
+            return author;
+        }
+
+        public void setAuthor(Author author) {
+            this.author = author;
+        }
+
+        @Override
+        public String toString() {
+            return title + "/" + pages + "/" + genre + "/" + tags + "/" + author;
+        }
+    }
+
+    public static class Author {
+        public String name;
+        public long born;
+
+        @Override
+        public String toString() {
+            return name + "/" + born;
+        }
+    }
+
+    public static class Annotated {
+        @JsonProperty("renamed")
+        @SerializedName("renamed")
+        public String value;
+    }
+
+    public static class LibraryService {
+        @GraphQLQuery
+        public String describe(@GraphQLArgument(name = "book") Book book) {
+            return book.toString();
+        }
+
+        @GraphQLQuery
+        public String annotated(@GraphQLArgument(name = "input") Annotated input) {
+            return input.value;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.leangen.graphql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.ExecutionResultWriter;
+import io.leangen.graphql.metadata.strategy.value.gson.GsonExecutionResultWriter;
+import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapperFactory;
+import io.leangen.graphql.metadata.strategy.value.jackson.JacksonExecutionResultWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class ExecutionResultWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+
+    @Test
+    public void testJacksonWriter() throws IOException {
+        ObjectNode node = OBJECT_MAPPER.createObjectNode();
+        node.put("one", "two").putArray("three").add(3).add(3.3);
+        ExecutionResult result = result(node);
+
+        String written = write(new JacksonExecutionResultWriter(), result);
+        assertEquals(OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(result.toSpecification())), OBJECT_MAPPER.readTree(written));
+        assertEquals("two", OBJECT_MAPPER.readTree(written).at("/data/json/one").asText());
+        assertEquals(2, OBJECT_MAPPER.readTree(written).at("/data/ints/1").asInt());
+    }
+
+    @Test
+    public void testJacksonWriterFlushesOnce() throws IOException {
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        ObjectMapper flushingMapper = new ObjectMapper().enable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        new JacksonExecutionResultWriter(flushingMapper).write(result(OBJECT_MAPPER.createObjectNode().put("one", "two")), out);
+        assertEquals(1, flushes.get());
+        assertEquals("pojo", OBJECT_MAPPER.readTree(out.toByteArray()).at("/data/pojo/name").asText());
+    }
+
+    @Test
+    public void testGsonWriter() throws IOException {
+        JsonObject element = new JsonObject();
+        element.addProperty("one", "two");
+        element.add("nothing", null);
+        ExecutionResult result = result(element);
+
+        String written = write(new GsonExecutionResultWriter(GSON), result);
+        assertEquals(JsonParser.parseString(GSON.toJson(result.toSpecification())), JsonParser.parseString(written));
+        assertEquals("two", JsonParser.parseString(written).getAsJsonObject()
+                .getAsJsonObject("data").getAsJsonObject("json").get("one").getAsString());
+    }
+
+    @Test
+    public void testExecutedResult() throws IOException {
+        GraphQLSchema jacksonSchema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new JacksonService())
+                .generate();
+        ExecutionResult jacksonResult = GraphQLRuntime.newGraphQL(jacksonSchema).build().execute("{json numbers fail}");
+        assertEquals(1, jacksonResult.getErrors().size());
+        assertEquals(OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(jacksonResult.toSpecification())),
+                OBJECT_MAPPER.readTree(write(new JacksonExecutionResultWriter(), jacksonResult)));
+
+        GraphQLSchema gsonSchema = new TestSchemaGenerator()
+                .withValueMapperFactory(new GsonValueMapperFactory())
+                .withOperationsFromSingleton(new GsonService())
+                .generate();
+        ExecutionResult gsonResult = GraphQLRuntime.newGraphQL(gsonSchema).build().execute("{json numbers fail}");
+        assertEquals(1, gsonResult.getErrors().size());
+        assertEquals(JsonParser.parseString(GSON.toJson(gsonResult.toSpecification())),
+                JsonParser.parseString(write(new GsonExecutionResultWriter(GSON), gsonResult)));
+    }
+
+    private static ExecutionResult result(Object json) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("text", "\"quoted\" é");
+        data.put("int", 1);
+        data.put("long", Long.MAX_VALUE);
+        data.put("double", 0.5);
+        data.put("decimal", new BigDecimal("12345678901234567890.123"));
+        data.put("flag", true);
+        data.put("nothing", null);
+        data.put("ints", new int[] {1, 2, 3});
+        data.put("longs", new long[] {4L});
+        data.put("doubles", new double[] {0.25});
+        data.put("booleans", new boolean[] {true, false});
+        data.put("list", Arrays.asList("a", null, Collections.singletonMap("nested", 2)));
+        data.put("json", json);
+        data.put("pojo", new Pojo());
+        return ExecutionResultImpl.newExecutionResult()
+                .data(data)
+                .addError(GraphqlErrorBuilder.newError().message("Partial failure").build())
+                .extensions(Collections.singletonMap("cost", 3))
+                .build();
+    }
+
+    private static String write(ExecutionResultWriter writer, ExecutionResult result) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(result, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    public static class Pojo {
+        public String name = "pojo";
+        public int[] values = {1, 2};
+    }
+
+    public static class JacksonService {
+        @GraphQLQuery
+        public JsonNode json() {
+            return OBJECT_MAPPER.createObjectNode().put("one", "two");
+        }
+
+        @GraphQLQuery
+        public int[] numbers() {
+            return new int[] {1, 2, 3};
+        }
+
+        @GraphQLQuery
+        public String fail() {
+            throw new IllegalStateException("Failed");
+        }
+    }
+
+    public static class GsonService {
+        @GraphQLQuery
+        public JsonElement json() {
+            JsonObject element = new JsonObject();
+            element.addProperty("one", "two");
+            return element;
+        }
+
+        @GraphQLQuery
+        public int[] numbers() {
+            return new int[] {1, 2, 3};
+        }
+
+        @GraphQLQuery
+        public String fail() {
+            throw new IllegalStateException("Failed");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import io.leangen.graphql.metadata.strategy.query.GeneratedResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
+import io.leangen.graphql.processing.ResolverBuilderProcessor;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratedResolverBuilderTest {
+
+    private static final String BOOK_SERVICE =
+            "package generated;\n" +
+            "\n" +
+            "import io.leangen.graphql.annotations.*;\n" +
+            "import java.util.*;\n" +
+            "\n" +
+            "public class BookService {\n" +
+            "\n" +
+            "    private final List<String> titles = new ArrayList<>(Arrays.asList(\"Dune\", \"Solaris\"));\n" +
+            "\n" +
+            "    @GraphQLQuery(description = \"Titles starting with the given prefix\")\n" +
+            "    public List<String> getTitles(@GraphQLArgument(name = \"prefix\", defaultValue = \"D\") String prefix, int limit) {\n" +
+            "        return titles.stream().filter(t -> t.startsWith(prefix)).limit(limit).collect(java.util.stream.Collectors.toList());\n" +
+            "    }\n" +
+            "\n" +
+            "    @GraphQLQuery(deprecationReason = \"Use titles\")\n" +
+            "    public static int version() {\n" +
+            "        return 2;\n" +
+            "    }\n" +
+            "\n" +
+            "    @GraphQLQuery\n" +
+            "    public Shelf shelf() {\n" +
+            "        return new Shelf();\n" +
+            "    }\n" +
+            "\n" +
+            "    @GraphQLMutation(name = \"addBook\")\n" +
+            "    public void add(String title) {\n" +
+            "        titles.add(title);\n" +
+            "    }\n" +
+            "\n" +
+            "    @GraphQLQuery\n" +
+            "    public int failing() {\n" +
+            "        throw new IllegalStateException(\"Resolver failure\");\n" +
+            "    }\n" +
+            "\n" +
+            "    public static class Shelf {\n" +
+            "\n" +
+            "        @GraphQLQuery(name = \"capacity\")\n" +
+            "        private int size = 3;\n" +
+            "\n" +
+            "        @GraphQLQuery\n" +
+            "        public String label = \"A\";\n" +
+            "\n" +
+            "        public int getSize() {\n" +
+            "            return size;\n" +
+            "        }\n" +
+            "    }\n" +
+            "}\n";
+
+    private static ClassLoader generated;
+
+    @BeforeClass
+    public static void compile() throws IOException {
+        File output = Files.createTempDirectory("spqr-generated").toFile();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output));
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(output));
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///generated/BookService.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return BOOK_SERVICE;
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                Arrays.asList("-parameters", "-classpath", System.getProperty("java.class.path")), null, Collections.singletonList(source));
+        task.setProcessors(Collections.singletonList(new ResolverBuilderProcessor()));
+        assertTrue(task.call());
+        generated = new URLClassLoader(new URL[] {output.toURI().toURL()}, GeneratedResolverBuilderTest.class.getClassLoader());
+    }
+
+    @Test
+    public void generatedBuilderTest() throws Exception {
+        ResolverBuilder serviceBuilder = (ResolverBuilder) generated.loadClass("generated.BookService_ResolverBuilder").newInstance();
+        ResolverBuilder shelfBuilder = (ResolverBuilder) generated.loadClass("generated.BookService_Shelf_ResolverBuilder").newInstance();
+        assertTrue(serviceBuilder instanceof GeneratedResolverBuilder);
+
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service(), serviceBuilder)
+                .withNestedResolverBuilders((config, defaults) -> defaults.prepend(shelfBuilder))
+                .generate();
+        GraphQLSchema reflective = new TestSchemaGenerator()
+                .withOperationsFromSingleton(service())
+                .generate();
+        assertEquals(new SchemaPrinter().print(reflective), new SchemaPrinter().print(schema));
+
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("mutation {addBook(title: \"Dracula\")}");
+        assertNoErrors(result);
+        result = exe.execute("{titles(limit: 5), version, shelf {capacity, label}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList("Dune", "Dracula"), result, "titles");
+        assertValueAtPathEquals(2, result, "version");
+        assertValueAtPathEquals(3, result, "shelf.capacity");
+        assertValueAtPathEquals("A", result, "shelf.label");
+
+        result = exe.execute("{failing}");
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("Resolver failure"));
+    }
+
+    private static Object service() throws ReflectiveOperationException {
+        return generated.loadClass("generated.BookService").newInstance();
+    }
+}
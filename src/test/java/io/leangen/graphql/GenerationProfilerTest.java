@@ -0,0 +1,121 @@
+package io.leangen.graphql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.types.GraphQLInterface;
+import io.leangen.graphql.generator.GenerationProfiler;
+import io.leangen.graphql.generator.GenerationProfiler.Entry;
+import io.leangen.graphql.generator.GenerationProfiler.Phase;
+import io.leangen.graphql.generator.mapping.common.ObjectTypeMapper;
+import io.leangen.graphql.metadata.strategy.query.AnnotatedResolverBuilder;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GenerationProfilerTest {
+
+    @Test
+    public void testProfile() throws IOException {
+        GenerationProfiler profiler = new GenerationProfiler();
+        new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ShapeService())
+                .withProfiler(profiler)
+                .generate();
+        GenerationProfiler.Report report = profiler.getReport();
+
+        assertTrue(report.getEntries().stream().anyMatch(entry -> entry.getPhase() == Phase.RESOLVER_EXTRACTION
+                && entry.getSubject().endsWith("ShapeService") && entry.getComponent().equals(AnnotatedResolverBuilder.class.getName())));
+        assertTrue(report.getEntries().stream().anyMatch(entry -> entry.getPhase() == Phase.TYPE_MAPPING
+                && entry.getSubject().endsWith("Square") && entry.getComponent().equals(ObjectTypeMapper.class.getName())));
+        assertTrue(report.getEntries().stream().anyMatch(entry -> entry.getPhase() == Phase.INPUT_TYPE_MAPPING
+                && entry.getSubject().endsWith("ShapeFilter")));
+        Map<Phase, Long> phases = report.getSelfNanosByPhase();
+        for (Phase phase : Phase.values()) {
+            assertTrue(phase + " not recorded", phases.containsKey(phase));
+        }
+
+        //Self times add up to the whole generation
+        Entry generation = report.getEntries().stream()
+                .filter(entry -> entry.getPhase() == Phase.SCHEMA_GENERATION)
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals(generation.getTotalNanos(), phases.values().stream().mapToLong(Long::longValue).sum());
+
+        List<Entry> hotspots = report.getHotspots(3);
+        assertEquals(3, hotspots.size());
+        assertTrue(hotspots.get(0).getSelfNanos() >= hotspots.get(2).getSelfNanos());
+
+        JsonNode json = new ObjectMapper().readTree(report.toJson());
+        assertEquals(report.getEntries().size(), json.get("entries").size());
+        assertEquals(report.getEntries().get(0).getSubject(), json.get("entries").get(0).get("subject").asText());
+        assertEquals(phases.get(Phase.TYPE_MAPPING).longValue(), json.get("phases").get("TYPE_MAPPING").asLong());
+    }
+
+    @Test
+    public void testWorkOnOtherThreads() throws Exception {
+        GenerationProfiler profiler = new GenerationProfiler();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            profiler.profile(Phase.SCHEMA_GENERATION, "outer", GenerationProfilerTest.class, () -> {
+                Function<Long, Object> nested = profiler.inCurrentFrame(millis -> profiler.profile(Phase.RESOLVER_EXTRACTION,
+                        "nested", GenerationProfilerTest.class, () -> sleep(millis)));
+                try {
+                    return executor.submit(() -> nested.apply(50L)).get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            executor.shutdown();
+        }
+        Map<Phase, Long> phases = profiler.getReport().getSelfNanosByPhase();
+        //The time spent waiting for the other thread is attributed to the work done there
+        assertTrue(phases.get(Phase.RESOLVER_EXTRACTION) >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(phases.get(Phase.SCHEMA_GENERATION) < TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    private static Object sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    @GraphQLInterface(name = "Shape", implementationAutoDiscovery = true)
+    public interface Shape {
+        double getArea();
+    }
+
+    public static class Square implements Shape {
+        @Override
+        public double getArea() {
+            return 1;
+        }
+    }
+
+    public static class ShapeFilter {
+        public double minArea;
+    }
+
+    public static class ShapeService {
+        @GraphQLQuery
+        public List<Shape> shapes(@GraphQLArgument(name = "filter") ShapeFilter filter) {
+            return Collections.singletonList(new Square());
+        }
+    }
+
+}
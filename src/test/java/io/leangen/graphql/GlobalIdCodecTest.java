@@ -0,0 +1,139 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.relay.Relay;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLId;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.relay.DefaultGlobalIdCodec;
+import io.leangen.graphql.execution.relay.GlobalId;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
+import org.junit.Test;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class GlobalIdCodecTest {
+
+    private static final Relay RELAY = new Relay();
+
+    @Test
+    public void testWireCompatibility() {
+        GlobalIdCodec codec = new DefaultGlobalIdCodec();
+        //Type names covering all prefix lengths modulo 3
+        for (String type : new String[] {"A", "Ab", "Abc", "Book", "Übertyp"}) {
+            for (String id : new String[] {"", "1", "12", "123", "x:y", "ünïcödé", "😀"}) {
+                String expected = RELAY.toGlobalId(type, id);
+                assertEquals(expected, codec.encode(type, id));
+                GlobalId decoded = codec.decode(expected);
+                assertEquals(type, decoded.getType());
+                assertEquals(id, decoded.getId());
+            }
+            for (long id : new long[] {0, 7, -7, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+                String expected = RELAY.toGlobalId(type, Long.toString(id));
+                assertEquals(expected, codec.encode(type, id));
+                assertEquals(id, codec.decode(expected).getIdAsLong());
+            }
+        }
+    }
+
+    @Test
+    public void testNonCanonicalNumbers() {
+        GlobalIdCodec codec = new DefaultGlobalIdCodec();
+        for (String id : new String[] {"", "-", "01", "-0", "+1", "1a", "9223372036854775808", "-9223372036854775809", "12345678901234567890"}) {
+            try {
+                codec.decode(RELAY.toGlobalId("Book", id)).getIdAsLong();
+                fail(id + " should not be read as a number");
+            } catch (NumberFormatException e) {/*expected*/}
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidGlobalId() {
+        //Valid Base64, but no type separator
+        new DefaultGlobalIdCodec().decode("Qm9vaw");
+    }
+
+    @Test
+    public void testRelayIds() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new BookService())
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+
+        ExecutionResult result = exe.execute("{book(id: \"" + RELAY.toGlobalId("Book", "42") + "\") {id title}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(RELAY.toGlobalId("Book", "42"), result, "book.id");
+        assertValueAtPathEquals("Book 42", result, "book.title");
+
+        result = exe.execute("{node(id: \"" + RELAY.toGlobalId("Book", "-3") + "\") {id ... on Book {title}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(RELAY.toGlobalId("Book", "-3"), result, "node.id");
+        assertValueAtPathEquals("Book -3", result, "node.title");
+
+        //Plain (not global) IDs are still accepted
+        result = exe.execute("{book(id: \"5\") {title}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Book 5", result, "book.title");
+    }
+
+    @Test
+    public void testCustomCodec() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new BookService())
+                .withGlobalIdCodec(new PlainCodec())
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{node(id: \"Book/9\") {id ... on Book {title}}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Book/9", result, "node.id");
+        assertValueAtPathEquals("Book 9", result, "node.title");
+    }
+
+    public static class Book {
+        private final long id;
+
+        Book(long id) {
+            this.id = id;
+        }
+
+        @GraphQLQuery
+        public @GraphQLId(relayId = true) long getId() {
+            return id;
+        }
+
+        @GraphQLQuery
+        public String getTitle() {
+            return "Book " + id;
+        }
+    }
+
+    public static class BookService {
+
+        @GraphQLQuery
+        public Book book(@GraphQLId(relayId = true) @GraphQLArgument(name = "id") long id) {
+            return new Book(id);
+        }
+    }
+
+    private static class PlainCodec implements GlobalIdCodec {
+
+        @Override
+        public String encode(String typeName, String id) {
+            return typeName + "/" + id;
+        }
+
+        @Override
+        public GlobalId decode(String globalId) {
+            int separator = globalId.indexOf('/');
+            if (separator < 0) {
+                throw new IllegalArgumentException(globalId);
+            }
+            return new GlobalId(globalId.substring(0, separator), globalId.substring(separator + 1));
+        }
+    }
+}
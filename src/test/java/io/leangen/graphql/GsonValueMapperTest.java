@@ -0,0 +1,169 @@
+package io.leangen.graphql;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeToken;
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.metadata.strategy.value.InputParsingException;
+import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapper;
+import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapperFactory;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class GsonValueMapperTest {
+
+    private static final GlobalEnvironment ENVIRONMENT = new TestGlobalEnvironment();
+
+    private final GsonValueMapper gson = new GsonValueMapperFactory().getValueMapper(Collections.emptyMap(), ENVIRONMENT);
+
+    @Test
+    public void testDirectBinding() {
+        Map<String, Object> child = new LinkedHashMap<>();
+        child.put("name", "child");
+        child.put("count", 2);
+
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("name", "root");
+        input.put("count", 1);
+        input.put("total", 12345678901L);
+        input.put("ratio", 0.5);
+        input.put("price", new BigDecimal("10.25"));
+        input.put("flag", true);
+        input.put("nickname", null);
+        input.put("mode", "FAST");
+        input.put("tags", Arrays.asList("a", null, "b"));
+        input.put("children", Collections.singletonList(child));
+        input.put("extra", Collections.singletonMap("nested", Arrays.asList(1, "x")));
+
+        Node node = gson.fromInput(input, new TypeToken<Map<String, Object>>(){}.getType(), GenericTypeReflector.annotate(Node.class));
+        assertEquals("root", node.name);
+        assertEquals(1, node.count);
+        assertEquals(12345678901L, node.total);
+        assertEquals(0.5, node.ratio, 0);
+        assertEquals(new BigDecimal("10.25"), node.price);
+        assertEquals(true, node.flag);
+        assertEquals("default", node.nickname);
+        assertEquals(Mode.FAST, node.mode);
+        assertEquals(Arrays.asList("a", null, "b"), node.tags);
+        assertEquals("child", node.children.get(0).name);
+        assertEquals(2, node.children.get(0).count);
+        assertNull(node.children.get(0).ratio);
+        assertEquals(Arrays.asList(1.0, "x"), node.extra.get("nested"));
+
+        List<Integer> numbers = gson.fromInput(Arrays.asList(1, 2L, 3.0), List.class, new TypeToken<List<Integer>>(){}.getAnnotatedType());
+        assertEquals(Arrays.asList(1, 2, 3), numbers);
+    }
+
+    @Test
+    public void testNonStringKeys() {
+        for (int i = 0; i < 2; i++) {
+            Indexed indexed = gson.fromInput(Collections.singletonMap("names", Collections.singletonMap("1", "one")),
+                    Map.class, GenericTypeReflector.annotate(Indexed.class));
+            assertEquals("one", indexed.names.get(1));
+        }
+    }
+
+    @Test(expected = InputParsingException.class)
+    public void testInvalidInput() {
+        gson.fromInput(Collections.singletonMap("count", "many"), Map.class, GenericTypeReflector.annotate(Node.class));
+    }
+
+    @Test
+    public void testCustomMapAdapter() {
+        AtomicInteger reads = new AtomicInteger();
+        GsonValueMapper custom = GsonValueMapperFactory.builder()
+                .withConfigurer(params -> params.getGsonBuilder().registerTypeAdapterFactory(new TypeAdapterFactory() {
+                    @Override
+                    public <T> TypeAdapter<T> create(Gson gson, com.google.gson.reflect.TypeToken<T> type) {
+                        if (!Map.class.isAssignableFrom(type.getRawType())) {
+                            return null;
+                        }
+                        //Gson's own map adapter, which can only read non-string keys from Gson's own readers
+                        TypeAdapter<T> delegate = new Gson().getAdapter(type);
+                        return new TypeAdapter<T>() {
+                            @Override
+                            public void write(JsonWriter out, T value) throws IOException {
+                                delegate.write(out, value);
+                            }
+
+                            @Override
+                            public T read(JsonReader in) throws IOException {
+                                reads.incrementAndGet();
+                                return delegate.read(in);
+                            }
+                        };
+                    }
+                }))
+                .build()
+                .getValueMapper(Collections.emptyMap(), ENVIRONMENT);
+        Indexed indexed = custom.fromInput(Collections.singletonMap("names", Collections.singletonMap("1", "one")),
+                Map.class, GenericTypeReflector.annotate(Indexed.class));
+        assertEquals("one", indexed.names.get(1));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testAdapterFailure() {
+        AtomicInteger reads = new AtomicInteger();
+        GsonValueMapper failing = GsonValueMapperFactory.builder()
+                .withConfigurer(params -> params.getGsonBuilder().registerTypeAdapter(Mode.class, new TypeAdapter<Mode>() {
+                    @Override
+                    public void write(JsonWriter out, Mode value) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public Mode read(JsonReader in) {
+                        reads.incrementAndGet();
+                        throw new IllegalArgumentException("Unknown mode");
+                    }
+                }))
+                .build()
+                .getValueMapper(Collections.emptyMap(), ENVIRONMENT);
+        try {
+            failing.fromInput(Collections.singletonMap("mode", "FAST"), Map.class, GenericTypeReflector.annotate(Node.class));
+            fail("Adapter failure not propagated");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Unknown mode", e.getMessage());
+        }
+        assertEquals(1, reads.get());
+    }
+
+    public enum Mode {
+        FAST, SLOW
+    }
+
+    public static class Node {
+        public String name;
+        public int count;
+        public long total;
+        public Double ratio;
+        public BigDecimal price;
+        public boolean flag;
+        public String nickname = "default";
+        public Mode mode;
+        public List<String> tags;
+        public List<Node> children;
+        public Map<String, Object> extra;
+    }
+
+    public static class Indexed {
+        public Map<Integer, String> names;
+    }
+}
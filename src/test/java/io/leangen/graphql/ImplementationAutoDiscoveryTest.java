@@ -4,14 +4,30 @@ import graphql.schema.GraphQLSchema;
 import io.leangen.graphql.annotations.GraphQLArgument;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.annotations.types.GraphQLInterface;
+import io.github.classgraph.ClassInfo;
+import io.leangen.graphql.domain.Cat;
+import io.leangen.graphql.domain.Dog;
+import io.leangen.graphql.domain.Pet;
 import io.leangen.graphql.generator.mapping.strategy.DefaultImplementationDiscoveryStrategy;
+import io.leangen.graphql.util.ClassFinder;
+import io.leangen.graphql.util.SubtypeIndex;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests whether auto-discovered interface implementation types are correctly registered in the schema
@@ -57,6 +73,59 @@ public class ImplementationAutoDiscoveryTest {
         assertNotNull(schema.getType("Two"));
     }
 
+    @Test
+    public void indexedDiscoveryTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SubtypeIndex.scan("io.leangen.graphql.domain").writeTo(out);
+        SubtypeIndex index = SubtypeIndex.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertTrue(index.covers("io.leangen.graphql.domain"));
+        assertFalse(index.covers("io.leangen.graphql"));
+
+        ClassFinder indexed = new ClassFinder(index);
+        ClassFinder scanning = new ClassFinder(null);
+        Predicate<ClassInfo> filter = ClassFinder.CONCRETE.and(ClassFinder.PUBLIC).and(ClassFinder.NON_IGNORED);
+        assertEquals(new HashSet<>(Arrays.asList(Cat.class, Dog.class)), new HashSet<>(indexed.findImplementations(Pet.class, filter, "io.leangen.graphql.domain")));
+        assertEquals(new HashSet<>(scanning.findImplementations(Pet.class, filter, "io.leangen.graphql.domain")),
+                new HashSet<>(indexed.findImplementations(Pet.class, filter, "io.leangen.graphql.domain")));
+        //Not covered by the index, so a scan is needed
+        assertEquals(2, indexed.findImplementations(Auto.class, filter, "io.leangen.graphql").size());
+        indexed.close();
+        scanning.close();
+
+        String partial = "# graphql-spqr subtype index\n" +
+                "packages io.leangen.graphql\n" +
+                One.class.getName() + "\tCONCRETE,PUBLIC,NON_IGNORED\t" + Auto.class.getName() + "\n";
+        ClassFinder partiallyIndexed = new ClassFinder(SubtypeIndex.readFrom(new ByteArrayInputStream(partial.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(Collections.singletonList(One.class), partiallyIndexed.findImplementations(Auto.class, filter, "io.leangen.graphql"));
+        //Arbitrary predicates can not be evaluated against the index
+        assertEquals(2, partiallyIndexed.findImplementations(Auto.class, filter.and(info -> true), "io.leangen.graphql").size());
+        partiallyIndexed.close();
+    }
+
+    @Test
+    public void nonPublicTypesTest() throws IOException {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new HiddenService())
+                .withImplementationDiscoveryStrategy(new DefaultImplementationDiscoveryStrategy().withNonPublicClasses())
+                .generate();
+        assertNotNull(schema.getType("Three"));
+        assertNotNull(schema.getType("Four"));
+
+        Predicate<ClassInfo> all = ClassFinder.CONCRETE.and(ClassFinder.NON_IGNORED);
+        Predicate<ClassInfo> visible = all.and(ClassFinder.PUBLIC);
+        ClassFinder scanning = new ClassFinder(null);
+        assertEquals(new HashSet<>(Arrays.asList(Three.class, Four.class)), new HashSet<>(scanning.findImplementations(Hidden.class, all, "io.leangen.graphql")));
+        assertEquals(Collections.singletonList(Four.class), scanning.findImplementations(Hidden.class, visible, "io.leangen.graphql"));
+        scanning.close();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SubtypeIndex.scan("io.leangen.graphql").writeTo(out);
+        ClassFinder indexed = new ClassFinder(SubtypeIndex.readFrom(new ByteArrayInputStream(out.toByteArray())));
+        assertEquals(new HashSet<>(Arrays.asList(Three.class, Four.class)), new HashSet<>(indexed.findImplementations(Hidden.class, all, "io.leangen.graphql")));
+        assertEquals(Collections.singletonList(Four.class), indexed.findImplementations(Hidden.class, visible, "io.leangen.graphql"));
+        indexed.close();
+    }
+
     private GraphQLSchema schemaFor(Object service) {
         return new TestSchemaGenerator()
                 .withOperationsFromSingleton(service)
@@ -81,6 +150,28 @@ public class ImplementationAutoDiscoveryTest {
         }
     }
 
+    @GraphQLInterface(name = "Hidden", implementationAutoDiscovery = true)
+    interface Hidden {}
+
+    static class Three implements Hidden {
+        public String getThree() {
+            return "three";
+        }
+    }
+
+    public static class Four implements Hidden {
+        public String getFour() {
+            return "four";
+        }
+    }
+
+    public static class HiddenService {
+        @GraphQLQuery
+        public Hidden hidden() {
+            return new Three();
+        }
+    }
+
     public static class ManualService {
         @GraphQLQuery(name = "find")
         public Manual findFlat(@GraphQLArgument(name = "one") boolean one) {
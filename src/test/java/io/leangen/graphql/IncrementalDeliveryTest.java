@@ -0,0 +1,141 @@
+package io.leangen.graphql;
+
+import graphql.DeferredExecutionResult;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalDeliveryTest {
+
+    @Test
+    public void streamedJavaStreamTest() {
+        Numbers numbers = new Numbers();
+        TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>(2);
+        execute(numbers, "{numbers(count: 5) @stream(initialCount: 2)}").subscribe(subscriber);
+
+        subscriber.assertValueCount(2);
+        ExecutionResult initial = subscriber.values().get(0);
+        assertNoErrors(initial);
+        assertValueAtPathEquals(Arrays.asList(0, 1), initial, "numbers");
+        assertItem(subscriber.values().get(1), 2, "numbers", 2);
+        assertFalse(numbers.closed.get());
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertValueCount(4);
+        assertItem(subscriber.values().get(3), 4, "numbers", 4);
+        subscriber.assertComplete();
+        assertTrue(numbers.closed.get());
+    }
+
+    @Test
+    public void streamedPublisherTest() {
+        Numbers numbers = new Numbers();
+        TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>(1);
+        execute(numbers, "{published(count: 100) @stream(initialCount: 3)}").subscribe(subscriber);
+
+        subscriber.assertValueCount(1);
+        assertValueAtPathEquals(Arrays.asList(0, 1, 2), subscriber.values().get(0), "published");
+        assertEquals(3, numbers.requested.get()); //Nothing beyond the initial items is pulled until requested
+
+        subscriber.request(2);
+        subscriber.assertValueCount(3);
+        assertItem(subscriber.values().get(2), 4, "published", 4);
+        assertEquals(5, numbers.requested.get());
+
+        subscriber.cancel();
+    }
+
+    @Test
+    public void cancelledStreamClosedTest() {
+        Numbers numbers = new Numbers();
+        TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>(1);
+        execute(numbers, "{numbers(count: 5) @stream}").subscribe(subscriber);
+
+        assertValueAtPathEquals(Collections.emptyList(), subscriber.values().get(0), "numbers");
+        subscriber.cancel();
+        assertTrue(numbers.closed.get());
+    }
+
+    @Test
+    public void unstreamedTest() {
+        TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>();
+        execute(new Numbers(), "{numbers(count: 3)}").subscribe(subscriber);
+
+        subscriber.assertValueCount(1);
+        subscriber.assertComplete();
+        assertValueAtPathEquals(Arrays.asList(0, 1, 2), subscriber.values().get(0), "numbers");
+    }
+
+    @Test
+    public void deferTest() {
+        TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>();
+        execute(new Numbers(), "{greeting farewell @defer}").subscribe(subscriber);
+
+        subscriber.assertValueCount(2);
+        subscriber.assertComplete();
+        ExecutionResult initial = subscriber.values().get(0);
+        assertValueAtPathEquals("Hello", initial, "greeting");
+        assertTrue(initial.getExtensions() == null || !initial.getExtensions().containsKey(graphql.GraphQL.DEFERRED_RESULTS));
+        DeferredExecutionResult deferred = (DeferredExecutionResult) subscriber.values().get(1);
+        assertEquals(Collections.singletonList("farewell"), deferred.getPath());
+        assertEquals("Goodbye", deferred.getData());
+    }
+
+    private static void assertItem(ExecutionResult result, Object expected, Object... path) {
+        assertTrue(result instanceof DeferredExecutionResult);
+        assertEquals(Arrays.asList(path), ((DeferredExecutionResult) result).getPath());
+        assertEquals(expected, result.getData());
+    }
+
+    private static Publisher<ExecutionResult> execute(Numbers numbers, String query) {
+        GraphQLRuntime runtime = GraphQLRuntime.newGraphQL(new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(numbers)
+                .withIncrementalDelivery()
+                .generate())
+                .build();
+        return runtime.executeIncrementally(ExecutionInput.newExecutionInput(query).build());
+    }
+
+    public static class Numbers {
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicLong requested = new AtomicLong();
+
+        @GraphQLQuery
+        public Stream<Integer> numbers(int count) {
+            return IntStream.range(0, count).boxed().onClose(() -> closed.set(true));
+        }
+
+        @GraphQLQuery
+        public Publisher<Integer> published(int count) {
+            return Flowable.range(0, count).doOnRequest(requested::addAndGet);
+        }
+
+        @GraphQLQuery
+        public String greeting() {
+            return "Hello";
+        }
+
+        @GraphQLQuery
+        public String farewell() {
+            return "Goodbye";
+        }
+    }
+}
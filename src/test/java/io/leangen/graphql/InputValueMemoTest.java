@@ -0,0 +1,120 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLContext;
+import io.leangen.graphql.annotations.GraphQLMutableInput;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.InputValueMemo;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+
+public class InputValueMemoTest {
+
+    private static final String QUERY = "query Shelves($filter: FilterInput, $other: FilterInput) {" +
+            "shelves {" +
+            "   matches(filter: $filter)" +
+            "   mutableMatches(filter: $filter)" +
+            "   otherMatches: matches(filter: $other)" +
+            "   literalMatches: matches(filter: {prefix: \"bb\"})}}";
+
+    @Test
+    public void testMemoizedVariables() {
+        Library library = new Library();
+        graphql.GraphQLContext context = graphql.GraphQLContext.newContext().build();
+        ExecutionResult result = execute(GraphQLRuntime.newGraphQL(schema(library)).memoizeInputValues().build(), context);
+
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList("ab", "ac"), result, "shelves.0.matches");
+        assertValueAtPathEquals(Collections.singletonList("bb"), result, "shelves.1.literalMatches");
+        assertEquals(1, library.filters.size());
+        assertEquals(1, library.otherFilters.size());
+        assertEquals(Shelf.COUNT, library.mutableFilters.size());
+        assertEquals(Shelf.COUNT, library.literalFilters.size());
+        //Literals are never memoized, as they're coerced anew on each invocation
+        assertEquals(2, InputValueMemo.from(context).size());
+    }
+
+    @Test
+    public void testUnmemoizedVariables() {
+        Library library = new Library();
+        ExecutionResult result = execute(GraphQLRuntime.newGraphQL(schema(library)).build(), graphql.GraphQLContext.newContext().build());
+
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList("ab", "ac"), result, "shelves.0.matches");
+        assertEquals(Shelf.COUNT, library.filters.size());
+        assertEquals(Shelf.COUNT, library.otherFilters.size());
+    }
+
+    private static GraphQLSchema schema(Library library) {
+        return new TestSchemaGenerator()
+                .withOperationsFromSingleton(library)
+                .generate();
+    }
+
+    private static ExecutionResult execute(GraphQL runtime, graphql.GraphQLContext context) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("filter", Collections.singletonMap("prefix", "a"));
+        variables.put("other", Collections.singletonMap("prefix", "b"));
+        return runtime.execute(ExecutionInput.newExecutionInput()
+                .query(QUERY)
+                .variables(variables)
+                .context(context)
+                .build());
+    }
+
+    public static class Library {
+
+        final Set<Filter> filters = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Filter> otherFilters = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Filter> mutableFilters = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Filter> literalFilters = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        @GraphQLQuery
+        public List<Shelf> shelves() {
+            return IntStream.range(0, Shelf.COUNT).mapToObj(i -> new Shelf()).collect(Collectors.toList());
+        }
+
+        @GraphQLQuery
+        public List<String> matches(@GraphQLContext Shelf shelf, @GraphQLArgument(name = "filter") Filter filter) {
+            (filter.prefix.equals("a") ? filters : filter.prefix.equals("b") ? otherFilters : literalFilters).add(filter);
+            return shelf.filter(filter);
+        }
+
+        @GraphQLQuery
+        public List<String> mutableMatches(@GraphQLContext Shelf shelf, @GraphQLArgument(name = "filter") @GraphQLMutableInput Filter filter) {
+            mutableFilters.add(filter);
+            return shelf.filter(filter);
+        }
+    }
+
+    public static class Shelf {
+        static final int COUNT = 5;
+
+        final List<String> books = Arrays.asList("ab", "bb", "ac");
+
+        List<String> filter(Filter filter) {
+            return books.stream().filter(book -> book.startsWith(filter.prefix)).collect(Collectors.toList());
+        }
+    }
+
+    public static class Filter {
+        public String prefix;
+    }
+}
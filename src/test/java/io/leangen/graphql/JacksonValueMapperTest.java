@@ -0,0 +1,156 @@
+package io.leangen.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeToken;
+import io.leangen.graphql.execution.GlobalEnvironment;
+import io.leangen.graphql.metadata.strategy.value.InputParsingException;
+import io.leangen.graphql.metadata.strategy.value.jackson.JacksonValueMapper;
+import io.leangen.graphql.metadata.strategy.value.jackson.JacksonValueMapperFactory;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.reflect.AnnotatedType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class JacksonValueMapperTest {
+
+    private static final GlobalEnvironment ENVIRONMENT = new TestGlobalEnvironment();
+
+    private final JacksonValueMapper jackson = new JacksonValueMapperFactory().getValueMapper(Collections.emptyMap(), ENVIRONMENT);
+
+    @Test
+    public void testDirectBinding() {
+        Map<String, Object> input = input();
+
+        Node node = jackson.fromInput(input, null, GenericTypeReflector.annotate(Node.class));
+        assertEquals("root", node.name);
+        assertEquals(1, node.count);
+        assertEquals(12345678901L, node.total);
+        assertEquals(0.5, node.ratio, 0);
+        assertEquals(new BigDecimal("10.25"), node.price);
+        assertEquals(new BigInteger("123456789012345678901234567890"), node.big);
+        assertEquals(true, node.flag);
+        assertEquals(Optional.empty(), node.nickname);
+        assertEquals(Mode.FAST, node.mode);
+        assertArrayEquals(new byte[] {1, 2, 3}, node.bytes);
+        assertEquals(Arrays.asList("a", null, "b"), node.tags);
+        assertEquals("child", node.children.get(0).name);
+        assertEquals(2, node.children.get(0).count);
+        assertNull(node.children.get(0).ratio);
+        assertEquals(Arrays.asList(1, 2.5, "x"), node.extra.get("nested"));
+
+        List<Integer> numbers = jackson.fromInput(Arrays.asList(1, 2L, 3.0), null, new TypeToken<List<Integer>>(){}.getAnnotatedType());
+        assertEquals(Arrays.asList(1, 2, 3), numbers);
+    }
+
+    /**
+     * Compares binding the coerced input via {@code ObjectTreeParser} (what {@link JacksonValueMapper} does) against {@code ObjectMapper#convertValue},
+     * which copies it into a token buffer first. Only run when the {@code benchmark} system property is set,
+     * e.g. {@code mvn test -Dtest=JacksonValueMapperTest -Dbenchmark}.
+     */
+    @Test
+    public void benchmark() {
+        Assume.assumeNotNull(System.getProperty("benchmark"));
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        AnnotatedType nodeType = GenericTypeReflector.annotate(Node.class);
+        int count = 500_000;
+        Object[] inputs = new Object[1000];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = input();
+        }
+        for (int round = 0; round < 5; round++) {
+            System.out.println("Round " + round);
+            time("convertValue", count, i -> objectMapper.convertValue(inputs[i % inputs.length], Node.class));
+            time("ObjectTreeParser", count, i -> jackson.fromInput(inputs[i % inputs.length], null, nodeType));
+        }
+    }
+
+    @Test
+    public void testNonJsonValues() {
+        UUID id = UUID.randomUUID();
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("id", id);
+        input.put("name", "tagged");
+        Tagged tagged = jackson.fromInput(input, null, GenericTypeReflector.annotate(Tagged.class));
+        assertEquals(id, tagged.id);
+        assertEquals("tagged", tagged.name);
+        assertNull(jackson.fromInput(null, null, GenericTypeReflector.annotate(Tagged.class)));
+    }
+
+    @Test(expected = InputParsingException.class)
+    public void testOverflow() {
+        jackson.fromInput(Collections.singletonMap("count", Long.MAX_VALUE), null, GenericTypeReflector.annotate(Node.class));
+    }
+
+    private static Map<String, Object> input() {
+        Map<String, Object> child = new LinkedHashMap<>();
+        child.put("name", "child");
+        child.put("count", 2);
+        child.put("children", Collections.emptyList());
+
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("name", "root");
+        input.put("count", 1);
+        input.put("total", 12345678901L);
+        input.put("ratio", 0.5);
+        input.put("price", new BigDecimal("10.25"));
+        input.put("big", new BigInteger("123456789012345678901234567890"));
+        input.put("flag", true);
+        input.put("nickname", null);
+        input.put("mode", "FAST");
+        input.put("bytes", "AQID");
+        input.put("tags", Arrays.asList("a", null, "b"));
+        input.put("children", Collections.singletonList(child));
+        input.put("extra", Collections.singletonMap("nested", Arrays.asList(1, 2.5, "x")));
+        return input;
+    }
+
+    private static void time(String label, int count, IntFunction<Object> operation) {
+        long start = System.nanoTime();
+        int hash = 0;
+        for (int i = 0; i < count; i++) {
+            hash += operation.apply(i).hashCode();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("  %-36s %6.1f ns/op (%d)%n", label, (double) nanos / count, hash & 1);
+    }
+
+    public enum Mode {
+        FAST, SLOW
+    }
+
+    public static class Node {
+        public String name;
+        public int count;
+        public long total;
+        public Double ratio;
+        public BigDecimal price;
+        public BigInteger big;
+        public boolean flag;
+        public Optional<String> nickname;
+        public Mode mode;
+        public byte[] bytes;
+        public List<String> tags;
+        public List<Node> children;
+        public Map<String, Object> extra;
+    }
+
+    public static class Tagged {
+        public UUID id;
+        public String name;
+    }
+}
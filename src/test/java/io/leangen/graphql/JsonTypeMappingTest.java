@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.node.BigIntegerNode;
 import com.fasterxml.jackson.databind.node.BinaryNode;
 import com.fasterxml.jackson.databind.node.DoubleNode;
 import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.POJONode;
 import com.fasterxml.jackson.databind.node.TextNode;
@@ -15,17 +16,29 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.language.AstValueHelper;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.VariableReference;
+import graphql.schema.Coercing;
 import graphql.schema.GraphQLSchema;
 import io.leangen.graphql.annotations.GraphQLQuery;
 import io.leangen.graphql.domain.Street;
 import io.leangen.graphql.metadata.strategy.value.gson.GsonValueMapperFactory;
+import io.leangen.graphql.module.common.gson.GsonScalars;
+import io.leangen.graphql.module.common.jackson.JacksonObjectScalars;
 import org.junit.Test;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.List;
 
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertTypeAtPathIs;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 public class JsonTypeMappingTest {
 
@@ -87,6 +100,56 @@ public class JsonTypeMappingTest {
         assertTypeAtPathIs(Number.class, result, "item.array.1");
     }
 
+    @Test
+    public void testJacksonConstantLiterals() {
+        Coercing coercing = JacksonObjectScalars.JsonAnyNode.getCoercing();
+        ObjectValue constant = (ObjectValue) AstValueHelper.valueFromAst("{one: \"two\", list: [1, {three: 3.3}]}");
+        Object parsed = coercing.parseLiteral(constant, Collections.emptyMap());
+        assertSame(parsed, coercing.parseLiteral(constant, Collections.emptyMap()));
+        assertEquals("{\"one\":\"two\",\"list\":[1,{\"three\":3.3}]}", parsed.toString());
+        try {
+            ((ObjectNode) parsed).put("four", 4);
+            fail("Shared literals must not be modifiable");
+        } catch (UnsupportedOperationException e) {/*expected*/}
+        try {
+            ((ArrayNode) ((ObjectNode) parsed).get("list")).add(5);
+            fail("Shared literals must not be modifiable");
+        } catch (UnsupportedOperationException e) {/*expected*/}
+
+        //Literals referencing variables are converted on every use
+        ObjectValue withVariable = ObjectValue.newObjectValue()
+                .objectField(new ObjectField("one", new VariableReference("var")))
+                .build();
+        ObjectNode first = (ObjectNode) coercing.parseLiteral(withVariable, Collections.singletonMap("var", "two"));
+        ObjectNode second = (ObjectNode) coercing.parseLiteral(withVariable, Collections.singletonMap("var", "three"));
+        assertEquals("two", first.get("one").textValue());
+        assertEquals("three", second.get("one").textValue());
+        first.put("four", 4);
+    }
+
+    @Test
+    public void testJacksonSubtypeSerialization() {
+        Coercing coercing = JacksonObjectScalars.JsonAnyNode.getCoercing();
+        assertEquals("text", coercing.serialize(new TextNode("text") {}));
+        assertEquals(123, coercing.serialize(IntNode.valueOf(123)));
+        //Types not mapped to a specific scalar are left as they are
+        LongNode unmapped = LongNode.valueOf(1L);
+        assertSame(unmapped, coercing.serialize(unmapped));
+    }
+
+    @Test
+    public void testGsonConstantLiterals() {
+        Coercing coercing = GsonScalars.JsonAnyNode.getCoercing();
+        ObjectValue constant = (ObjectValue) AstValueHelper.valueFromAst("{one: \"two\", list: [1, {three: 3.3}]}");
+        JsonObject first = (JsonObject) coercing.parseLiteral(constant);
+        JsonObject second = (JsonObject) coercing.parseLiteral(constant);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        first.addProperty("four", 4);
+        first.getAsJsonArray("list").add(5);
+        assertEquals(second, coercing.parseLiteral(constant));
+    }
+
     public static class JacksonService {
 
         @GraphQLQuery
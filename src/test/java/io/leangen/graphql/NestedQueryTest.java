@@ -13,9 +13,12 @@ import io.leangen.graphql.annotations.GraphQLQuery;
 import org.junit.Test;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class NestedQueryTest {
@@ -42,6 +45,47 @@ public class NestedQueryTest {
         assertTrue(res.getErrors().isEmpty());
     }
     
+    @Test
+    public void testQueriesEmbeddedViaSuperTypes() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ReviewService())
+                .generate();
+
+        GraphQLObjectType essay = (GraphQLObjectType) schema.getType("Essay");
+        GraphQLObjectType author = (GraphQLObjectType) schema.getType("Author");
+        assertNotNull(essay.getFieldDefinition("reviews"));
+        assertNotNull(essay.getFieldDefinition("summary"));
+        assertNotNull(author.getFieldDefinition("summary"));
+        assertNull(author.getFieldDefinition("reviews"));
+
+        ExecutionResult res = GraphQL.newGraphQL(schema).build().execute("{essay {reviews, summary}}");
+        assertTrue(res.getErrors().isEmpty());
+        assertEquals("2 reviews", ((Map<?, ?>) ((Map<?, ?>) res.getData()).get("essay")).get("reviews"));
+    }
+
+    public static class ReviewService {
+
+        @GraphQLQuery
+        public Essay essay() {
+            return new Essay("Sleeping in", 2);
+        }
+
+        @GraphQLQuery
+        public Author author() {
+            return new Author("Sleepy");
+        }
+
+        @GraphQLQuery
+        public String reviews(@GraphQLContext Essay essay) {
+            return essay.getWordCount() + " reviews";
+        }
+
+        @GraphQLQuery
+        public String summary(@GraphQLContext Object source) {
+            return source.getClass().getSimpleName();
+        }
+    }
+
     public static class BookService {
         
         @GraphQLQuery(name = "books")
@@ -13,7 +13,10 @@ import org.junit.Test;
 
 import javax.annotation.Nonnull;
 import javax.validation.constraints.NotNull;
+import java.util.List;
 
+import static io.leangen.graphql.support.GraphQLTypeAssertions.assertListOf;
+import static io.leangen.graphql.support.GraphQLTypeAssertions.assertListOfNonNull;
 import static io.leangen.graphql.support.GraphQLTypeAssertions.assertNonNull;
 import static io.leangen.graphql.support.LogAssertions.assertWarningsLogged;
 
@@ -43,6 +46,15 @@ public class NonNullTest {
         assertNonNull(field.getArgument("in").getType(), Scalars.GraphQLString);
     }
 
+    @Test
+    public void testNonNullPosition() {
+        GraphQLSchema schema = new TestSchemaGenerator().withOperationsFromSingleton(new Nested()).generate();
+        GraphQLFieldDefinition outer = schema.getQueryType().getFieldDefinition("outer");
+        assertNonNull(outer.getType(), graphql.schema.GraphQLList.class);
+        assertListOf(((graphql.schema.GraphQLNonNull) outer.getType()).getWrappedType(), Scalars.GraphQLString);
+        assertListOfNonNull(schema.getQueryType().getFieldDefinition("inner").getType(), Scalars.GraphQLString);
+    }
+
     private static class Service {
         @GraphQLQuery
         public Integer integerWithDefault(@GraphQLArgument(name = "in", defaultValue = "3") @GraphQLNonNull Integer in) {
@@ -71,6 +83,18 @@ public class NonNullTest {
         }
     }
 
+    private static class Nested {
+        @GraphQLQuery
+        public @GraphQLNonNull List<String> outer() {
+            return null;
+        }
+
+        @GraphQLQuery
+        public List<@GraphQLNonNull String> inner() {
+            return null;
+        }
+    }
+
     private static class Item {
         @GraphQLInputField(name = "title", defaultValue = "<UNKNOWN>")
         public @GraphQLNonNull String name;
@@ -15,8 +15,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.Arrays;
+
 import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
 import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -75,6 +78,34 @@ public class PolymorphicJsonTest {
         assertValueAtPathEquals("flying", result, "vehicle.mode");
     }
 
+    @Test
+    public void testObjectMapperSharing() {
+        //Only test with Jackson as the feature is Jackson specific
+        JacksonValueMapperFactory memoized = new JacksonValueMapperFactory();
+        JacksonValueMapperFactory shared = JacksonValueMapperFactory.builder().withSharedObjectMapper().build();
+        for (JacksonValueMapperFactory factory : Arrays.asList(memoized, shared)) {
+            GraphQLSchema schema = new TestSchemaGenerator()
+                    .withOperationsFromSingletons(new Operations(), new VehicleService(), new MixedService())
+                    .withAbstractInputTypeResolution()
+                    .withValueMapperFactory(factory)
+                    .generate();
+            GraphQL exe = GraphQL.newGraphQL(schema).build();
+            ExecutionResult result = exe.execute("{" +
+                    "test(container: {item: \"yay\", _type_: ChildTwo}) {item}, " +
+                    "vehicle(in: {mode: \"flying\"}) {mode}, " +
+                    "mixed(container: {item: \"nay\", _type_: Child}, in: {mode: \"sailing\"})}");
+            assertNoErrors(result);
+            assertValueAtPathEquals("yayChildTwo", result, "test.item");
+            assertValueAtPathEquals("flying", result, "vehicle.mode");
+            assertValueAtPathEquals("nayChild sailing", result, "mixed");
+        }
+        JacksonValueMapperFactory.Report memoizedReport = memoized.getReport();
+        JacksonValueMapperFactory.Report sharedReport = shared.getReport();
+        assertTrue(memoizedReport.toString(), memoizedReport.getObjectMappersCreated() < memoizedReport.getValueMappersRequested());
+        assertTrue(sharedReport.toString(), sharedReport.getObjectMappersCreated() < memoizedReport.getObjectMappersCreated());
+        assertEquals(0, sharedReport.getMergeConflicts());
+    }
+
     public static abstract class Vehicle {
 
         String mode;
@@ -105,6 +136,19 @@ public class PolymorphicJsonTest {
         }
     }
 
+    public static class MixedService {
+
+        @GraphQLQuery
+        public Parent<String> again(@GraphQLArgument(name = "container") Parent<String> container) {
+            return container;
+        }
+
+        @GraphQLQuery
+        public String mixed(@GraphQLArgument(name = "container") Parent<String> container, Vehicle in) {
+            return container.getItem() + " " + in.getMode();
+        }
+    }
+
     public static abstract class Parent<T> {
         String item;
         
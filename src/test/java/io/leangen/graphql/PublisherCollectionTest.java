@@ -0,0 +1,111 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.generator.mapping.core.PublisherCollectionConfig;
+import io.reactivex.Flowable;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertErrorsEqual;
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PublisherCollectionTest {
+
+    @Test
+    public void unboundedCollectionTest() {
+        ExecutionResult result = execute(PublisherCollectionConfig.UNBOUNDED, "{numbers(count: 5)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList(0, 1, 2, 3, 4), result, "numbers");
+    }
+
+    @Test
+    public void firstArgumentTest() {
+        Numbers numbers = new Numbers();
+        ExecutionResult result = execute(numbers, PublisherCollectionConfig.bounded(2, 100), "{infinite(first: 3)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList(0, 1, 2), result, "infinite");
+        assertEquals(3, numbers.requested.get()); //Requested in batches of 2, but never more than the limit
+    }
+
+    @Test
+    public void lastArgumentTest() {
+        ExecutionResult result = execute(PublisherCollectionConfig.bounded(3, 100), "{numbers(count: 10, last: 2)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList(8, 9), result, "numbers");
+    }
+
+    @Test
+    public void truncationTest() {
+        ExecutionResult result = execute(PublisherCollectionConfig.bounded(10, 3), "{infinite}");
+        assertErrorsEqual(result, "Result truncated to the maximum allowed size of 3 elements");
+        assertValueAtPathEquals(Arrays.asList(0, 1, 2), result, "infinite");
+    }
+
+    @Test
+    public void exactLimitNotTruncatedTest() {
+        ExecutionResult result = execute(PublisherCollectionConfig.bounded(10, 3), "{numbers(count: 3)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList(0, 1, 2), result, "numbers");
+    }
+
+    @Test
+    public void firstEqualToLimitTest() {
+        Numbers numbers = new Numbers();
+        ExecutionResult result = execute(numbers, PublisherCollectionConfig.bounded(10, 3), "{infinite(first: 3)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList(0, 1, 2), result, "infinite");
+        assertEquals(3, numbers.requested.get()); //No extra element is needed to detect truncation
+    }
+
+    @Test
+    public void silentTruncationTest() {
+        ExecutionResult result = execute(new PublisherCollectionConfig(1, 2, false, false), "{infinite(first: 5)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Arrays.asList(0, 1), result, "infinite");
+    }
+
+    @Test
+    public void zeroLimitTest() {
+        ExecutionResult result = execute(PublisherCollectionConfig.bounded(10, 100), "{infinite(first: 0)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(Collections.emptyList(), result, "infinite");
+    }
+
+    private static ExecutionResult execute(PublisherCollectionConfig config, String query) {
+        return execute(new Numbers(), config, query);
+    }
+
+    private static ExecutionResult execute(Numbers service, PublisherCollectionConfig config, String query) {
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(service)
+                .withPublisherCollection(config)
+                .generate();
+        return GraphQL.newGraphQL(schema).build().execute(query);
+    }
+
+    public static class Numbers {
+
+        private final AtomicLong requested = new AtomicLong();
+
+        @GraphQLQuery
+        public Publisher<Integer> numbers(int count, @GraphQLArgument(name = "last") Integer last) {
+            return Flowable.range(0, count);
+        }
+
+        @GraphQLQuery
+        public Publisher<Integer> infinite(@GraphQLArgument(name = "first") Integer first) {
+            return Flowable.range(0, Integer.MAX_VALUE)
+                    .doOnRequest(requested::addAndGet);
+        }
+    }
+}
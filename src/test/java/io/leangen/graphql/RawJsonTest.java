@@ -0,0 +1,131 @@
+package io.leangen.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.JsonParser;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.ExecutionResultWriter;
+import io.leangen.graphql.execution.RawJson;
+import io.leangen.graphql.metadata.strategy.value.gson.GsonExecutionResultWriter;
+import io.leangen.graphql.metadata.strategy.value.jackson.JacksonExecutionResultWriter;
+import io.leangen.graphql.metadata.strategy.value.jackson.RawJsonModule;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertTypeAtPathIs;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class RawJsonTest {
+
+    private static final String DOCUMENT = "{\"id\":1,\"tags\":[\"a\",\"b\"],\"nested\":{\"ok\":true}}";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new RawJsonModule());
+
+    @Test
+    public void testPassthrough() throws IOException {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new DocumentService())
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{bytes buffer text echo(json: \"[1, 2]\")}");
+        assertNoErrors(result);
+        assertTypeAtPathIs(RawJson.class, result, "bytes");
+        assertTypeAtPathIs(RawJson.class, result, "buffer");
+        assertValueAtPathEquals("[1, 2]", result, "echo");
+
+        String expected = "{\"data\":{\"bytes\":" + DOCUMENT + ",\"buffer\":" + DOCUMENT + ",\"text\":" + DOCUMENT + ",\"echo\":\"[1, 2]\"}}";
+        assertEquals(OBJECT_MAPPER.readTree(expected), OBJECT_MAPPER.readTree(write(new JacksonExecutionResultWriter(), result)));
+        assertEquals(JsonParser.parseString(expected), JsonParser.parseString(write(new GsonExecutionResultWriter(), result)));
+        //Jackson splices the raw value in even when serializing the result as usual
+        assertEquals(OBJECT_MAPPER.readTree(expected), OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(result.toSpecification())));
+    }
+
+    @Test
+    public void testBinarySplicing() throws IOException {
+        //Not valid UTF-8, so any decoding would replace it
+        byte[] content = {'"', (byte) 0xFF, '"'};
+        ExecutionResult result = ExecutionResultImpl.newExecutionResult()
+                .data(Collections.singletonMap("raw", Arrays.asList(RawJson.of(content), RawJson.of(ByteBuffer.wrap(content)))))
+                .build();
+        byte[] expected = {'{', '"', 'd', 'a', 't', 'a', '"', ':', '{', '"', 'r', 'a', 'w', '"', ':', '[',
+                '"', (byte) 0xFF, '"', ',', '"', (byte) 0xFF, '"', ']', '}', '}'};
+        assertArrayEquals(expected, writeBytes(new JacksonExecutionResultWriter(), result));
+        assertArrayEquals(expected, writeBytes(new GsonExecutionResultWriter(), result));
+        assertArrayEquals(Arrays.copyOfRange(expected, 8, expected.length - 1), OBJECT_MAPPER.writeValueAsBytes(result.getData()));
+    }
+
+    @Test
+    public void testValidation() {
+        RawJson valid = RawJson.of(ByteBuffer.wrap(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+        assertSame(valid, valid.validate());
+        assertEquals(DOCUMENT, valid.toString());
+        assertInvalid(RawJson.of("{\"id\":"));
+        assertInvalid(RawJson.of("1 2"));
+        assertInvalid(RawJson.of(new byte[0]));
+    }
+
+    @Test
+    public void testInvalidInput() {
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new DocumentService())
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{echo(json: \"[1, 2\")}");
+        assertEquals(1, result.getErrors().size());
+    }
+
+    private static void assertInvalid(RawJson json) {
+        try {
+            json.validate();
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError(json + " should have been rejected");
+    }
+
+    private static String write(ExecutionResultWriter writer, ExecutionResult result) throws IOException {
+        return new String(writeBytes(writer, result), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] writeBytes(ExecutionResultWriter writer, ExecutionResult result) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(result, out);
+        return out.toByteArray();
+    }
+
+    public static class DocumentService {
+
+        @GraphQLQuery
+        public RawJson bytes() {
+            return RawJson.of(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @GraphQLQuery
+        public RawJson buffer() {
+            return RawJson.of(ByteBuffer.wrap(("  " + DOCUMENT).getBytes(StandardCharsets.UTF_8), 2, DOCUMENT.length()).slice());
+        }
+
+        @GraphQLQuery
+        public RawJson text() {
+            return RawJson.of(new StringBuilder(DOCUMENT));
+        }
+
+        @GraphQLQuery
+        public String echo(@GraphQLArgument(name = "json") RawJson json) {
+            return json.validate().toString();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.relay.Relay;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLMutation;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.types.GraphQLInterface;
+import io.leangen.graphql.execution.relay.GlobalId;
+import io.leangen.graphql.execution.relay.GlobalIdCodec;
+import io.leangen.graphql.metadata.strategy.DefaultInclusionStrategy;
+import org.junit.Test;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaFamilyTest {
+
+    @Test
+    public void testSharedDefinitions() {
+        SchemaFamily family = SchemaFamily.newFamily(() -> new TestSchemaGenerator().withOperationsFromSingleton(new BookService()))
+                .withVariant("public", gen -> {})
+                .withVariant("admin", gen -> gen.withOperationsFromSingleton(new AdminService()))
+                .withVariant("restricted", gen -> gen.withInclusionStrategy(new NoIsbnInclusionStrategy()))
+                .generate();
+
+        GraphQLSchema pub = family.getSchema("public");
+        GraphQLSchema admin = family.getSchema("admin");
+        GraphQLSchema restricted = family.getSchema("restricted");
+
+        assertSame(pub.getType("Book"), admin.getType("Book"));
+        assertSame(pub.getType("BookFilterInput"), admin.getType("BookFilterInput"));
+        assertNotSame(pub.getType("Book"), restricted.getType("Book"));
+        assertNull(((GraphQLObjectType) restricted.getType("Book")).getFieldDefinition("isbn"));
+        assertSame(pub.getType("Item"), restricted.getType("Item"));
+
+        ExecutionResult result = GraphQL.newGraphQL(admin).build()
+                .execute("mutation {rename(isbn: \"1\", title: \"Solaris\") {title}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Solaris", result, "rename.title");
+
+        for (GraphQLSchema schema : Arrays.asList(pub, admin)) {
+            result = GraphQL.newGraphQL(schema).build()
+                    .execute("{books(filter: {prefix: \"Du\"}) {title, isbn}, items {title, ... on Book {isbn}}}");
+            assertNoErrors(result);
+            assertValueAtPathEquals("Dune", result, "books.0.title");
+            assertValueAtPathEquals("2", result, "items.1.isbn");
+        }
+        result = GraphQL.newGraphQL(restricted).build().execute("{items {title, __typename}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Book", result, "items.0.__typename");
+
+        SchemaFamily.Report report = family.getReport();
+        assertEquals(0, report.getVariant("public").getSharedTypes());
+        assertTrue(report.getVariant("admin").getSharedTypes() > 0);
+        //Executors and value mappers capture the environment of their own schema, so are only shared within it
+        assertEquals(0, report.getVariant("admin").getSharedExecutors());
+        assertTrue(report.getVariant("admin").getSharedValueMappers() > 0);
+        assertTrue(report.getVariant("restricted").getSharedTypes() > 0);
+        assertTrue(report.getVariant("restricted").getSharedTypes() < report.getVariant("admin").getSharedTypes());
+    }
+
+    @Test
+    public void testEnvironmentNotShared() {
+        SchemaFamily family = SchemaFamily.newFamily(() -> new TestSchemaGenerator().withOperationsFromSingleton(new GlobalIdCodecTest.BookService()))
+                .withVariant("relay", gen -> {})
+                .withVariant("plain", gen -> gen.withGlobalIdCodec(new PlainCodec()))
+                .generate();
+
+        ExecutionResult result = GraphQL.newGraphQL(family.getSchema("relay")).build()
+                .execute("{book(id: \"" + new Relay().toGlobalId("Book", "7") + "\") {id title}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(new Relay().toGlobalId("Book", "7"), result, "book.id");
+
+        result = GraphQL.newGraphQL(family.getSchema("plain")).build().execute("{book(id: \"Book/9\") {id title}}");
+        assertNoErrors(result);
+        assertValueAtPathEquals("Book/9", result, "book.id");
+        assertValueAtPathEquals("Book 9", result, "book.title");
+    }
+
+    @GraphQLInterface(name = "Item")
+    public interface Item {
+        String getTitle();
+    }
+
+    public static class Book implements Item {
+
+        private final String title;
+        private final String isbn;
+
+        Book(String title, String isbn) {
+            this.title = title;
+            this.isbn = isbn;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        public String getIsbn() {
+            return isbn;
+        }
+    }
+
+    public static class BookFilter {
+        public String prefix;
+    }
+
+    private static final List<Book> BOOKS = Arrays.asList(new Book("Dracula", "1"), new Book("Dune", "2"));
+
+    public static class BookService {
+
+        @GraphQLQuery
+        public List<Book> books(@GraphQLArgument(name = "filter") BookFilter filter) {
+            return BOOKS.stream().filter(book -> book.getTitle().startsWith(filter.prefix)).collect(Collectors.toList());
+        }
+
+        @GraphQLQuery
+        public List<Item> items() {
+            return BOOKS.stream().map(book -> new Book(book.getTitle(), book.getIsbn())).collect(Collectors.toList());
+        }
+    }
+
+    public static class AdminService {
+
+        @GraphQLMutation
+        public Book rename(String isbn, String title) {
+            return new Book(title, isbn);
+        }
+    }
+
+    private static class PlainCodec implements GlobalIdCodec {
+
+        @Override
+        public String encode(String typeName, String id) {
+            return typeName + "/" + id;
+        }
+
+        @Override
+        public GlobalId decode(String globalId) {
+            int separator = globalId.indexOf('/');
+            return new GlobalId(globalId.substring(0, separator), globalId.substring(separator + 1));
+        }
+    }
+
+    public static class NoIsbnInclusionStrategy extends DefaultInclusionStrategy {
+
+        @Override
+        public boolean includeOperation(List<AnnotatedElement> elements, AnnotatedType declaringType) {
+            return super.includeOperation(elements, declaringType)
+                    && elements.stream().noneMatch(element -> element instanceof Method && ((Method) element).getName().equals("getIsbn"));
+        }
+    }
+}
@@ -1,25 +1,38 @@
 package io.leangen.graphql;
 
 import graphql.Scalars;
+import graphql.schema.GraphQLInputType;
 import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLOutputType;
 import graphql.schema.GraphQLType;
+import graphql.schema.idl.SchemaPrinter;
+import io.leangen.geantyref.TypeToken;
 import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.domain.Education;
 import io.leangen.graphql.generator.mapping.TypeMapper;
+import io.leangen.graphql.generator.mapping.TypeMappingEnvironment;
 import io.leangen.graphql.generator.mapping.common.MapToListTypeAdapter;
 import io.leangen.graphql.generator.mapping.common.NonNullMapper;
 import io.leangen.graphql.generator.mapping.common.ObjectTypeMapper;
 import io.leangen.graphql.generator.mapping.common.OptionalAdapter;
 import io.leangen.graphql.generator.mapping.common.ScalarMapper;
 import io.leangen.graphql.generator.mapping.common.StreamToCollectionTypeAdapter;
+import io.leangen.graphql.services.GenericItemRepo;
+import io.leangen.graphql.services.UserService;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
@@ -47,6 +60,18 @@ public class SchemaGeneratorConfigurationTest {
         assertEquals(scalarMapper, typeMappers.get(1));
     }
 
+    @Test
+    public void testMapperDispatchCaching() {
+        CountingMapper countingMapper = new CountingMapper();
+        new TestSchemaGenerator()
+                .withOperationsFromSingleton(new Repetitive())
+                .withTypeMappersPrepended(countingMapper)
+                .generate();
+        //Each distinct type shape is dispatched once for mapping and once for validation, no matter how many times it occurs
+        assertEquals(Integer.valueOf(2), countingMapper.checks.get(String.class));
+        assertEquals(Integer.valueOf(2), countingMapper.checks.get(Dummy.class));
+    }
+
     @Test
     public void testImplicitDefaultMappersOnly() {
         GraphQLSchemaGenerator generator = new GraphQLSchemaGenerator()
@@ -205,6 +230,20 @@ public class SchemaGeneratorConfigurationTest {
                 .generate();
     }
 
+    @Test
+    public void testParallelResolverBuilding() {
+        String sequential = new SchemaPrinter().print(parallelizableGenerator().generate());
+        String parallel = new SchemaPrinter().print(parallelizableGenerator().withParallelResolverBuilding().generate());
+        assertEquals(sequential, parallel);
+    }
+
+    private static GraphQLSchemaGenerator parallelizableGenerator() {
+        return new TestSchemaGenerator()
+                .withOperationsFromSingleton(new UserService<Education>(), new TypeToken<UserService<Education>>(){}.getAnnotatedType())
+                .withOperationsFromSingleton(new GenericItemRepo<Education>(), new TypeToken<GenericItemRepo<Education>>(){}.getAnnotatedType())
+                .withOperationsFromSingleton(new Dummy());
+    }
+
     private static List<TypeMapper> getDefaultMappers() {
         GraphQLSchemaGenerator generator = new GraphQLSchemaGenerator()
                 .withOperationsFromSingleton(new Dummy());
@@ -228,4 +267,48 @@ public class SchemaGeneratorConfigurationTest {
         @GraphQLQuery
         public byte[] bytes;
     }
+
+    public static class Repetitive {
+
+        @GraphQLQuery
+        public String first(String in) {
+            return in;
+        }
+
+        @GraphQLQuery
+        public String second(String in) {
+            return in;
+        }
+
+        @GraphQLQuery
+        public Dummy dummy() {
+            return new Dummy();
+        }
+
+        @GraphQLQuery
+        public Dummy otherDummy() {
+            return new Dummy();
+        }
+    }
+
+    private static class CountingMapper implements TypeMapper {
+
+        private final Map<Type, Integer> checks = new HashMap<>();
+
+        @Override
+        public GraphQLOutputType toGraphQLType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GraphQLInputType toGraphQLInputType(AnnotatedType javaType, Set<Class<? extends TypeMapper>> mappersToSkip, TypeMappingEnvironment env) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean supports(AnnotatedElement element, AnnotatedType type) {
+            checks.merge(type.getType(), 1, Integer::sum);
+            return false;
+        }
+    }
 }
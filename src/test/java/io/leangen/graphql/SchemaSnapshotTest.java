@@ -0,0 +1,157 @@
+package io.leangen.graphql;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import io.leangen.geantyref.TypeToken;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.GraphQLSubscription;
+import io.leangen.graphql.domain.Education;
+import io.leangen.graphql.generator.mapping.common.MapToListTypeAdapter;
+import io.leangen.graphql.metadata.Resolver;
+import io.leangen.graphql.metadata.strategy.query.AnnotatedArgumentBuilder;
+import io.leangen.graphql.metadata.strategy.query.AnnotatedResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.BeanResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.ResolverBuilder;
+import io.leangen.graphql.metadata.strategy.query.ResolverBuilderParams;
+import io.leangen.graphql.services.UserService;
+import io.reactivex.Flowable;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaSnapshotTest {
+
+    @Test
+    public void snapshotReplayTest() throws IOException {
+        CountingResolverBuilder recordingBuilder = new CountingResolverBuilder();
+        SchemaSnapshot recorded = SchemaSnapshot.record(generator(recordingBuilder));
+        assertTrue(recordingBuilder.invocations.get() > 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorded.writeTo(out);
+        SchemaSnapshot snapshot = SchemaSnapshot.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertTrue(snapshot.isCurrent());
+        assertEquals(recorded.getSchemaDefinition(), snapshot.getSchemaDefinition());
+
+        CountingResolverBuilder replayingBuilder = new CountingResolverBuilder();
+        GraphQLSchema schema = generator(replayingBuilder).withSchemaSnapshot(snapshot).generate();
+        assertEquals(0, replayingBuilder.invocations.get());
+        assertEquals(snapshot.getSchemaDefinition(), new SchemaPrinter().print(schema));
+
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute(ExecutionInput.newExecutionInput()
+                .query("{users(regDate: 1465667452785) {id, name, title, addresses {types}}}")
+                .context(Arrays.asList("xxx", "zzz"))
+                .build());
+        assertNoErrors(result);
+        result = exe.execute("{greeting}");
+        assertValueAtPathEquals("Hello", result, "greeting");
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidSnapshotTest() throws IOException {
+        SchemaSnapshot.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void unsupportedResolverBuilderTest() {
+        ResolverBuilder custom = new DelegatingResolverBuilder(new AnnotatedResolverBuilder());
+        SchemaSnapshot.record(new TestSchemaGenerator()
+                .withResolverBuilders(custom)
+                .withOperationsFromSingleton(new Greeter()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void missingArgumentBuilderTest() throws IOException {
+        SchemaSnapshot recorded = SchemaSnapshot.record(generator(new CountingResolverBuilder()));
+        CountingResolverBuilder replayingBuilder = new CountingResolverBuilder();
+        replayingBuilder.withResolverArgumentBuilder(new CustomArgumentBuilder());
+        generator(replayingBuilder).withSchemaSnapshot(recorded).generate();
+    }
+
+    private static GraphQLSchemaGenerator generator(CountingResolverBuilder builder) {
+        return new TestSchemaGenerator()
+                .withTypeAdapters(new MapToListTypeAdapter())
+                .withResolverBuilders(builder)
+                .withNestedResolverBuilders(new AnnotatedResolverBuilder(), new BeanResolverBuilder())
+                .withOperationsFromSingleton(new UserService<Education>(), new TypeToken<UserService<Education>>(){}.getAnnotatedType())
+                .withOperationsFromSingleton(new Greeter());
+    }
+
+    private static class CountingResolverBuilder extends AnnotatedResolverBuilder {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public Collection<Resolver> buildQueryResolvers(ResolverBuilderParams params) {
+            invocations.incrementAndGet();
+            return super.buildQueryResolvers(params);
+        }
+
+        @Override
+        public Collection<Resolver> buildMutationResolvers(ResolverBuilderParams params) {
+            invocations.incrementAndGet();
+            return super.buildMutationResolvers(params);
+        }
+
+        @Override
+        public Collection<Resolver> buildSubscriptionResolvers(ResolverBuilderParams params) {
+            invocations.incrementAndGet();
+            return super.buildSubscriptionResolvers(params);
+        }
+    }
+
+    private static class CustomArgumentBuilder extends AnnotatedArgumentBuilder {
+    }
+
+    private static class DelegatingResolverBuilder implements ResolverBuilder {
+
+        private final ResolverBuilder delegate;
+
+        DelegatingResolverBuilder(ResolverBuilder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Collection<Resolver> buildQueryResolvers(ResolverBuilderParams params) {
+            return delegate.buildQueryResolvers(params);
+        }
+
+        @Override
+        public Collection<Resolver> buildMutationResolvers(ResolverBuilderParams params) {
+            return delegate.buildMutationResolvers(params);
+        }
+
+        @Override
+        public Collection<Resolver> buildSubscriptionResolvers(ResolverBuilderParams params) {
+            return delegate.buildSubscriptionResolvers(params);
+        }
+    }
+
+    public static class Greeter {
+
+        @GraphQLQuery
+        public String greeting() {
+            return "Hello";
+        }
+
+        @GraphQLSubscription
+        public Publisher<String> greetings() {
+            return Flowable.just("Hello");
+        }
+    }
+}
@@ -4,16 +4,25 @@ import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.Scalars;
 import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLSchema;
 import io.leangen.graphql.annotations.GraphQLSubscription;
+import io.leangen.graphql.annotations.GraphQLSubscriptionDelivery;
+import io.leangen.graphql.execution.SubscriptionDeliveryMetrics;
+import io.leangen.graphql.execution.SubscriptionHub;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Observable;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
 import org.junit.Test;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -66,6 +75,223 @@ public class SubscriptionTest {
         assertEquals(2, counter.get());
     }
 
+    @Test
+    public void sharedSubscriptionTest() {
+        Feed feed = new Feed();
+        SubscriptionHub hub = new SubscriptionHub();
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(feed)
+                .withSubscriptionHub(hub)
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+
+        TestSubscriber<ExecutionResult> first = new TestSubscriber<>();
+        TestSubscriber<ExecutionResult> second = new TestSubscriber<>();
+        TestSubscriber<ExecutionResult> other = new TestSubscriber<>();
+        exe.execute("subscription { messages(topic: \"news\") }").<Publisher<ExecutionResult>>getData().subscribe(first);
+        exe.execute("subscription { messages(topic: \"news\") }").<Publisher<ExecutionResult>>getData().subscribe(second);
+        exe.execute("subscription { messages(topic: \"sport\") }").<Publisher<ExecutionResult>>getData().subscribe(other);
+        assertEquals(2, feed.upstreams.get());
+        assertEquals(2, hub.getActiveUpstreamCount());
+
+        feed.processor.onNext("hello");
+        first.assertValueCount(1);
+        second.assertValueCount(1);
+        other.assertValueCount(1);
+
+        first.cancel();
+        assertEquals(0, feed.cancellations.get());
+        second.cancel();
+        assertEquals(1, feed.cancellations.get());
+        assertEquals(1, hub.getActiveUpstreamCount());
+
+        feed.processor.onNext("world");
+        first.assertValueCount(1);
+        other.assertValueCount(2);
+
+        TestSubscriber<ExecutionResult> late = new TestSubscriber<>();
+        exe.execute("subscription { messages(topic: \"news\") }").<Publisher<ExecutionResult>>getData().subscribe(late);
+        assertEquals(3, feed.upstreams.get());
+        feed.processor.onComplete();
+        late.assertComplete();
+        other.assertComplete();
+        assertEquals(0, hub.getActiveUpstreamCount());
+    }
+
+    @Test
+    public void slowSubscriberTest() {
+        Feed feed = new Feed();
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(feed)
+                .withSubscriptionHub(new SubscriptionHub(2))
+                .generate();
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+
+        TestSubscriber<ExecutionResult> fast = new TestSubscriber<>();
+        TestSubscriber<ExecutionResult> slow = new TestSubscriber<>(1);
+        exe.execute("subscription { messages(topic: \"news\") }").<Publisher<ExecutionResult>>getData().subscribe(fast);
+        exe.execute("subscription { messages(topic: \"news\") }").<Publisher<ExecutionResult>>getData().subscribe(slow);
+
+        for (int i = 0; i < 4; i++) {
+            feed.processor.onNext("event" + i);
+        }
+        fast.assertValueCount(4);
+        fast.assertNotComplete();
+        slow.assertValueCount(1);
+        slow.assertError(IllegalStateException.class);
+        assertEquals(0, feed.cancellations.get());
+    }
+
+    @Test
+    public void conflationTest() {
+        Quotes quotes = new Quotes();
+        SubscriptionDeliveryMetrics metrics = new SubscriptionDeliveryMetrics();
+        GraphQL exe = GraphQL.newGraphQL(new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(quotes)
+                .withSubscriptionDeliveryMetrics(metrics)
+                .generate())
+                .build();
+
+        TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>(0);
+        exe.execute("subscription { latestQuotes { symbol price } }").<Publisher<ExecutionResult>>getData().subscribe(subscriber);
+        quotes.processor.onNext(new Quote("ABC", 1));
+        quotes.processor.onNext(new Quote("XYZ", 2));
+        quotes.processor.onNext(new Quote("ABC", 3));
+        subscriber.assertValueCount(0);
+        subscriber.request(2);
+        subscriber.assertValueCount(2);
+        assertEquals(3.0, ((Map<?, ?>) subscriber.values().get(0).<Map<String, Object>>getData().get("latestQuotes")).get("price"));
+        assertEquals(1, metrics.getConflated("Subscription", "latestQuotes"));
+    }
+
+    @Test
+    public void batchingTest() {
+        Quotes quotes = new Quotes();
+        GraphQLSchema schema = new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(quotes)
+                .generate();
+        assertTrue(schema.getSubscriptionType().getFieldDefinition("quoteBatches").getType() instanceof GraphQLList);
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+
+        TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>();
+        exe.execute("subscription { quoteBatches { symbol } }").<Publisher<ExecutionResult>>getData().subscribe(subscriber);
+        for (int i = 0; i < 5; i++) {
+            quotes.processor.onNext(new Quote("Q" + i, i));
+        }
+        subscriber.assertValueCount(2);
+        assertEquals(2, subscriber.values().get(0).<Map<String, List<?>>>getData().get("quoteBatches").size());
+        quotes.processor.onComplete();
+        subscriber.assertValueCount(3);
+        subscriber.assertComplete();
+    }
+
+    @Test
+    public void dropOldestTest() {
+        Quotes quotes = new Quotes();
+        SubscriptionDeliveryMetrics metrics = new SubscriptionDeliveryMetrics();
+        GraphQL exe = GraphQL.newGraphQL(new GraphQLSchemaGenerator()
+                .withOperationsFromSingleton(quotes)
+                .withSubscriptionDeliveryMetrics(metrics)
+                .generate())
+                .build();
+
+        TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>(0);
+        exe.execute("subscription { recentQuotes { price } }").<Publisher<ExecutionResult>>getData().subscribe(subscriber);
+        for (int i = 0; i < 5; i++) {
+            quotes.processor.onNext(new Quote("ABC", i));
+        }
+        subscriber.request(5);
+        subscriber.assertValueCount(2);
+        assertEquals(3.0, ((Map<?, ?>) subscriber.values().get(0).<Map<String, Object>>getData().get("recentQuotes")).get("price"));
+        assertEquals(3, metrics.getDropped("Subscription", "recentQuotes"));
+    }
+
+    @Test
+    public void windowedBatchingTest() throws InterruptedException {
+        Quotes quotes = new Quotes();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            GraphQLSchemaGenerator generator = new GraphQLSchemaGenerator()
+                    .withOperationsFromSingleton(quotes)
+                    .withSubscriptionDeliveryScheduler(scheduler);
+            GraphQL exe = GraphQL.newGraphQL(generator.generate()).build();
+
+            TestSubscriber<ExecutionResult> subscriber = new TestSubscriber<>();
+            exe.execute("subscription { windowedQuoteBatches { symbol } }").<Publisher<ExecutionResult>>getData().subscribe(subscriber);
+            quotes.processor.onNext(new Quote("ABC", 1));
+            quotes.processor.onNext(new Quote("XYZ", 2));
+            subscriber.assertValueCount(0);
+            subscriber.awaitCount(1);
+            subscriber.assertValueCount(1);
+            assertEquals(2, subscriber.values().get(0).<Map<String, List<?>>>getData().get("windowedQuoteBatches").size());
+            assertEquals(0, generator.getSubscriptionDeliveryMetrics().getDropped("Subscription", "windowedQuoteBatches"));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public static class Quotes {
+
+        private final PublishProcessor<Quote> processor = PublishProcessor.create();
+
+        @GraphQLSubscription
+        @GraphQLSubscriptionDelivery(value = GraphQLSubscriptionDelivery.Policy.CONFLATE, conflationKey = "symbol")
+        public Publisher<Quote> latestQuotes() {
+            return processor;
+        }
+
+        @GraphQLSubscription
+        @GraphQLSubscriptionDelivery(value = GraphQLSubscriptionDelivery.Policy.BATCH, batchSize = 2)
+        public Publisher<Quote> quoteBatches() {
+            return processor;
+        }
+
+        @GraphQLSubscription
+        @GraphQLSubscriptionDelivery(value = GraphQLSubscriptionDelivery.Policy.BATCH, batchSize = 100, batchWindowMillis = 50)
+        public Publisher<Quote> windowedQuoteBatches() {
+            return processor;
+        }
+
+        @GraphQLSubscription
+        @GraphQLSubscriptionDelivery(value = GraphQLSubscriptionDelivery.Policy.DROP_OLDEST, bufferSize = 2)
+        public Publisher<Quote> recentQuotes() {
+            return processor;
+        }
+    }
+
+    public static class Quote {
+
+        private final String symbol;
+        private final double price;
+
+        Quote(String symbol, double price) {
+            this.symbol = symbol;
+            this.price = price;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+    }
+
+    public static class Feed {
+
+        private final PublishProcessor<String> processor = PublishProcessor.create();
+        private final AtomicInteger upstreams = new AtomicInteger();
+        private final AtomicInteger cancellations = new AtomicInteger();
+
+        @GraphQLSubscription
+        public Publisher<String> messages(String topic) {
+            return processor
+                    .doOnSubscribe(s -> upstreams.incrementAndGet())
+                    .doOnCancel(cancellations::incrementAndGet);
+        }
+    }
+
     public static class Ticker {
 
         @GraphQLSubscription
@@ -1,5 +1,7 @@
 package io.leangen.graphql;
 
+import graphql.ExecutionResult;
+import graphql.GraphQL;
 import graphql.language.IntValue;
 import graphql.language.StringValue;
 import graphql.schema.Coercing;
@@ -9,22 +11,34 @@ import graphql.schema.GraphQLSchema;
 import io.leangen.geantyref.TypeFactory;
 import io.leangen.graphql.annotations.GraphQLArgument;
 import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.generator.mapping.common.EpochMillisScalarMapper;
+import io.leangen.graphql.util.Iso8601;
 import io.leangen.graphql.util.Scalars;
+import org.junit.Assume;
 import org.junit.Test;
 
 import java.math.BigInteger;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
+import static io.leangen.graphql.support.QueryResultAssertions.assertNoErrors;
+import static io.leangen.graphql.support.QueryResultAssertions.assertValueAtPathEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -104,6 +118,140 @@ public class TemporalScalarsTest {
         testTemporal(OffsetDateTime.class, "2017-06-24T23:15:44.510Z", "2017-06-24T22:15:44.510-01:00", 1498346144510L);
     }
 
+    @Test
+    public void testFastPathsMatchJavaTime() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            //Mostly in the common range, sometimes well outside of it
+            long seconds = i % 10 == 0 ? random.nextLong() % 400_000_000_000_000L : random.nextLong() % 300_000_000_000L;
+            int nanos = new int[] {0, random.nextInt(1000) * 1_000_000, random.nextInt(1_000_000) * 1000, random.nextInt(1_000_000_000)}[i % 4];
+            ZoneOffset offset = i % 3 == 0 ? ZoneOffset.UTC : ZoneOffset.ofTotalSeconds((random.nextInt(36 * 4) - 18 * 4) * 900);
+            Instant instant = Instant.ofEpochSecond(seconds, nanos);
+            OffsetDateTime offsetDateTime = instant.atOffset(offset);
+            LocalDateTime localDateTime = offsetDateTime.toLocalDateTime();
+            long millis = seconds % 100_000_000_000_000L * 1000 + nanos / 1_000_000;
+
+            assertFormatsAndParses(instant.toString(), Iso8601.format(instant), Instant::parse, Iso8601::parseInstant);
+            assertEquals(Instant.ofEpochMilli(millis).toString(), Iso8601.formatEpochMilli(millis));
+            assertFormatsAndParses(localDateTime.toString(), Iso8601.format(localDateTime), LocalDateTime::parse, Iso8601::parseLocalDateTime);
+            assertFormatsAndParses(localDateTime.toLocalDate().toString(), Iso8601.format(localDateTime.toLocalDate()), LocalDate::parse, Iso8601::parseLocalDate);
+            assertFormatsAndParses(localDateTime.toLocalTime().toString(), Iso8601.format(localDateTime.toLocalTime()), LocalTime::parse, Iso8601::parseLocalTime);
+            assertFormatsAndParses(offsetDateTime.toString(), Iso8601.format(offsetDateTime), OffsetDateTime::parse, Iso8601::parseOffsetDateTime);
+            assertFormatsAndParses(offsetDateTime.toOffsetTime().toString(), Iso8601.format(offsetDateTime.toOffsetTime()), OffsetTime::parse, Iso8601::parseOffsetTime);
+            assertFormatsAndParses(offsetDateTime.toZonedDateTime().toString(), Iso8601.format(offsetDateTime.toZonedDateTime()), ZonedDateTime::parse, Iso8601::parseZonedDateTime);
+        }
+        ZonedDateTime regional = ZonedDateTime.of(2017, 6, 24, 23, 15, 44, 0, ZoneId.of("Europe/Paris"));
+        assertFormatsAndParses(regional.toString(), Iso8601.format(regional), ZonedDateTime::parse, Iso8601::parseZonedDateTime);
+    }
+
+    @Test
+    public void testUnusualShapes() {
+        for (String text : new String[] {"2017-06-24T23:15:44.5Z", "2017-06-24T23:59:60Z", "2017-06-24T24:00:00Z", "2017-02-30T10:00:00Z",
+                "2017-06-24t23:15:44Z", "2017-06-24T23:15Z", "+12017-06-24T23:15:44Z", "2017-06-24T23:15:44.Z", "2017-06-24T23:15:44.1234567890Z"}) {
+            assertSameOutcome(text, Instant::parse, Iso8601::parseInstant);
+        }
+        for (String text : new String[] {"2017-06-24T23:15", "2017-06-24T23:15:44.123456", "2017-06-24 23:15:44", "2017-13-24T23:15", "2017-06-24T23:1"}) {
+            assertSameOutcome(text, LocalDateTime::parse, Iso8601::parseLocalDateTime);
+        }
+        for (String text : new String[] {"2017-06-24T23:15+01:00", "2017-06-24T23:15:44-00:00", "2017-06-24T23:15:44+19:00",
+                "2017-06-24T23:15:44+01:00:30", "2017-06-24T23:15:44+0100", "2017-06-24T23:15:44z"}) {
+            assertSameOutcome(text, OffsetDateTime::parse, Iso8601::parseOffsetDateTime);
+            assertSameOutcome(text, ZonedDateTime::parse, Iso8601::parseZonedDateTime);
+        }
+        for (String text : new String[] {"2017-6-24", "2017-06-24Z", "02017-06-24"}) {
+            assertSameOutcome(text, LocalDate::parse, Iso8601::parseLocalDate);
+        }
+        for (String text : new String[] {"23", "23:15:4", "23:15:44.", "24:00"}) {
+            assertSameOutcome(text, LocalTime::parse, Iso8601::parseLocalTime);
+        }
+    }
+
+    @Test
+    public void testEpochMillis() {
+        Coercing coercing = Scalars.GraphQLInstantEpochMillis.getCoercing();
+        Instant instant = Instant.parse("2017-06-24T23:22:34.120Z");
+        assertEquals(1498346554120L, coercing.serialize(instant));
+        assertEquals(instant, coercing.parseValue(1498346554120L));
+        assertEquals(instant, coercing.parseLiteral(new IntValue(BigInteger.valueOf(1498346554120L))));
+        assertEquals(1498346554120L, Scalars.GraphQLLocalDateTimeEpochMillis.getCoercing()
+                .serialize(LocalDateTime.parse("2017-06-24T23:22:34.120")));
+        assertEquals(OffsetDateTime.parse("2017-06-24T23:22:34.120Z"), Scalars.GraphQLOffsetDateTimeEpochMillis.getCoercing()
+                .parseValue(1498346554120L));
+
+        GraphQLSchema schema = new TestSchemaGenerator()
+                .withOperationsFromSingleton(new ScalarService<Date>(), TypeFactory.parameterizedClass(ScalarService.class, Date.class))
+                .withTypeMappers(new EpochMillisScalarMapper())
+                .generate();
+        GraphQLFieldDefinition query = schema.getQueryType().getFieldDefinition("identity");
+        assertEquals(Scalars.GraphQLDateEpochMillis, query.getType());
+        GraphQL exe = GraphQL.newGraphQL(schema).build();
+        ExecutionResult result = exe.execute("{identity(input: 1498346554120)}");
+        assertNoErrors(result);
+        assertValueAtPathEquals(1498346554120L, result, "identity");
+    }
+
+    /**
+     * Compares the fast paths against the {@code java.time} formatters. Only run when the {@code benchmark}
+     * system property is set, e.g. {@code mvn test -Dtest=TemporalScalarsTest -Dbenchmark}.
+     */
+    @Test
+    public void benchmark() {
+        Assume.assumeNotNull(System.getProperty("benchmark"));
+        int count = 1_000_000;
+        Instant[] instants = new Instant[count];
+        String[] strings = new String[count];
+        long start = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < count; i++) {
+            instants[i] = Instant.ofEpochMilli(start + i * 1_337L);
+            strings[i] = instants[i].toString();
+        }
+        OffsetDateTime[] dateTimes = Arrays.stream(instants).map(i -> i.atOffset(ZoneOffset.ofHours(2))).toArray(OffsetDateTime[]::new);
+        String[] dateTimeStrings = Arrays.stream(dateTimes).map(OffsetDateTime::toString).toArray(String[]::new);
+        for (int round = 0; round < 5; round++) {
+            System.out.println("Round " + round);
+            time("Instant format (java.time)", count, i -> instants[i].toString());
+            time("Instant format (fast)", count, i -> Iso8601.format(instants[i]));
+            time("Instant parse (java.time)", count, i -> Instant.parse(strings[i]));
+            time("Instant parse (fast)", count, i -> Iso8601.parseInstant(strings[i]));
+            time("OffsetDateTime format (java.time)", count, i -> dateTimes[i].toString());
+            time("OffsetDateTime format (fast)", count, i -> Iso8601.format(dateTimes[i]));
+            time("OffsetDateTime parse (java.time)", count, i -> OffsetDateTime.parse(dateTimeStrings[i]));
+            time("OffsetDateTime parse (fast)", count, i -> Iso8601.parseOffsetDateTime(dateTimeStrings[i]));
+            time("Instant epoch millis", count, i -> Scalars.GraphQLInstantEpochMillis.getCoercing().serialize(instants[i]));
+        }
+    }
+
+    private static void time(String label, int count, IntFunction<Object> operation) {
+        long start = System.nanoTime();
+        int hash = 0;
+        for (int i = 0; i < count; i++) {
+            hash += operation.apply(i).hashCode();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("  %-36s %6.1f ns/op (%d)%n", label, (double) nanos / count, hash & 1);
+    }
+
+    private static <T> void assertFormatsAndParses(String expected, String actual, Function<String, T> reference, Function<String, T> fast) {
+        assertEquals(expected, actual);
+        assertEquals(reference.apply(expected), fast.apply(expected));
+    }
+
+    private static <T> void assertSameOutcome(String text, Function<String, T> reference, Function<String, T> fast) {
+        Object expected;
+        try {
+            expected = reference.apply(text);
+        } catch (DateTimeException e) {
+            expected = DateTimeException.class;
+        }
+        Object actual;
+        try {
+            actual = fast.apply(text);
+        } catch (DateTimeException e) {
+            actual = DateTimeException.class;
+        }
+        assertEquals(text, expected, actual);
+    }
+
     private void testTemporal(Class type, String expected, long literal) {
         testTemporal(type, expected, expected, literal);
     }
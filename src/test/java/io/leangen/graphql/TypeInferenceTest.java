@@ -12,17 +12,22 @@ import org.junit.Test;
 import javax.annotation.Nonnull;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class TypeInferenceTest {
@@ -227,6 +232,31 @@ public class TypeInferenceTest {
         assertTrue(GenericTypeReflector.equals(expected, inferred));
     }
     
+    @Test
+    public void testMemoizedMemberTypes() throws NoSuchMethodException, NoSuchFieldException {
+        Method getter = Box.class.getMethod("getItem");
+        Field field = Box.class.getField("items");
+        AnnotatedType stringBox = new TypeToken<Box<String>>(){}.getAnnotatedType();
+        AnnotatedType numberBox = new TypeToken<Box<Number>>(){}.getAnnotatedType();
+
+        assertEquals(String.class, ClassUtils.getReturnType(getter, stringBox).getType());
+        assertEquals(Number.class, ClassUtils.getReturnType(getter, numberBox).getType());
+        assertEquals(new TypeToken<List<Number>>(){}.getType(), ClassUtils.getFieldType(field, numberBox).getType());
+        //Structurally equal declaring types share the resolved type
+        assertSame(ClassUtils.getReturnType(getter, stringBox), ClassUtils.getReturnType(getter, new TypeToken<Box<String>>(){}.getAnnotatedType()));
+        assertSame(ClassUtils.getProperties(Box.class), ClassUtils.getProperties(Box.class));
+        assertEquals(Optional.of(getter), ClassUtils.findGetter(Box.class, "item"));
+    }
+
+    public static class Box<T> {
+        private T item;
+        public List<T> items;
+
+        public T getItem() {
+            return item;
+        }
+    }
+
     private interface I {}
     private interface II {}
     private interface I1 extends I {}
@@ -0,0 +1,127 @@
+package io.leangen.graphql;
+
+import io.leangen.geantyref.TypeToken;
+import io.leangen.graphql.annotations.GraphQLId;
+import io.leangen.graphql.annotations.GraphQLNonNull;
+import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.annotations.GraphQLScalar;
+import io.leangen.graphql.domain.Education;
+import io.leangen.graphql.domain.User;
+import io.leangen.graphql.generator.mapping.TypeMapper;
+import io.leangen.graphql.generator.mapping.TypeMapperRegistry;
+import io.leangen.graphql.generator.mapping.common.ScalarMapper;
+import io.leangen.graphql.services.UserService;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.assertSame;
+
+public class TypeMapperRegistryTest {
+
+    @Test
+    public void dispatchMatchesLinearScanTest() {
+        List<TypeMapper> mappers = defaultMappers();
+        TypeMapperRegistry registry = new TypeMapperRegistry(mappers);
+        Set<Class<? extends TypeMapper>> skipScalars = Collections.singleton(ScalarMapper.class);
+        for (int round = 0; round < 2; round++) {
+            for (Method method : Domain.class.getDeclaredMethods()) {
+                //A fresh AnnotatedType instance each time, as reflection produces
+                AnnotatedType type = method.getAnnotatedReturnType();
+                assertSame(scan(mappers, method, type, Collections.emptySet()), registry.getTypeMapper(method, type, Collections.emptySet()));
+                assertSame(scan(mappers, method, type, skipScalars), registry.getTypeMapper(method, type, skipScalars));
+            }
+        }
+    }
+
+    /**
+     * Compares the cached dispatch against the linear scan over all the default mappers it replaces,
+     * both for repeated lookups of the same {@code AnnotatedType} instance and for structurally equal fresh instances.
+     * Only run when the {@code benchmark} system property is set,
+     * e.g. {@code mvn test -Dtest=TypeMapperRegistryTest -Dbenchmark}.
+     */
+    @Test
+    public void benchmark() {
+        Assume.assumeNotNull(System.getProperty("benchmark"));
+        List<TypeMapper> mappers = defaultMappers();
+        Method[] methods = Domain.class.getDeclaredMethods();
+        int count = 1_000_000;
+        Method[] elements = new Method[count];
+        AnnotatedType[] fresh = new AnnotatedType[count];
+        AnnotatedType[] shared = new AnnotatedType[count];
+        AnnotatedType[] sharedTypes = Arrays.stream(methods).map(Method::getAnnotatedReturnType).toArray(AnnotatedType[]::new);
+        for (int i = 0; i < count; i++) {
+            elements[i] = methods[i % methods.length];
+            fresh[i] = elements[i].getAnnotatedReturnType();
+            shared[i] = sharedTypes[i % methods.length];
+        }
+        Set<Class<? extends TypeMapper>> none = Collections.emptySet();
+        for (int round = 0; round < 5; round++) {
+            System.out.println("Round " + round);
+            TypeMapperRegistry registry = new TypeMapperRegistry(mappers);
+            time("Linear scan (same instances)", count, i -> scan(mappers, elements[i], shared[i], none));
+            time("Registry (same instances)", count, i -> registry.getTypeMapper(elements[i], shared[i], none));
+            time("Linear scan (fresh instances)", count, i -> scan(mappers, elements[i], fresh[i], none));
+            time("Registry (fresh instances)", count, i -> registry.getTypeMapper(elements[i], fresh[i], none));
+        }
+    }
+
+    private static TypeMapper scan(List<TypeMapper> mappers, Method element, AnnotatedType type, Set<Class<? extends TypeMapper>> mappersToSkip) {
+        return mappers.stream()
+                .filter(mapper -> !mappersToSkip.contains(mapper.getClass()))
+                .filter(mapper -> mapper.supports(element, type))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static List<TypeMapper> defaultMappers() {
+        List<TypeMapper> mappers = new ArrayList<>();
+        new TestSchemaGenerator()
+                .withTypeMappers((config, defaults) -> {
+                    mappers.addAll(defaults);
+                    return defaults;
+                })
+                .withOperationsFromSingleton(new UserService<Education>(), new TypeToken<UserService<Education>>(){}.getAnnotatedType())
+                .generate();
+        return mappers;
+    }
+
+    private static void time(String label, int count, IntFunction<Object> operation) {
+        long start = System.nanoTime();
+        int hash = 0;
+        for (int i = 0; i < count; i++) {
+            hash += operation.apply(i).hashCode();
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.printf("  %-36s %6.1f ns/op (%d)%n", label, (double) nanos / count, hash & 1);
+    }
+
+    @SuppressWarnings("unused")
+    private interface Domain {
+        @GraphQLQuery String string();
+        @GraphQLQuery @GraphQLNonNull Integer integer();
+        @GraphQLQuery int primitive();
+        @GraphQLQuery @GraphQLId String id();
+        @GraphQLQuery Date date();
+        @GraphQLQuery UUID uuid();
+        @GraphQLQuery List<String> strings();
+        @GraphQLQuery List<@GraphQLNonNull User<String>> users();
+        @GraphQLQuery Map<String, Integer> map();
+        @GraphQLQuery Optional<Long> optional();
+        @GraphQLQuery Education education();
+        @GraphQLQuery @GraphQLScalar Education scalarEducation();
+        @GraphQLQuery Object object();
+    }
+}